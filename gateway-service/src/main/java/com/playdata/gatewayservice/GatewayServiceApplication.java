@@ -1,9 +1,12 @@
 package com.playdata.gatewayservice;
 
+import com.playdata.gatewayservice.bus.ProductChangedRemoteEvent;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.cloud.bus.jackson.RemoteApplicationEventScan;
 
 @SpringBootApplication
+@RemoteApplicationEventScan(basePackageClasses = ProductChangedRemoteEvent.class) // 버스 커스텀 이벤트 등록
 public class GatewayServiceApplication {
 
 	public static void main(String[] args) {
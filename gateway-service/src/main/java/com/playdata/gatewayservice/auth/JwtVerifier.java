@@ -0,0 +1,121 @@
+package com.playdata.gatewayservice.auth;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.io.Decoders;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Date;
+
+// JWT 검증 + 검증 결과 캐시
+// - 서명 키와 파서는 시작할 때 한 번만 만든다. (JwtParser 는 스레드 안전)
+// - 같은 토큰이 다시 오면 서명 검증 없이 캐시된 결과를 사용한다.
+//   캐시 키는 토큰 원문이 아닌 SHA-256 해시, 항목은 토큰의 exp 시각에 만료된다.
+@Component
+@Slf4j
+public class JwtVerifier {
+
+    private final JwtParser jwtParser;
+    private final Cache<String, VerifiedToken> claimsCache;
+    private final long maxCacheTtlNanos;
+
+    public JwtVerifier(@Value("${jwt.secretKey}") String secretKey,
+                       @Value("${jwt.claims-cache.max-size:50000}") long maxSize,
+                       @Value("${jwt.claims-cache.max-ttl-seconds:600}") long maxTtlSeconds,
+                       MeterRegistry meterRegistry) {
+        // user-service 가 signWith(HS256, secretKey) 로 서명하므로 같은 방식으로 키를 만든다.
+        SecretKeySpec key = new SecretKeySpec(Decoders.BASE64.decode(secretKey),
+                SignatureAlgorithm.HS256.getJcaName());
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build();
+        this.maxCacheTtlNanos = Duration.ofSeconds(maxTtlSeconds).toNanos();
+        this.claimsCache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new Expiry<String, VerifiedToken>() {
+                    @Override
+                    public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+                        return ttlNanos(value);
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, VerifiedToken value, long currentTime,
+                                                  long currentDuration) {
+                        return ttlNanos(value);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, VerifiedToken value, long currentTime,
+                                                long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, claimsCache, "jwtClaims");
+    }
+
+    // 검증된 토큰 정보
+    public record VerifiedToken(String email, String role, long expiresAtMillis) {
+    }
+
+    // 유효하지 않은 토큰이면 null
+    public VerifiedToken verify(String token) {
+        String digest = digest(token);
+        VerifiedToken cached = claimsCache.getIfPresent(digest);
+        if (cached != null && cached.expiresAtMillis() > System.currentTimeMillis()) {
+            return cached;
+        }
+
+        VerifiedToken verified = parse(token);
+        // 만료 시간이 없는 토큰은 캐시하지 않는다.
+        if (verified != null && verified.expiresAtMillis() != Long.MAX_VALUE) {
+            claimsCache.put(digest, verified);
+        }
+        return verified;
+    }
+
+    private VerifiedToken parse(String token) {
+        try {
+            Claims claims = jwtParser.parseClaimsJws(token).getBody();
+            Date expiration = claims.getExpiration();
+            return new VerifiedToken(claims.getSubject(),
+                    claims.get("role", String.class),
+                    expiration == null ? Long.MAX_VALUE : expiration.getTime());
+        } catch (Exception e) {
+            log.error("JWT validation failed: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    // 토큰 만료 시각까지만 보관 (최대 max-ttl-seconds)
+    private long ttlNanos(VerifiedToken token) {
+        long remaining = Duration.ofMillis(token.expiresAtMillis() - System.currentTimeMillis()).toNanos();
+        return Math.max(0, Math.min(remaining, maxCacheTtlNanos));
+    }
+
+    private static String digest(String token) {
+        try {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            return Base64.getEncoder().encodeToString(sha256.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,219 @@
+package com.playdata.gatewayservice.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.playdata.gatewayservice.bus.ProductChangedRemoteEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.net.URI;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 게이트웨이 응답 캐시 저장소 (공개 상품/리뷰 조회 GET 응답)
+// - 크기 제한은 항목 수가 아니라 응답 바이트 합계 기준
+// - 항목은 fresh 기간 동안 그대로 쓰고, stale 기간에는 응답은 바로 주면서 백그라운드에서 다시 받아온다. (stale-while-revalidate)
+// - product-service 가 버스로 상품 변경을 알리면 상품 목록 전체와 바뀐 상품의 상세 응답을 지운다.
+// - 무효화마다 세대 번호를 올리고, 요청 시작 후 세대가 바뀌었으면 그 응답은 저장하지 않는다. (지운 뒤 옛 응답이 다시 들어오는 것 방지)
+@Component
+@Slf4j
+public class ResponseCache {
+
+    // 캐시에 같이 저장하는 응답 헤더 (CORS 등은 게이트웨이가 요청마다 붙임)
+    private static final List<String> STORED_HEADERS
+            = List.of(HttpHeaders.CONTENT_TYPE, HttpHeaders.CONTENT_LANGUAGE, HttpHeaders.CONTENT_ENCODING);
+
+    private final Cache<CacheKey, CachedResponse> cache;
+    private final Set<CacheKey> revalidating = ConcurrentHashMap.newKeySet();
+    private final AtomicLong generation = new AtomicLong();
+    private final WebClient webClient;
+    private final Duration revalidateTimeout;
+    private final int maxEntryBytes;
+
+    private final Counter staleCounter;
+    private final Counter notModifiedCounter;
+    private final Counter invalidationCounter;
+
+    public ResponseCache(MeterRegistry meterRegistry,
+                         @Value("${response-cache.max-bytes:67108864}") long maxBytes,
+                         @Value("${response-cache.max-entry-bytes:1048576}") int maxEntryBytes,
+                         @Value("${response-cache.revalidate-timeout-ms:5000}") long revalidateTimeoutMs) {
+        this.maxEntryBytes = maxEntryBytes;
+        this.revalidateTimeout = Duration.ofMillis(revalidateTimeoutMs);
+        this.webClient = WebClient.builder()
+                .codecs(codecs -> codecs.defaultCodecs().maxInMemorySize(maxEntryBytes))
+                .build();
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((CacheKey key, CachedResponse value) -> value.weight())
+                .expireAfter(new Expiry<CacheKey, CachedResponse>() {
+                    @Override
+                    public long expireAfterCreate(CacheKey key, CachedResponse value, long currentTime) {
+                        return Duration.ofMillis(Math.max(0, value.staleUntilMillis() - System.currentTimeMillis())).toNanos();
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(CacheKey key, CachedResponse value, long currentTime,
+                                                  long currentDuration) {
+                        return expireAfterCreate(key, value, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(CacheKey key, CachedResponse value, long currentTime,
+                                                long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+
+        // cache.gets{result=hit|miss}, cache.evictions 등 (name=gatewayResponse)
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "gatewayResponse");
+        Gauge.builder("gateway.response.cache.hit.ratio", cache, c -> c.stats().hitRate())
+                .description("응답 캐시 적중률")
+                .register(meterRegistry);
+        Gauge.builder("gateway.response.cache.bytes", cache,
+                        c -> c.policy().eviction().map(e -> e.weightedSize().orElse(0L)).orElse(0L))
+                .description("캐시된 응답 크기 합계 (bytes)")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        this.staleCounter = Counter.builder("gateway.response.cache.stale")
+                .description("만료된 응답을 주면서 백그라운드 갱신한 횟수")
+                .register(meterRegistry);
+        this.notModifiedCounter = Counter.builder("gateway.response.cache.not_modified")
+                .description("If-None-Match 가 일치해서 304 로 응답한 횟수")
+                .register(meterRegistry);
+        this.invalidationCounter = Counter.builder("gateway.response.cache.invalidations")
+                .description("상품 변경 이벤트로 지운 응답 수")
+                .register(meterRegistry);
+    }
+
+    // 캐시 키: 라우트 + 경로 + 이름순으로 정렬한 쿼리 파라미터
+    public record CacheKey(String routeId, String path, String query) {
+    }
+
+    public record CachedResponse(int status, HttpHeaders headers, byte[] body, String etag,
+                                 long freshUntilMillis, long staleUntilMillis) {
+
+        public boolean isFresh() {
+            return System.currentTimeMillis() < freshUntilMillis;
+        }
+
+        int weight() {
+            return body.length + 256; // 헤더/객체 오버헤드 대략치
+        }
+    }
+
+    public CachedResponse get(CacheKey key) {
+        return cache.getIfPresent(key);
+    }
+
+    // 백엔드 요청을 보내기 전에 읽어 두었다가 put 에 넘긴다.
+    public long generation() {
+        return generation.get();
+    }
+
+    // 200 응답만 저장. 저장하지 않으면 null
+    // requestGeneration: 백엔드 요청 시작 시점의 generation(). 그 사이 무효화가 있었으면 저장하지 않는다.
+    public CachedResponse put(CacheKey key, long requestGeneration, int status, HttpHeaders responseHeaders,
+                              byte[] body, Duration ttl, Duration staleWhileRevalidate) {
+        if (status != 200 || body.length > maxEntryBytes || responseHeaders.containsKey(HttpHeaders.SET_COOKIE)
+                || generation.get() != requestGeneration) {
+            return null;
+        }
+        HttpHeaders stored = new HttpHeaders();
+        STORED_HEADERS.forEach(name -> {
+            List<String> values = responseHeaders.get(name);
+            if (values != null) stored.put(name, values);
+        });
+
+        long now = System.currentTimeMillis();
+        CachedResponse entry = new CachedResponse(status, HttpHeaders.readOnlyHttpHeaders(stored), body, etag(body),
+                now + ttl.toMillis(), now + ttl.toMillis() + staleWhileRevalidate.toMillis());
+        cache.put(key, entry);
+        // 확인과 저장 사이에 무효화가 끼어들었으면 방금 넣은 항목을 되돌린다.
+        if (generation.get() != requestGeneration) {
+            cache.asMap().remove(key, entry);
+            return null;
+        }
+        return entry;
+    }
+
+    // stale 응답을 준 뒤 백그라운드에서 한 번만 다시 받아온다. (같은 키 동시 갱신 방지)
+    public void revalidate(CacheKey key, URI backendUri, Duration ttl, Duration staleWhileRevalidate) {
+        staleCounter.increment();
+        if (!revalidating.add(key)) return;
+
+        long requestGeneration = generation.get();
+        webClient.get()
+                .uri(backendUri)
+                .retrieve()
+                .toEntity(byte[].class)
+                .timeout(revalidateTimeout)
+                .doFinally(signal -> revalidating.remove(key))
+                .subscribe(
+                        response -> put(key, requestGeneration, response.getStatusCode().value(), response.getHeaders(),
+                                response.getBody() == null ? new byte[0] : response.getBody(),
+                                ttl, staleWhileRevalidate),
+                        e -> log.warn("response cache revalidate failed {}: {}", backendUri, e.getMessage()));
+    }
+
+    public void recordNotModified() {
+        notModifiedCounter.increment();
+    }
+
+    // 상품 목록은 어떤 상품이 바뀌어도 내용이 달라질 수 있으므로 전부 지우고, 상세는 바뀐 상품만 지운다.
+    @EventListener
+    public void onProductChanged(ProductChangedRemoteEvent event) {
+        List<Long> productIds = event.getProductIds();
+        Set<String> detailPaths = new HashSet<>();
+        if (productIds != null) {
+            productIds.forEach(id -> detailPaths.add("/product/detail/" + id));
+        }
+
+        // 지우기 전에 올려야 진행 중인 요청이 지운 뒤에 옛 응답을 넣지 못한다.
+        generation.incrementAndGet();
+        int before = cache.asMap().size();
+        cache.asMap().keySet().removeIf(key -> key.path().startsWith("/product/list")
+                || (productIds == null ? key.path().startsWith("/product/detail/") : detailPaths.contains(key.path())));
+        int removed = Math.max(0, before - cache.asMap().size());
+        invalidationCounter.increment(removed);
+        log.debug("response cache invalidated {} entries for products {}", removed, productIds);
+    }
+
+    public static boolean matches(List<String> ifNoneMatch, String etag) {
+        for (String candidate : ifNoneMatch) {
+            String value = candidate.startsWith("W/") ? candidate.substring(2) : candidate;
+            if ("*".equals(value) || etag.equals(value)) return true;
+        }
+        return false;
+    }
+
+    private static String etag(byte[] body) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(body);
+            return "\"" + Base64.getUrlEncoder().withoutPadding().encodeToString(Arrays.copyOf(hash, 16)) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // 테스트/운영 점검용
+    public long size() {
+        cache.cleanUp();
+        return cache.estimatedSize();
+    }
+}
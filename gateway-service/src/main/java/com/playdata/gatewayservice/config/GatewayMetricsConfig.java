@@ -0,0 +1,16 @@
+package com.playdata.gatewayservice.config;
+
+import org.springframework.cloud.gateway.config.HttpClientCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class GatewayMetricsConfig {
+
+    // 백엔드 호출 reactor-netty 메트릭 (reactor.netty.http.client.connect.time, data.received, response.time 등)
+    // remote.address 태그로 백엔드 서비스가 구분되므로, uri 태그는 하나로 묶어서 경로별 시계열이 늘어나지 않게 한다.
+    @Bean
+    public HttpClientCustomizer httpClientMetricsCustomizer() {
+        return httpClient -> httpClient.metrics(true, uri -> "/");
+    }
+}
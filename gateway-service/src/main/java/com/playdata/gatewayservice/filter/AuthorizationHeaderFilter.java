@@ -1,18 +1,18 @@
 package com.playdata.gatewayservice.filter;
 
-import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.Jwts;
+import com.playdata.gatewayservice.auth.JwtVerifier;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cloud.gateway.filter.GatewayFilter;
 import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
 import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.server.PathContainer;
 import org.springframework.http.server.reactive.ServerHttpRequest;
 import org.springframework.http.server.reactive.ServerHttpResponse;
 import org.springframework.stereotype.Component;
-import org.springframework.util.AntPathMatcher;
 import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
 import reactor.core.publisher.Mono;
 
 import java.nio.charset.StandardCharsets;
@@ -24,30 +24,45 @@ import java.util.List;
 @Slf4j
 public class AuthorizationHeaderFilter extends AbstractGatewayFilterFactory {
 
-    @Value("${jwt.secretKey}")
-    private String secretKey;
+    // 토큰 검증을 통과한 사용자 이메일 (클라이언트가 보낸 X-User-Email 헤더와 구분하기 위해 속성으로 전달)
+    public static final String VERIFIED_EMAIL_ATTR = "verifiedUserEmail";
 
-    private final List<String> allowUrl = Arrays.asList(
+    private static final List<String> allowUrl = Arrays.asList(
             "/user/create", "/user/doLogin", "/user/refresh", "/user/email-valid", "/user/verify", "/user/kakao", "/user/health-check",
-            "/product/list","/product/detail/*",
+            "/product/list","/product/search","/product/detail/*",
             "/review/list/*","/review/detail/*"
     );
 
+    // 요청마다 패턴을 해석하지 않도록 시작할 때 한 번만 컴파일
+    private final List<PathPattern> allowPatterns;
+    private final JwtVerifier jwtVerifier;
+
+    public AuthorizationHeaderFilter(JwtVerifier jwtVerifier) {
+        this.jwtVerifier = jwtVerifier;
+        PathPatternParser parser = new PathPatternParser();
+        this.allowPatterns = allowUrl.stream()
+                .map(parser::parse)
+                .toList();
+    }
+
     @Override
     public GatewayFilter apply(Object config) {
         return (exchange, chain) -> {
-            String path = exchange.getRequest().getURI().getPath();
-            AntPathMatcher antPathMatcher = new AntPathMatcher();
-
-
-            boolean isAllowed
-                    = allowUrl.stream()
-                    .anyMatch(url -> antPathMatcher.match(url, path));
-            log.info("isAllowed: {}", isAllowed);
+            PathContainer pathContainer = exchange.getRequest().getPath().pathWithinApplication();
+            String path = pathContainer.value();
+
+            boolean isAllowed = false;
+            for (PathPattern pattern : allowPatterns) {
+                if (pattern.matches(pathContainer)) {
+                    isAllowed = true;
+                    break;
+                }
+            }
+            log.debug("isAllowed: {}", isAllowed);
 
             if (isAllowed || path.startsWith("/actuator")) {
 
-                log.info("gateway filter 통과!");
+                log.debug("gateway filter 통과!");
                 return chain.filter(exchange);
             }
 
@@ -60,18 +75,19 @@ public class AuthorizationHeaderFilter extends AbstractGatewayFilterFactory {
                 return onError(exchange, "Authorization header is missing or invalid", HttpStatus.UNAUTHORIZED);
             }
 
-            String token = authorizationHeader.replace("Bearer ", "");
+            String token = authorizationHeader.substring("Bearer ".length());
 
-            Claims claims = validateJwt(token);
-            if (claims == null) {
+            JwtVerifier.VerifiedToken verified = jwtVerifier.verify(token);
+            if (verified == null) {
                 return onError(exchange, "Invalid token", HttpStatus.UNAUTHORIZED);
             }
 
             ServerHttpRequest request = exchange.getRequest()
                     .mutate()
-                    .header("X-User-Email", claims.getSubject())
-                    .header("X-User-Role", claims.get("role", String.class))
+                    .header("X-User-Email", verified.email())
+                    .header("X-User-Role", verified.role())
                     .build();
+            exchange.getAttributes().put(VERIFIED_EMAIL_ATTR, verified.email());
             return chain.filter(exchange.mutate().request(request).build());
         };
     }
@@ -87,17 +103,4 @@ public class AuthorizationHeaderFilter extends AbstractGatewayFilterFactory {
         DataBuffer buffer = response.bufferFactory().wrap(bytes);
         return response.writeWith(Mono.just(buffer));
     }
-
-    private Claims validateJwt(String token) {
-        try {
-            return Jwts.parserBuilder()
-                    .setSigningKey(secretKey)
-                    .build()
-                    .parseClaimsJws(token)
-                    .getBody();
-        } catch (Exception e) {
-            log.error("JWT validation failed: {}", e.getMessage());
-            return null;
-        }
-    }
 }
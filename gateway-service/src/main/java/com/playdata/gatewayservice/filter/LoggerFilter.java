@@ -1,59 +0,0 @@
-package com.playdata.gatewayservice.filter;
-
-import lombok.*;
-import lombok.extern.slf4j.Slf4j;
-import org.springframework.cloud.gateway.filter.GatewayFilter;
-import org.springframework.cloud.gateway.filter.OrderedGatewayFilter;
-import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
-import org.springframework.core.Ordered;
-import org.springframework.http.server.reactive.ServerHttpRequest;
-import org.springframework.http.server.reactive.ServerHttpResponse;
-import org.springframework.stereotype.Component;
-import reactor.core.publisher.Mono;
-
-@Component
-@Slf4j
-public class LoggerFilter
-        extends AbstractGatewayFilterFactory<LoggerFilter.Config> {
-
-
-    public LoggerFilter() {
-        super(Config.class);
-    }
-
-    @Override
-    public GatewayFilter apply(Config config) {
-        return new OrderedGatewayFilter((exchange, chain) -> {
-            ServerHttpRequest request = exchange.getRequest();
-            ServerHttpResponse response = exchange.getResponse();
-
-            log.info("Logger Filter active! base Message = {}", config.getBaseMessage());
-            if (config.isPreLogger()) {
-                log.info("Request URI: {}",  request.getURI());
-            }
-
-            return chain.filter(exchange).then(Mono.fromRunnable(() -> {
-                if (config.isPostLogger()) {
-                    log.info("Logger Post Filter active! response code = {}", response.getStatusCode());
-                }
-            }));
-
-        }, Ordered.HIGHEST_PRECEDENCE);
-    }
-
-    @Getter @Setter @ToString
-    @NoArgsConstructor
-    @AllArgsConstructor
-    public static class Config {
-        private String baseMessage;
-        private boolean preLogger;
-        private boolean postLogger;
-    }
-
-
-}
-
-
-
-
-
@@ -0,0 +1,161 @@
+package com.playdata.gatewayservice.filter;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.*;
+import org.reactivestreams.Publisher;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.OrderedGatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.Ordered;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 라우트별 요청 메트릭 + 샘플링 액세스 로그 (default-filters 에 등록, 가장 먼저 실행)
+// - gateway.requests                : 전체 처리 시간 (route, method, status, outcome)
+// - gateway.response.ttfb           : 요청 시작 ~ 응답 첫 바이트까지 시간 (route, 게이트웨이 캐시 응답 포함)
+// - gateway.response.size / gateway.request.size : 본문 크기 (route)
+// 백분위/히스토그램은 management.metrics.distribution.* 설정으로 조정한다.
+// 백엔드 연결 시간은 reactor-netty 클라이언트 메트릭(reactor.netty.http.client.connect.time, GatewayMetricsConfig)으로 수집
+// 액세스 로그는 sampleRate 비율 + 5xx/느린 요청만 남기고, ACCESS_LOG 로거는 logback 비동기 appender 로 쓴다.
+@Component
+public class MetricsFilter extends AbstractGatewayFilterFactory<MetricsFilter.Config> {
+
+    private static final Logger accessLog = LoggerFactory.getLogger("ACCESS_LOG");
+
+    private final MeterRegistry meterRegistry;
+    private final double sampleRate;
+    private final long slowThresholdNanos;
+
+    public MetricsFilter(MeterRegistry meterRegistry,
+                         @Value("${gateway-metrics.access-log.sample-rate:0.01}") double sampleRate,
+                         @Value("${gateway-metrics.access-log.slow-threshold-ms:1000}") long slowThresholdMs) {
+        super(Config.class);
+        this.meterRegistry = meterRegistry;
+        this.sampleRate = sampleRate;
+        this.slowThresholdNanos = TimeUnit.MILLISECONDS.toNanos(slowThresholdMs);
+    }
+
+    @Override
+    public GatewayFilter apply(Config config) {
+        return new OrderedGatewayFilter((exchange, chain) -> {
+            long start = System.nanoTime();
+            String routeId = routeId(exchange);
+            MeasuringResponse response = new MeasuringResponse(exchange.getResponse(), routeId, start);
+
+            long requestSize = exchange.getRequest().getHeaders().getContentLength();
+            if (requestSize > 0) {
+                summary("gateway.request.size", routeId).record(requestSize);
+            }
+
+            return chain.filter(exchange.mutate().response(response).build())
+                    .doFinally(signal -> record(exchange, routeId, response, signal, System.nanoTime() - start));
+        }, Ordered.HIGHEST_PRECEDENCE);
+    }
+
+    private void record(ServerWebExchange exchange, String routeId, MeasuringResponse response,
+                        SignalType signal, long elapsedNanos) {
+        HttpStatusCode statusCode = response.getStatusCode();
+        int status = statusCode == null ? 200 : statusCode.value();
+        String outcome = signal == SignalType.CANCEL ? "CANCELLED" : outcome(status);
+        ServerHttpRequest request = exchange.getRequest();
+
+        Timer.builder("gateway.requests")
+                .tag("route", routeId)
+                .tag("method", request.getMethod().name())
+                .tag("status", String.valueOf(status))
+                .tag("outcome", outcome)
+                .description("게이트웨이 요청 처리 시간")
+                .register(meterRegistry)
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+        summary("gateway.response.size", routeId).record(response.bodyBytes.get());
+
+        if (status >= 500 || elapsedNanos >= slowThresholdNanos
+                || ThreadLocalRandom.current().nextDouble() < sampleRate) {
+            accessLog.info("{} {} {} route={} status={} {}ms bytes={} ttfb={}ms",
+                    request.getId(), request.getMethod(), request.getURI().getRawPath(), routeId, status,
+                    TimeUnit.NANOSECONDS.toMillis(elapsedNanos), response.bodyBytes.get(),
+                    response.ttfbNanos < 0 ? -1 : TimeUnit.NANOSECONDS.toMillis(response.ttfbNanos));
+        }
+    }
+
+    private DistributionSummary summary(String name, String routeId) {
+        return DistributionSummary.builder(name)
+                .tag("route", routeId)
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    private static String routeId(ServerWebExchange exchange) {
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        return route == null ? "none" : route.getId();
+    }
+
+    private static String outcome(int status) {
+        if (status >= 500) return "SERVER_ERROR";
+        if (status >= 400) return "CLIENT_ERROR";
+        if (status >= 300) return "REDIRECTION";
+        if (status >= 200) return "SUCCESS";
+        return "INFORMATIONAL";
+    }
+
+    // 첫 바이트 시간과 본문 크기를 재는 응답 래퍼
+    private class MeasuringResponse extends ServerHttpResponseDecorator {
+        private final String routeId;
+        private final long start;
+        private final AtomicLong bodyBytes = new AtomicLong();
+        private volatile long ttfbNanos = -1;
+
+        MeasuringResponse(ServerHttpResponse delegate, String routeId, long start) {
+            super(delegate);
+            this.routeId = routeId;
+            this.start = start;
+        }
+
+        @Override
+        public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+            return super.writeWith(Flux.from(body).doOnNext(this::onBuffer));
+        }
+
+        @Override
+        public Mono<Void> writeAndFlushWith(Publisher<? extends Publisher<? extends DataBuffer>> body) {
+            return super.writeAndFlushWith(Flux.from(body)
+                    .map(inner -> Flux.from(inner).doOnNext(this::onBuffer)));
+        }
+
+        private void onBuffer(DataBuffer buffer) {
+            if (ttfbNanos < 0) {
+                ttfbNanos = System.nanoTime() - start;
+                Timer.builder("gateway.response.ttfb")
+                        .tag("route", routeId)
+                        .description("요청 시작부터 응답 첫 바이트까지 시간")
+                        .register(meterRegistry)
+                        .record(ttfbNanos, TimeUnit.NANOSECONDS);
+            }
+            bodyBytes.addAndGet(buffer.readableByteCount());
+        }
+    }
+
+    @Getter @Setter @ToString
+    @NoArgsConstructor
+    public static class Config {
+    }
+}
@@ -0,0 +1,129 @@
+package com.playdata.gatewayservice.filter;
+
+import com.playdata.gatewayservice.ratelimit.TokenBucketRateLimiter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.*;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.cloud.gateway.support.ipresolver.RemoteAddressResolver;
+import org.springframework.cloud.gateway.support.ipresolver.XForwardedRemoteAddressResolver;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+
+// 라우트별 요청 수 제한 (토큰 버킷)
+// - AuthorizationHeaderFilter 뒤에 두면 로그인 사용자는 이메일 기준, 그 외(로그인/공개 API)는 클라이언트 IP 기준으로 센다.
+// - 한도를 넘으면 백엔드로 보내지 않고 429 로 응답한다.
+// - 응답에 X-RateLimit-Limit / X-RateLimit-Remaining / X-RateLimit-Reset(버킷이 가득 찰 때까지 남은 초) 헤더를 붙인다.
+@Component
+@Slf4j
+public class RateLimitFilter extends AbstractGatewayFilterFactory<RateLimitFilter.Config> {
+
+    public static final String LIMIT_HEADER = "X-RateLimit-Limit";
+    public static final String REMAINING_HEADER = "X-RateLimit-Remaining";
+    public static final String RESET_HEADER = "X-RateLimit-Reset";
+
+    private final TokenBucketRateLimiter rateLimiter;
+    private final RemoteAddressResolver remoteAddressResolver;
+    private final MeterRegistry meterRegistry;
+
+    public RateLimitFilter(TokenBucketRateLimiter rateLimiter,
+                           MeterRegistry meterRegistry,
+                           @Value("${rate-limit.trusted-proxies:1}") int trustedProxies) {
+        super(Config.class);
+        this.rateLimiter = rateLimiter;
+        this.meterRegistry = meterRegistry;
+        // 로드밸런서가 붙인 X-Forwarded-For 에서 신뢰할 수 있는 위치의 IP 사용 (클라이언트가 임의로 넣은 값 무시)
+        this.remoteAddressResolver = trustedProxies > 0
+                ? XForwardedRemoteAddressResolver.maxTrustedIndex(trustedProxies)
+                : new RemoteAddressResolver() {
+                };
+    }
+
+    @Override
+    public GatewayFilter apply(Config config) {
+        return (exchange, chain) -> {
+            String routeId = routeId(exchange);
+            String key = routeId + ":" + clientKey(exchange);
+
+            return rateLimiter.tryConsume(key, config.getReplenishRate(), config.getBurstCapacity(),
+                            config.getRequestedTokens())
+                    .flatMap(decision -> {
+                        HttpHeaders headers = exchange.getResponse().getHeaders();
+                        headers.set(LIMIT_HEADER, String.valueOf(config.getBurstCapacity()));
+                        headers.set(REMAINING_HEADER, String.valueOf(decision.remaining()));
+                        headers.set(RESET_HEADER, String.valueOf(secondsUntilFull(config, decision.remaining())));
+
+                        counter(routeId, decision.allowed() ? "allowed" : "rejected").increment();
+                        if (decision.allowed()) {
+                            return chain.filter(exchange);
+                        }
+                        headers.set(HttpHeaders.RETRY_AFTER,
+                                String.valueOf(Math.max(1, config.getRequestedTokens() / config.getReplenishRate())));
+                        return onError(exchange, "Too many requests", HttpStatus.TOO_MANY_REQUESTS);
+                    });
+        };
+    }
+
+    private String clientKey(ServerWebExchange exchange) {
+        String email = exchange.getAttribute(AuthorizationHeaderFilter.VERIFIED_EMAIL_ATTR);
+        if (email != null) {
+            return "user:" + email;
+        }
+        InetSocketAddress address = remoteAddressResolver.resolve(exchange);
+        if (address == null || address.getAddress() == null) {
+            return "ip:unknown";
+        }
+        return "ip:" + address.getAddress().getHostAddress();
+    }
+
+    private String routeId(ServerWebExchange exchange) {
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        return route == null ? "default" : route.getId();
+    }
+
+    private long secondsUntilFull(Config config, long remaining) {
+        long missing = Math.max(0, config.getBurstCapacity() - remaining);
+        return (missing + config.getReplenishRate() - 1) / config.getReplenishRate();
+    }
+
+    private Counter counter(String routeId, String result) {
+        return Counter.builder("gateway.ratelimit.requests")
+                .tag("route", routeId)
+                .tag("result", result)
+                .description("레이트 리밋 판단 결과")
+                .register(meterRegistry);
+    }
+
+    private Mono<Void> onError(ServerWebExchange exchange,
+                               String msg, HttpStatus httpStatus) {
+        ServerHttpResponse response = exchange.getResponse();
+        response.setStatusCode(httpStatus);
+        log.debug(msg);
+
+        byte[] bytes = msg.getBytes(StandardCharsets.UTF_8);
+        DataBuffer buffer = response.bufferFactory().wrap(bytes);
+        return response.writeWith(Mono.just(buffer));
+    }
+
+    @Getter @Setter @ToString
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Config {
+        private int replenishRate = 10; // 초당 충전 토큰 수
+        private int burstCapacity = 20; // 버킷 크기 (순간 최대 요청 수)
+        private int requestedTokens = 1; // 요청 하나가 쓰는 토큰 수
+    }
+}
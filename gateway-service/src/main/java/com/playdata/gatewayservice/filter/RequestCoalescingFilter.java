@@ -0,0 +1,185 @@
+package com.playdata.gatewayservice.filter;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.*;
+import lombok.extern.slf4j.Slf4j;
+import org.reactivestreams.Publisher;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 동시에 들어온 같은 GET 요청을 백엔드 호출 하나로 합치는 필터 (single-flight)
+// - 처음 들어온 요청(leader)만 백엔드로 보내고, 그 사이 들어온 같은 요청(follower)은 leader 의 응답을 복사해서 받는다.
+// - 같은 요청 = 같은 라우트 + 경로 + 쿼리 + 로그인 사용자 + headers 에 지정한 요청 헤더
+// - 응답이 maxBodyBytes 보다 크면 합치지 않고 follower 도 각자 백엔드로 보낸다.
+// - 응답이 끝나면 바로 목록에서 빠지므로 캐시가 아니다. (캐시는 ResponseCacheFilter)
+@Component
+@Slf4j
+public class RequestCoalescingFilter extends AbstractGatewayFilterFactory<RequestCoalescingFilter.Config> {
+
+    // leader 응답을 공유할 수 없을 때(크기 초과 등) follower 에게 알리는 값
+    private static final CapturedResponse BYPASS = new CapturedResponse(null, null, null);
+
+    private final Map<CoalescingKey, Sinks.One<CapturedResponse>> inFlight = new ConcurrentHashMap<>();
+    private final Duration followerTimeout;
+
+    private final Counter leaderCounter;
+    private final Counter followerCounter;
+    private final Counter bypassCounter;
+
+    public RequestCoalescingFilter(MeterRegistry meterRegistry,
+                                   @Value("${request-coalescing.follower-timeout-ms:10000}") long followerTimeoutMs) {
+        super(Config.class);
+        this.followerTimeout = Duration.ofMillis(followerTimeoutMs);
+        this.leaderCounter = counter(meterRegistry, "leader");
+        this.followerCounter = counter(meterRegistry, "follower");
+        this.bypassCounter = counter(meterRegistry, "bypass");
+    }
+
+    @Override
+    public GatewayFilter apply(Config config) {
+        return (exchange, chain) -> Mono.defer(() -> {
+            HttpMethod method = exchange.getRequest().getMethod();
+            if (method != HttpMethod.GET && method != HttpMethod.HEAD) {
+                return chain.filter(exchange);
+            }
+
+            CoalescingKey key = key(exchange, config);
+            Sinks.One<CapturedResponse> sink = Sinks.one();
+            Sinks.One<CapturedResponse> leader = inFlight.putIfAbsent(key, sink);
+
+            if (leader != null) {
+                followerCounter.increment();
+                return leader.asMono()
+                        .timeout(followerTimeout)
+                        .onErrorReturn(BYPASS) // leader 실패/지연 시 직접 호출
+                        .flatMap(captured -> captured == BYPASS
+                                ? chain.filter(exchange)
+                                : replay(exchange, captured));
+            }
+
+            leaderCounter.increment();
+            return chain.filter(exchange.mutate()
+                            .response(new CapturingResponse(exchange.getResponse(), sink, config.getMaxBodyBytes()))
+                            .build())
+                    .doFinally(signal -> {
+                        inFlight.remove(key, sink);
+                        // 본문 없이 끝났거나 실패한 경우에도 follower 가 기다리지 않도록
+                        sink.tryEmitValue(BYPASS);
+                    });
+        });
+    }
+
+    private Mono<Void> replay(ServerWebExchange exchange, CapturedResponse captured) {
+        ServerHttpResponse response = exchange.getResponse();
+        response.setStatusCode(captured.status());
+        // 레이트 리밋/CORS 처럼 요청마다 붙는 헤더는 follower 자신의 값을 유지
+        captured.headers().forEach((name, values) -> {
+            if (!response.getHeaders().containsKey(name)) {
+                response.getHeaders().put(name, values);
+            }
+        });
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(captured.body())));
+    }
+
+    private CoalescingKey key(ServerWebExchange exchange, Config config) {
+        ServerHttpRequest request = exchange.getRequest();
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+
+        List<String> headerValues = new ArrayList<>(config.getHeaders().size());
+        for (String header : config.getHeaders()) {
+            headerValues.add(String.join(",", request.getHeaders().getOrEmpty(header)));
+        }
+        return new CoalescingKey(route == null ? "default" : route.getId(),
+                request.getMethod().name(),
+                request.getURI().getRawPath(),
+                request.getURI().getRawQuery(),
+                exchange.getAttribute(AuthorizationHeaderFilter.VERIFIED_EMAIL_ATTR),
+                headerValues);
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String role) {
+        return Counter.builder("gateway.coalescing.requests")
+                .tag("role", role)
+                .description("요청 합치기 결과 (leader=백엔드 호출, follower=응답 공유, bypass=크기 초과로 공유 안 함)")
+                .register(meterRegistry);
+    }
+
+    private record CoalescingKey(String routeId, String method, String path, String query,
+                                 String user, List<String> headers) {
+    }
+
+    private record CapturedResponse(HttpStatusCode status, HttpHeaders headers, byte[] body) {
+    }
+
+    // leader 응답 본문을 모아서 follower 에게 넘기고, 자기 응답으로도 그대로 내려보낸다.
+    private class CapturingResponse extends ServerHttpResponseDecorator {
+        private final Sinks.One<CapturedResponse> sink;
+        private final long maxBodyBytes;
+
+        CapturingResponse(ServerHttpResponse delegate, Sinks.One<CapturedResponse> sink, long maxBodyBytes) {
+            super(delegate);
+            this.sink = sink;
+            this.maxBodyBytes = maxBodyBytes;
+        }
+
+        @Override
+        public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+            // Content-Length 로 이미 큰 응답인 걸 알면 모으지 않고 흘려보낸다.
+            if (getHeaders().getContentLength() > maxBodyBytes) {
+                bypass();
+                return super.writeWith(body);
+            }
+
+            return DataBufferUtils.join(Flux.from(body))
+                    .flatMap(joined -> {
+                        byte[] bytes = new byte[joined.readableByteCount()];
+                        joined.read(bytes);
+                        DataBufferUtils.release(joined);
+
+                        if (bytes.length > maxBodyBytes) {
+                            bypass();
+                        } else {
+                            HttpHeaders headers = new HttpHeaders();
+                            headers.putAll(getHeaders());
+                            sink.tryEmitValue(new CapturedResponse(getStatusCode(), headers, bytes));
+                        }
+                        return super.writeWith(Mono.just(bufferFactory().wrap(bytes)));
+                    });
+        }
+
+        private void bypass() {
+            bypassCounter.increment();
+            sink.tryEmitValue(BYPASS);
+        }
+    }
+
+    @Getter @Setter @ToString
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Config {
+        private long maxBodyBytes = 256 * 1024; // 이보다 큰 응답은 합치지 않음
+        private List<String> headers = List.of(HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_LANGUAGE); // 응답에 영향을 주는 요청 헤더
+    }
+}
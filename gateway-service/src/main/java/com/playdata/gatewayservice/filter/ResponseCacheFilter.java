@@ -0,0 +1,189 @@
+package com.playdata.gatewayservice.filter;
+
+import com.playdata.gatewayservice.cache.ResponseCache;
+import lombok.*;
+import lombok.extern.slf4j.Slf4j;
+import org.reactivestreams.Publisher;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+// 공개 조회(GET) 응답 캐시
+// - RewritePath 뒤에 두면 캐시 키는 라우트 id + 백엔드 경로 + 정렬한 쿼리 파라미터
+// - ttlSeconds 동안은 캐시로 응답, 그 뒤 staleWhileRevalidateSeconds 동안은 캐시로 응답하면서 백그라운드로 갱신
+// - 모든 응답에 ETag 를 붙이고, If-None-Match 가 같으면 본문 없이 304
+// - 응답 헤더 X-Cache: HIT | STALE | MISS
+@Component
+@Slf4j
+public class ResponseCacheFilter extends AbstractGatewayFilterFactory<ResponseCacheFilter.Config> {
+
+    public static final String CACHE_STATUS_HEADER = "X-Cache";
+
+    private final ResponseCache responseCache;
+
+    public ResponseCacheFilter(ResponseCache responseCache) {
+        super(Config.class);
+        this.responseCache = responseCache;
+    }
+
+    @Override
+    public GatewayFilter apply(Config config) {
+        Duration ttl = Duration.ofSeconds(config.getTtlSeconds());
+        Duration stale = Duration.ofSeconds(config.getStaleWhileRevalidateSeconds());
+
+        return (exchange, chain) -> {
+            ServerHttpRequest request = exchange.getRequest();
+            if (request.getMethod() != HttpMethod.GET) {
+                return chain.filter(exchange);
+            }
+
+            Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+            ResponseCache.CacheKey key = new ResponseCache.CacheKey(
+                    route == null ? "default" : route.getId(),
+                    normalizePath(request.getURI().getRawPath()),
+                    normalizeQuery(request.getQueryParams()));
+
+            ResponseCache.CachedResponse cached = responseCache.get(key);
+            if (cached != null) {
+                boolean fresh = cached.isFresh();
+                if (!fresh && route != null) {
+                    responseCache.revalidate(key, backendUri(route, request), ttl, stale);
+                }
+                return writeCached(exchange, cached, fresh ? "HIT" : "STALE");
+            }
+
+            return chain.filter(exchange.mutate()
+                    .response(new CachingResponse(exchange, key, responseCache.generation(), ttl, stale))
+                    .build());
+        };
+    }
+
+    private Mono<Void> writeCached(ServerWebExchange exchange, ResponseCache.CachedResponse cached, String cacheStatus) {
+        ServerHttpResponse response = exchange.getResponse();
+        HttpHeaders headers = response.getHeaders();
+        headers.set(CACHE_STATUS_HEADER, cacheStatus);
+        headers.setETag(cached.etag());
+
+        if (ResponseCache.matches(exchange.getRequest().getHeaders().getIfNoneMatch(), cached.etag())) {
+            responseCache.recordNotModified();
+            response.setStatusCode(HttpStatus.NOT_MODIFIED);
+            return response.setComplete();
+        }
+
+        response.setStatusCode(HttpStatusCode.valueOf(cached.status()));
+        headers.putAll(cached.headers());
+        headers.setContentLength(cached.body().length);
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(cached.body())));
+    }
+
+    // 백엔드 응답 본문을 모아서 캐시에 저장하고 ETag 를 붙여서 내려보낸다.
+    private class CachingResponse extends ServerHttpResponseDecorator {
+        private final ServerWebExchange exchange;
+        private final ResponseCache.CacheKey key;
+        private final long generation;
+        private final Duration ttl;
+        private final Duration stale;
+
+        CachingResponse(ServerWebExchange exchange, ResponseCache.CacheKey key, long generation,
+                        Duration ttl, Duration stale) {
+            super(exchange.getResponse());
+            this.exchange = exchange;
+            this.key = key;
+            this.generation = generation;
+            this.ttl = ttl;
+            this.stale = stale;
+        }
+
+        @Override
+        public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+            HttpStatusCode status = getStatusCode();
+            if (status == null || status.value() != 200) {
+                return super.writeWith(body);
+            }
+
+            return DataBufferUtils.join(Flux.from(body))
+                    .flatMap(joined -> {
+                        byte[] bytes = new byte[joined.readableByteCount()];
+                        joined.read(bytes);
+                        DataBufferUtils.release(joined);
+
+                        HttpHeaders headers = getHeaders();
+                        ResponseCache.CachedResponse entry
+                                = responseCache.put(key, generation, status.value(), headers, bytes, ttl, stale);
+                        headers.set(CACHE_STATUS_HEADER, "MISS");
+                        if (entry == null) {
+                            return super.writeWith(Mono.just(bufferFactory().wrap(bytes)));
+                        }
+
+                        headers.setETag(entry.etag());
+                        if (ResponseCache.matches(exchange.getRequest().getHeaders().getIfNoneMatch(), entry.etag())) {
+                            responseCache.recordNotModified();
+                            setStatusCode(HttpStatus.NOT_MODIFIED);
+                            headers.remove(HttpHeaders.CONTENT_LENGTH);
+                            headers.remove(HttpHeaders.CONTENT_TYPE);
+                            return setComplete();
+                        }
+                        return super.writeWith(Mono.just(bufferFactory().wrap(bytes)));
+                    });
+        }
+    }
+
+    private static String normalizePath(String path) {
+        if (path.length() > 1 && path.endsWith("/")) {
+            return path.substring(0, path.length() - 1);
+        }
+        return path;
+    }
+
+    // ?size=10&page=0 과 ?page=0&size=10 이 같은 키가 되도록 이름/값 순서로 정렬
+    private static String normalizeQuery(MultiValueMap<String, String> params) {
+        return params.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .flatMap(entry -> {
+                    List<String> values = entry.getValue().stream()
+                            .sorted(Comparator.nullsFirst(Comparator.naturalOrder()))
+                            .toList();
+                    return values.stream().map(value -> entry.getKey() + "=" + (value == null ? "" : value));
+                })
+                .collect(Collectors.joining("&"));
+    }
+
+    private static URI backendUri(Route route, ServerHttpRequest request) {
+        return UriComponentsBuilder.fromUri(route.getUri())
+                .replacePath(request.getURI().getRawPath())
+                .replaceQuery(request.getURI().getRawQuery())
+                .build(true)
+                .toUri();
+    }
+
+    @Getter @Setter @ToString
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Config {
+        private long ttlSeconds = 30;
+        private long staleWhileRevalidateSeconds = 60;
+    }
+}
@@ -0,0 +1,107 @@
+package com.playdata.gatewayservice.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+
+// 토큰 버킷 레이트 리미터
+// - 평소에는 Redis Lua 스크립트로 모든 게이트웨이 pod 가 같은 버킷을 사용한다.
+// - Redis 에 연결할 수 없거나 응답이 늦으면 pod 내부 메모리 버킷으로 대신 판단한다. (이때 한도는 pod 별로 적용됨)
+//   한 번 실패하면 redis-retry-seconds 동안은 Redis 를 건너뛰어서 요청마다 타임아웃을 기다리지 않는다.
+@Component
+@Slf4j
+public class TokenBucketRateLimiter {
+
+    private static final RedisScript<List> SCRIPT
+            = RedisScript.of(new ClassPathResource("scripts/rate_limiter.lua"), List.class);
+
+    private final ReactiveStringRedisTemplate redisTemplate;
+    private final Duration redisTimeout;
+    private final long redisRetryMillis;
+    private final Cache<String, LocalBucket> localBuckets;
+    private final Counter fallbackCounter;
+
+    private volatile long redisDownUntil;
+
+    public TokenBucketRateLimiter(ReactiveStringRedisTemplate redisTemplate,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${rate-limit.redis-timeout-ms:50}") long redisTimeoutMs,
+                                  @Value("${rate-limit.redis-retry-seconds:5}") long redisRetrySeconds,
+                                  @Value("${rate-limit.local.max-keys:100000}") long localMaxKeys) {
+        this.redisTemplate = redisTemplate;
+        this.redisTimeout = Duration.ofMillis(redisTimeoutMs);
+        this.redisRetryMillis = Duration.ofSeconds(redisRetrySeconds).toMillis();
+        this.localBuckets = Caffeine.newBuilder()
+                .maximumSize(localMaxKeys)
+                .expireAfterAccess(Duration.ofMinutes(10))
+                .build();
+        this.fallbackCounter = Counter.builder("gateway.ratelimit.fallback")
+                .description("Redis 대신 로컬 버킷으로 판단한 요청 수")
+                .register(meterRegistry);
+    }
+
+    // 판단 결과. remaining = 남은 토큰 수
+    public record Decision(boolean allowed, long remaining) {
+    }
+
+    public Mono<Decision> tryConsume(String key, int replenishRate, int burstCapacity, int requestedTokens) {
+        if (System.currentTimeMillis() < redisDownUntil) {
+            return Mono.fromSupplier(() -> consumeLocally(key, replenishRate, burstCapacity, requestedTokens));
+        }
+
+        // {} 안의 값이 같으면 Redis Cluster 에서도 같은 슬롯에 저장된다.
+        String prefix = "rate:{" + key + "}";
+        List<String> keys = List.of(prefix + ":tokens", prefix + ":ts");
+
+        return redisTemplate.execute(SCRIPT, keys,
+                        List.of(String.valueOf(replenishRate), String.valueOf(burstCapacity),
+                                String.valueOf(requestedTokens)))
+                .next()
+                .timeout(redisTimeout)
+                .map(result -> new Decision(((Number) result.get(0)).longValue() == 1,
+                        ((Number) result.get(1)).longValue()))
+                .onErrorResume(e -> {
+                    log.warn("rate limit redis unavailable, using local buckets: {}", e.toString());
+                    redisDownUntil = System.currentTimeMillis() + redisRetryMillis;
+                    return Mono.fromSupplier(() -> consumeLocally(key, replenishRate, burstCapacity, requestedTokens));
+                });
+    }
+
+    private Decision consumeLocally(String key, int replenishRate, int burstCapacity, int requestedTokens) {
+        fallbackCounter.increment();
+        LocalBucket bucket = localBuckets.get(key, k -> new LocalBucket(burstCapacity));
+        return bucket.tryConsume(replenishRate, burstCapacity, requestedTokens);
+    }
+
+    // Lua 스크립트와 같은 방식의 메모리 버킷
+    private static class LocalBucket {
+        private double tokens;
+        private long lastRefillNanos;
+
+        LocalBucket(int capacity) {
+            this.tokens = capacity;
+            this.lastRefillNanos = System.nanoTime();
+        }
+
+        synchronized Decision tryConsume(int rate, int capacity, int requested) {
+            long now = System.nanoTime();
+            tokens = Math.min(capacity, tokens + (now - lastRefillNanos) * rate / 1_000_000_000.0);
+            lastRefillNanos = now;
+
+            boolean allowed = tokens >= requested;
+            if (allowed) tokens -= requested;
+            return new Decision(allowed, (long) tokens);
+        }
+    }
+}
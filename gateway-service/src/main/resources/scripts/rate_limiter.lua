@@ -0,0 +1,40 @@
+-- 토큰 버킷 (키 하나당 버킷 하나)
+-- KEYS[1] = 남은 토큰 수, KEYS[2] = 마지막 충전 시각(ms)
+-- ARGV[1] = 초당 충전 토큰 수, ARGV[2] = 버킷 크기, ARGV[3] = 요청 토큰 수
+-- 반환: { 허용 여부(1/0), 남은 토큰 수 }
+local tokens_key = KEYS[1]
+local timestamp_key = KEYS[2]
+
+local rate = tonumber(ARGV[1])
+local capacity = tonumber(ARGV[2])
+local requested = tonumber(ARGV[3])
+
+-- 게이트웨이 pod 마다 시계가 다를 수 있으므로 Redis 시간을 사용
+local time = redis.call('TIME')
+local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+
+-- 버킷이 가득 찰 때까지 걸리는 시간의 2배 동안만 보관
+local ttl = math.max(1, math.ceil(capacity / rate * 2))
+
+local last_tokens = tonumber(redis.call('GET', tokens_key))
+if last_tokens == nil then
+  last_tokens = capacity
+end
+
+local last_refreshed = tonumber(redis.call('GET', timestamp_key))
+if last_refreshed == nil then
+  last_refreshed = now
+end
+
+local delta = math.max(0, now - last_refreshed)
+local filled_tokens = math.min(capacity, last_tokens + (delta * rate / 1000))
+local allowed = filled_tokens >= requested
+local new_tokens = filled_tokens
+if allowed then
+  new_tokens = filled_tokens - requested
+end
+
+redis.call('SET', tokens_key, new_tokens, 'EX', ttl)
+redis.call('SET', timestamp_key, now, 'EX', ttl)
+
+return { allowed and 1 or 0, math.floor(new_tokens) }
@@ -0,0 +1,96 @@
+package com.playdata.gatewayservice.filter;
+
+import com.playdata.gatewayservice.auth.JwtVerifier;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Date;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AuthorizationHeaderFilterTest {
+
+    private static final String SECRET = Base64.getEncoder()
+            .encodeToString("test-secret-key-test-secret-key-0123456789".getBytes(StandardCharsets.UTF_8));
+
+    private GatewayFilter filter;
+    private AtomicReference<ServerWebExchange> passed;
+    private GatewayFilterChain chain;
+
+    @BeforeEach
+    void setUp() {
+        JwtVerifier jwtVerifier = new JwtVerifier(SECRET, 100, 600, new SimpleMeterRegistry());
+        filter = new AuthorizationHeaderFilter(jwtVerifier).apply(new Object());
+        passed = new AtomicReference<>();
+        chain = exchange -> {
+            passed.set(exchange);
+            return Mono.empty();
+        };
+    }
+
+    @Test
+    void allowListedPathSkipsTokenCheck() {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/product/detail/3"));
+
+        filter.filter(exchange, chain).block();
+
+        assertThat(passed.get()).isNotNull();
+    }
+
+    @Test
+    void validTokenIsForwardedWithUserHeaders() {
+        String token = token(60_000);
+
+        for (int i = 0; i < 2; i++) { // 두 번째는 캐시된 검증 결과 사용
+            passed.set(null);
+            filter.filter(exchangeWith(token), chain).block();
+
+            HttpHeaders headers = passed.get().getRequest().getHeaders();
+            assertThat(headers.getFirst("X-User-Email")).isEqualTo("user@test.com");
+            assertThat(headers.getFirst("X-User-Role")).isEqualTo("USER");
+        }
+    }
+
+    @Test
+    void cachedTokenIsRejectedAfterExpiration() throws InterruptedException {
+        String token = token(1_000);
+        filter.filter(exchangeWith(token), chain).block();
+        assertThat(passed.get()).isNotNull();
+
+        Thread.sleep(1_100);
+        passed.set(null);
+        MockServerWebExchange expired = exchangeWith(token);
+        filter.filter(expired, chain).block();
+
+        assertThat(passed.get()).isNull();
+        assertThat(expired.getResponse().getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+    }
+
+    private MockServerWebExchange exchangeWith(String token) {
+        return MockServerWebExchange.from(MockServerHttpRequest.get("/orders/my-order")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token));
+    }
+
+    private String token(long validMillis) {
+        return Jwts.builder()
+                .setSubject("user@test.com")
+                .claim("role", "USER")
+                .setExpiration(new Date(System.currentTimeMillis() + validMillis))
+                .signWith(SignatureAlgorithm.HS256, SECRET)
+                .compact();
+    }
+}
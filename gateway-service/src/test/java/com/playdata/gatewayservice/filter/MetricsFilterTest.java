@@ -0,0 +1,41 @@
+package com.playdata.gatewayservice.filter;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MetricsFilterTest {
+
+    @Test
+    void recordsLatencyStatusTtfbAndBodySize() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        GatewayFilter filter = new MetricsFilter(meterRegistry, 0, 1000).apply(new MetricsFilter.Config());
+        GatewayFilterChain backend = exchange -> {
+            ServerHttpResponse response = exchange.getResponse();
+            response.setStatusCode(HttpStatus.NOT_FOUND);
+            byte[] body = "not found".getBytes(StandardCharsets.UTF_8);
+            return response.writeWith(Mono.just(response.bufferFactory().wrap(body)));
+        };
+
+        filter.filter(MockServerWebExchange.from(MockServerHttpRequest.get("/product/detail/1")), backend).block();
+
+        Timer requests = meterRegistry.get("gateway.requests")
+                .tag("status", "404")
+                .tag("outcome", "CLIENT_ERROR")
+                .timer();
+        assertThat(requests.count()).isEqualTo(1);
+        assertThat(meterRegistry.get("gateway.response.ttfb").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("gateway.response.size").summary().totalAmount()).isEqualTo(9);
+    }
+}
@@ -0,0 +1,119 @@
+package com.playdata.gatewayservice.filter;
+
+import com.playdata.gatewayservice.ratelimit.TokenBucketRateLimiter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.publisher.Mono;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RateLimitFilterTest {
+
+    private static final int REDIS_PORT = 6391;
+
+    private static RedisServer redisServer;
+
+    private LettuceConnectionFactory connectionFactory;
+
+    private final GatewayFilterChain chain = exchange -> Mono.empty();
+
+    @BeforeAll
+    static void startRedis() throws IOException {
+        redisServer = new RedisServer(REDIS_PORT);
+        redisServer.start();
+    }
+
+    @AfterAll
+    static void stopRedis() throws IOException {
+        redisServer.stop();
+    }
+
+    @AfterEach
+    void tearDown() {
+        connectionFactory.destroy();
+    }
+
+    @Test
+    void rejectsWithHeadersOnceBurstIsUsed() {
+        GatewayFilter filter = filter(REDIS_PORT, 1, 3);
+
+        for (int i = 2; i >= 0; i--) {
+            MockServerWebExchange exchange = exchange("10.0.0.1", null);
+            filter.filter(exchange, chain).block();
+
+            assertThat(exchange.getResponse().getStatusCode()).isNull(); // 백엔드로 전달
+            assertThat(exchange.getResponse().getHeaders().getFirst(RateLimitFilter.LIMIT_HEADER)).isEqualTo("3");
+            assertThat(exchange.getResponse().getHeaders().getFirst(RateLimitFilter.REMAINING_HEADER))
+                    .isEqualTo(String.valueOf(i));
+        }
+
+        MockServerWebExchange rejected = exchange("10.0.0.1", null);
+        filter.filter(rejected, chain).block();
+        assertThat(rejected.getResponse().getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+        assertThat(rejected.getResponse().getHeaders().getFirst(RateLimitFilter.RESET_HEADER)).isEqualTo("3");
+    }
+
+    @Test
+    void verifiedUsersBehindTheSameIpHaveTheirOwnBuckets() {
+        GatewayFilter filter = filter(REDIS_PORT, 1, 1);
+
+        MockServerWebExchange first = exchange("10.0.0.2", "a@test.com");
+        MockServerWebExchange second = exchange("10.0.0.2", "b@test.com");
+        MockServerWebExchange again = exchange("10.0.0.2", "a@test.com");
+        filter.filter(first, chain).block();
+        filter.filter(second, chain).block();
+        filter.filter(again, chain).block();
+
+        assertThat(first.getResponse().getStatusCode()).isNull();
+        assertThat(second.getResponse().getStatusCode()).isNull();
+        assertThat(again.getResponse().getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+    }
+
+    @Test
+    void fallsBackToLocalBucketWhenRedisIsDown() {
+        GatewayFilter filter = filter(1, 1, 2); // 아무것도 떠 있지 않은 포트
+
+        int passed = 0;
+        for (int i = 0; i < 5; i++) {
+            MockServerWebExchange exchange = exchange("10.0.0.3", null);
+            filter.filter(exchange, chain).block();
+            if (exchange.getResponse().getStatusCode() == null) passed++;
+        }
+
+        assertThat(passed).isEqualTo(2);
+    }
+
+    private GatewayFilter filter(int redisPort, int replenishRate, int burstCapacity) {
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", redisPort));
+        connectionFactory.afterPropertiesSet();
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        TokenBucketRateLimiter rateLimiter = new TokenBucketRateLimiter(
+                new ReactiveStringRedisTemplate(connectionFactory), meterRegistry, 500, 5, 1000);
+        return new RateLimitFilter(rateLimiter, meterRegistry, 1)
+                .apply(new RateLimitFilter.Config(replenishRate, burstCapacity, 1));
+    }
+
+    private MockServerWebExchange exchange(String ip, String verifiedEmail) {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/product/list")
+                .remoteAddress(new InetSocketAddress(ip, 40000)));
+        if (verifiedEmail != null) {
+            exchange.getAttributes().put(AuthorizationHeaderFilter.VERIFIED_EMAIL_ATTR, verifiedEmail);
+        }
+        return exchange;
+    }
+}
@@ -0,0 +1,107 @@
+package com.playdata.gatewayservice.filter;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RequestCoalescingFilterTest {
+
+    private static final int CALLERS = 100;
+
+    private AtomicInteger upstreamCalls;
+    private GatewayFilterChain slowUpstream;
+
+    @BeforeEach
+    void setUp() {
+        upstreamCalls = new AtomicInteger();
+        // 200ms 걸리는 백엔드
+        slowUpstream = exchange -> Mono.delay(Duration.ofMillis(200)).then(Mono.defer(() -> {
+            int call = upstreamCalls.incrementAndGet();
+            ServerHttpResponse response = exchange.getResponse();
+            response.setStatusCode(HttpStatus.OK);
+            response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+            byte[] body = ("{\"call\":" + call + "}").getBytes(StandardCharsets.UTF_8);
+            return response.writeWith(Mono.just(response.bufferFactory().wrap(body)));
+        }));
+    }
+
+    @Test
+    void concurrentIdenticalRequestsShareOneUpstreamCall() {
+        GatewayFilter filter = filter(1024);
+        List<MockServerWebExchange> exchanges = exchanges("/product/detail/7");
+
+        runConcurrently(filter, exchanges);
+
+        assertThat(upstreamCalls.get()).isEqualTo(1);
+        for (MockServerWebExchange exchange : exchanges) {
+            assertThat(exchange.getResponse().getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(exchange.getResponse().getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_JSON);
+            assertThat(exchange.getResponse().getBodyAsString().block()).isEqualTo("{\"call\":1}");
+        }
+    }
+
+    @Test
+    void responsesLargerThanTheCapAreNotShared() {
+        GatewayFilter filter = filter(4); // 응답 본문보다 작은 한도
+        List<MockServerWebExchange> exchanges = exchanges("/product/detail/8");
+
+        runConcurrently(filter, exchanges);
+
+        assertThat(upstreamCalls.get()).isEqualTo(CALLERS);
+        for (MockServerWebExchange exchange : exchanges) {
+            assertThat(exchange.getResponse().getBodyAsString().block()).startsWith("{\"call\":");
+        }
+    }
+
+    @Test
+    void differentQueriesAreNotCoalesced() {
+        GatewayFilter filter = filter(1024);
+
+        runConcurrently(filter, List.of(
+                exchange("/product/list?page=0"),
+                exchange("/product/list?page=1"),
+                exchange("/product/list?page=0")));
+
+        assertThat(upstreamCalls.get()).isEqualTo(2);
+    }
+
+    private GatewayFilter filter(long maxBodyBytes) {
+        RequestCoalescingFilter.Config config = new RequestCoalescingFilter.Config();
+        config.setMaxBodyBytes(maxBodyBytes);
+        return new RequestCoalescingFilter(new SimpleMeterRegistry(), 5000).apply(config);
+    }
+
+    // 모든 요청을 병렬 스케줄러에서 동시에 시작하고 전부 끝날 때까지 대기
+    private void runConcurrently(GatewayFilter filter, List<MockServerWebExchange> exchanges) {
+        Flux.fromIterable(exchanges)
+                .flatMap(exchange -> filter.filter(exchange, slowUpstream).subscribeOn(Schedulers.parallel()),
+                        exchanges.size())
+                .then()
+                .block(Duration.ofSeconds(10));
+    }
+
+    private List<MockServerWebExchange> exchanges(String uri) {
+        return Flux.range(0, CALLERS).map(i -> exchange(uri)).collectList().block();
+    }
+
+    private MockServerWebExchange exchange(String uri) {
+        return MockServerWebExchange.from(MockServerHttpRequest.get(uri));
+    }
+}
@@ -0,0 +1,114 @@
+package com.playdata.gatewayservice.filter;
+
+import com.playdata.gatewayservice.bus.ProductChangedRemoteEvent;
+import com.playdata.gatewayservice.cache.ResponseCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ResponseCacheFilterTest {
+
+    private ResponseCache responseCache;
+    private GatewayFilter filter;
+    private AtomicInteger backendCalls;
+    private GatewayFilterChain backend;
+
+    @BeforeEach
+    void setUp() {
+        responseCache = new ResponseCache(new SimpleMeterRegistry(), 1024 * 1024, 64 * 1024, 1000);
+        filter = new ResponseCacheFilter(responseCache).apply(new ResponseCacheFilter.Config(60, 60));
+        backendCalls = new AtomicInteger();
+        backend = exchange -> {
+            int call = backendCalls.incrementAndGet();
+            ServerHttpResponse response = exchange.getResponse();
+            response.setStatusCode(HttpStatus.OK);
+            response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+            byte[] body = ("{\"call\":" + call + "}").getBytes(StandardCharsets.UTF_8);
+            return response.writeWith(Mono.just(response.bufferFactory().wrap(body)));
+        };
+    }
+
+    @Test
+    void secondRequestIsServedFromCacheWithSameEtag() {
+        MockServerWebExchange first = get("/product/list?page=0&size=10", null);
+        MockServerWebExchange second = get("/product/list?size=10&page=0", null); // 쿼리 순서만 다름
+
+        filter.filter(first, backend).block();
+        filter.filter(second, backend).block();
+
+        assertThat(backendCalls.get()).isEqualTo(1);
+        assertThat(first.getResponse().getHeaders().getFirst(ResponseCacheFilter.CACHE_STATUS_HEADER)).isEqualTo("MISS");
+        assertThat(second.getResponse().getHeaders().getFirst(ResponseCacheFilter.CACHE_STATUS_HEADER)).isEqualTo("HIT");
+        assertThat(second.getResponse().getHeaders().getETag()).isEqualTo(first.getResponse().getHeaders().getETag());
+        assertThat(second.getResponse().getBodyAsString().block()).isEqualTo("{\"call\":1}");
+        assertThat(second.getResponse().getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_JSON);
+    }
+
+    @Test
+    void matchingIfNoneMatchGetsNotModified() {
+        MockServerWebExchange first = get("/product/detail/1", null);
+        filter.filter(first, backend).block();
+        String etag = first.getResponse().getHeaders().getETag();
+
+        MockServerWebExchange conditional = get("/product/detail/1", etag);
+        filter.filter(conditional, backend).block();
+
+        assertThat(conditional.getResponse().getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(conditional.getResponse().getBodyAsString().block()).isEmpty();
+    }
+
+    @Test
+    void productChangeEventInvalidatesListAndChangedDetailOnly() {
+        filter.filter(get("/product/list", null), backend).block();
+        filter.filter(get("/product/detail/1", null), backend).block();
+        filter.filter(get("/product/detail/2", null), backend).block();
+        assertThat(backendCalls.get()).isEqualTo(3);
+
+        responseCache.onProductChanged(new ProductChangedRemoteEvent(this, "product-service", () -> "**", List.of(1L)));
+
+        filter.filter(get("/product/list", null), backend).block();
+        filter.filter(get("/product/detail/1", null), backend).block();
+        filter.filter(get("/product/detail/2", null), backend).block();
+        assertThat(backendCalls.get()).isEqualTo(5); // 2번 상품 상세는 캐시 유지
+    }
+
+    @Test
+    void responseStartedBeforeInvalidationIsNotCached() {
+        // 백엔드가 응답하는 도중에 상품 변경 이벤트가 도착
+        GatewayFilterChain racingBackend = exchange -> {
+            responseCache.onProductChanged(new ProductChangedRemoteEvent(this, "product-service", () -> "**", List.of(1L)));
+            return backend.filter(exchange);
+        };
+
+        MockServerWebExchange first = get("/product/detail/1", null);
+        filter.filter(first, racingBackend).block();
+        assertThat(first.getResponse().getBodyAsString().block()).isEqualTo("{\"call\":1}");
+        assertThat(responseCache.size()).isZero();
+
+        filter.filter(get("/product/detail/1", null), backend).block();
+        assertThat(backendCalls.get()).isEqualTo(2);
+    }
+
+    private MockServerWebExchange get(String uri, String ifNoneMatch) {
+        MockServerHttpRequest.BaseBuilder<?> builder = MockServerHttpRequest.get(uri);
+        if (ifNoneMatch != null) {
+            builder.header(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+        }
+        return MockServerWebExchange.from(builder);
+    }
+}
@@ -1,13 +1,16 @@
 package com.playdata.orderingservice;
 
+import com.playdata.orderingservice.common.bus.ProductChangedRemoteEvent;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.cloud.bus.jackson.RemoteApplicationEventScan;
 import org.springframework.cloud.openfeign.EnableFeignClients;
 import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
 @EnableFeignClients // Feign Client를 사용하는 서비스에 추가
 @EnableScheduling
+@RemoteApplicationEventScan(basePackageClasses = ProductChangedRemoteEvent.class) // 버스 커스텀 이벤트 등록
 public class OrderingServiceApplication {
 
 	public static void main(String[] args) {
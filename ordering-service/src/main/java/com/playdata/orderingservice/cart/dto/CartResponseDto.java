@@ -1,7 +1,5 @@
 package com.playdata.orderingservice.cart.dto;
 
-import com.playdata.orderingservice.cart.entity.Cart;
-import com.playdata.orderingservice.cart.entity.CartItem;
 import com.playdata.orderingservice.ordering.dto.ProductResDto;
 import lombok.Builder;
 import lombok.Data;
@@ -18,21 +16,26 @@ public class CartResponseDto {
     private String email;
     private List<CartItemDetailDto> items;
     private BigDecimal totalPrice;
+    // true 면 product-service 장애로 마지막으로 알려진 상품 정보(가격/이름)로 응답한 것
+    private boolean stale;
 
-    public static CartResponseDto from(Cart cart, Map<Long, ProductResDto> productMap) {
-        List<CartItemDetailDto> itemDtos = cart.getItems().stream()
+    // items: 상품 ID -> 수량
+    public static CartResponseDto from(String email, Map<Long, Integer> items, Map<Long, ProductResDto> productMap) {
+        List<CartItemDetailDto> itemDtos = items.entrySet().stream()
                 .map(item -> {
-                    ProductResDto product = productMap.get(item.getProductId());
+                    Long productId = item.getKey();
+                    int quantity = item.getValue();
+                    ProductResDto product = productMap.get(productId);
                     String name = product != null ? product.getName() : "Unknown Product";
                     BigDecimal unitPrice = product != null ? BigDecimal.valueOf(product.getPrice()) : BigDecimal.ZERO;
                     String imageUrl = product != null ? product.getThumbnailPath() : null;
 
                     return CartItemDetailDto.builder()
-                            .productId(item.getProductId())
+                            .productId(productId)
                             .productName(name)
-                            .quantity(item.getQuantity())
+                            .quantity(quantity)
                             .unitPrice(unitPrice)
-                            .totalPrice(unitPrice.multiply(BigDecimal.valueOf(item.getQuantity())))
+                            .totalPrice(unitPrice.multiply(BigDecimal.valueOf(quantity)))
                             .imageUrl(imageUrl)
                             .build();
                 })
@@ -43,7 +46,7 @@ public class CartResponseDto {
                 .reduce(BigDecimal.ZERO, BigDecimal::add);
 
         return CartResponseDto.builder()
-                .email(cart.getEmail())
+                .email(email)
                 .items(itemDtos)
                 .totalPrice(total)
                 .build();
@@ -2,9 +2,15 @@ package com.playdata.orderingservice.cart.repository;
 
 import com.playdata.orderingservice.cart.entity.Cart;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.Optional;
 
 public interface CartRepository extends JpaRepository<Cart, Long> {
     Optional<Cart> findByEmail(String email);
+
+    // 장바구니 + 항목을 한 번에 조회 (트랜잭션 밖의 체크아웃 스레드에서도 지연 로딩 없이 사용)
+    @Query("SELECT DISTINCT c FROM Cart c LEFT JOIN FETCH c.items WHERE c.email = :email")
+    Optional<Cart> findWithItemsByEmail(@Param("email") String email);
 }
@@ -0,0 +1,24 @@
+package com.playdata.orderingservice.cart.service;
+
+import java.util.Map;
+
+// 장바구니 저장소 추상화
+// cart.store 설정값(jpa | redis)에 따라 구현체가 선택된다.
+public interface CartStore {
+
+    // 사용자의 장바구니 항목 (상품 ID -> 수량). 장바구니가 없으면 빈 Map
+    Map<Long, Integer> getItems(String email);
+
+    // 장바구니 존재 여부 (한 번이라도 만들어진 적이 있는지)
+    boolean exists(String email);
+
+    // 상품 수량을 더한다. 없던 상품이면 새로 담긴다.
+    void addItem(String email, Long productId, int quantity);
+
+    // 상품 수량을 지정한 값으로 변경
+    void setQuantity(String email, Long productId, int quantity);
+
+    void removeItem(String email, Long productId);
+
+    void clear(String email);
+}
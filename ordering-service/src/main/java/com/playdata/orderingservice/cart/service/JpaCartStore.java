@@ -0,0 +1,85 @@
+package com.playdata.orderingservice.cart.service;
+
+import com.playdata.orderingservice.cart.entity.Cart;
+import com.playdata.orderingservice.cart.entity.CartItem;
+import com.playdata.orderingservice.cart.repository.CartRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// 기존 방식: 장바구니를 MySQL(Cart/CartItem)에 바로 저장
+@Component
+@ConditionalOnProperty(name = "cart.store", havingValue = "jpa", matchIfMissing = true)
+@RequiredArgsConstructor
+@Transactional
+public class JpaCartStore implements CartStore {
+
+    private final CartRepository cartRepository;
+
+    @Override
+    @Transactional(readOnly = true)
+    public Map<Long, Integer> getItems(String email) {
+        Map<Long, Integer> items = new LinkedHashMap<>();
+        cartRepository.findWithItemsByEmail(email).ifPresent(cart ->
+                cart.getItems().forEach(item -> items.merge(item.getProductId(), item.getQuantity(), Integer::sum)));
+        return items;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public boolean exists(String email) {
+        return cartRepository.findByEmail(email).isPresent();
+    }
+
+    @Override
+    public void addItem(String email, Long productId, int quantity) {
+        Cart cart = cartRepository.findByEmail(email)
+                .orElseGet(() -> createEmptyCart(email));
+
+        cart.getItems().stream()
+                .filter(item -> item.getProductId().equals(productId))
+                .findFirst()
+                .ifPresentOrElse(
+                        item -> item.addQuantity(quantity),
+                        () -> cart.getItems().add(CartItem.builder()
+                                .productId(productId)
+                                .quantity(quantity)
+                                .cart(cart)
+                                .build()));
+
+        cartRepository.save(cart);
+    }
+
+    @Override
+    public void setQuantity(String email, Long productId, int quantity) {
+        cartRepository.findByEmail(email).ifPresent(cart ->
+                cart.getItems().stream()
+                        .filter(item -> item.getProductId().equals(productId))
+                        .forEach(item -> item.setQuantity(quantity)));
+    }
+
+    @Override
+    public void removeItem(String email, Long productId) {
+        cartRepository.findByEmail(email).ifPresent(cart ->
+                cart.getItems().removeIf(item -> item.getProductId().equals(productId)));
+    }
+
+    @Override
+    public void clear(String email) {
+        cartRepository.findByEmail(email).ifPresent(cart -> cart.getItems().clear());
+    }
+
+    private Cart createEmptyCart(String email) {
+        return Cart.builder()
+                .email(email)
+                .createdAt(LocalDateTime.now())
+                .items(new ArrayList<>())
+                .build();
+    }
+}
@@ -0,0 +1,218 @@
+package com.playdata.orderingservice.cart.service;
+
+import com.playdata.orderingservice.cart.entity.Cart;
+import com.playdata.orderingservice.cart.entity.CartItem;
+import com.playdata.orderingservice.cart.repository.CartRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+
+// 장바구니를 Redis 해시(cart:{email}, 상품 ID -> 수량)로 관리
+// 담기/삭제/수량 변경은 HINCRBY/HDEL/HSET 한 번으로 끝나고,
+// MySQL 에는 변경된 장바구니만 모아서 주기적으로 반영한다. (write-behind)
+@Component
+@ConditionalOnProperty(name = "cart.store", havingValue = "redis")
+@Slf4j
+public class RedisCartStore implements CartStore {
+
+    private static final String KEY_PREFIX = "cart:";
+    // 변경되었지만 아직 MySQL 에 반영되지 않은 장바구니 이메일 목록
+    static final String DIRTY_KEY = "cart:dirty";
+    // MySQL 에 반영 중인 장바구니 이메일 목록 (반영이 끝나면 빠지고, 실패하면 DIRTY_KEY 로 되돌린다)
+    static final String FLUSHING_KEY = "cart:flushing";
+    // 해시가 존재한다는 표시 (항목이 모두 지워져도 DB 에서 다시 읽어오지 않도록)
+    private static final String LOADED_FIELD = "_loaded";
+
+    // 표시 필드가 없을 때만 DB 에서 읽은 항목을 채우고 표시 필드를 단다. (마지막 인자는 TTL ms)
+    // 확인과 채우기를 한 번에 해야, 먼저 적재된 뒤 지워진 항목을 늦게 도착한 다른 적재가 되살리지 않는다.
+    private static final RedisScript<Long> LOAD_SCRIPT = new DefaultRedisScript<>(
+            "local loaded = 0 " +
+                    "if redis.call('HEXISTS', KEYS[1], '" + LOADED_FIELD + "') == 0 then " +
+                    "for i = 1, #ARGV - 1, 2 do redis.call('HSETNX', KEYS[1], ARGV[i], ARGV[i + 1]) end " +
+                    "redis.call('HSET', KEYS[1], '" + LOADED_FIELD + "', '1') loaded = 1 " +
+                    "end redis.call('PEXPIRE', KEYS[1], ARGV[#ARGV]) return loaded",
+            Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final HashOperations<String, String, String> hashOps;
+    private final CartRepository cartRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    // 마지막 변경 후 이 시간이 지나면 Redis 에서 사라지고, 다음 접근 시 MySQL 에서 다시 읽는다.
+    private final Duration cartTtl;
+
+    @Value("${cart.redis.flush-batch-size:200}")
+    private int flushBatchSize;
+
+    public RedisCartStore(StringRedisTemplate redisTemplate,
+                          CartRepository cartRepository,
+                          TransactionTemplate transactionTemplate,
+                          @Value("${cart.redis.ttl-hours:72}") long ttlHours) {
+        this.redisTemplate = redisTemplate;
+        this.hashOps = redisTemplate.opsForHash();
+        this.cartRepository = cartRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.cartTtl = Duration.ofHours(ttlHours);
+    }
+
+    @Override
+    public Map<Long, Integer> getItems(String email) {
+        ensureLoaded(email);
+        Map<String, String> entries = hashOps.entries(key(email));
+
+        // 상품 ID 순으로 정렬해서 응답 순서를 일정하게 유지
+        Map<Long, Integer> items = new TreeMap<>();
+        entries.forEach((field, value) -> {
+            if (LOADED_FIELD.equals(field)) return;
+            int quantity = Integer.parseInt(value);
+            if (quantity > 0) items.put(Long.parseLong(field), quantity);
+        });
+        return items;
+    }
+
+    @Override
+    public boolean exists(String email) {
+        return Boolean.TRUE.equals(redisTemplate.hasKey(key(email)))
+                || cartRepository.findByEmail(email).isPresent();
+    }
+
+    @Override
+    public void addItem(String email, Long productId, int quantity) {
+        ensureLoaded(email);
+        hashOps.increment(key(email), String.valueOf(productId), quantity);
+        markDirty(email);
+    }
+
+    @Override
+    public void setQuantity(String email, Long productId, int quantity) {
+        ensureLoaded(email);
+        hashOps.put(key(email), String.valueOf(productId), String.valueOf(quantity));
+        markDirty(email);
+    }
+
+    @Override
+    public void removeItem(String email, Long productId) {
+        ensureLoaded(email);
+        hashOps.delete(key(email), String.valueOf(productId));
+        markDirty(email);
+    }
+
+    @Override
+    public void clear(String email) {
+        // 해시 자체를 지우면 다음 조회 때 (아직 반영 전인) MySQL 데이터를 다시 읽게 되므로 표시 필드만 남긴다.
+        String key = key(email);
+        hashOps.putIfAbsent(key, LOADED_FIELD, "1");
+        Set<String> fields = new HashSet<>(hashOps.keys(key));
+        fields.remove(LOADED_FIELD);
+        if (!fields.isEmpty()) {
+            hashOps.delete(key, fields.toArray());
+        }
+        markDirty(email);
+    }
+
+    // 변경된 장바구니를 MySQL 에 반영
+    // 꺼낸 이메일은 SMOVE 로 반영 중 목록에 옮겨 두어서, 반영 도중 pod 가 죽어도 목록에서 사라지지 않는다.
+    @Scheduled(fixedDelayString = "${cart.redis.flush-interval-ms:5000}")
+    public void flushDirtyCarts() {
+        try {
+            Set<String> emails = redisTemplate.opsForSet().distinctRandomMembers(DIRTY_KEY, flushBatchSize);
+            if (emails == null || emails.isEmpty()) return;
+
+            for (String email : emails) {
+                // 다른 pod 가 먼저 가져간 장바구니는 건너뛴다.
+                if (Boolean.TRUE.equals(redisTemplate.opsForSet().move(DIRTY_KEY, email, FLUSHING_KEY))) {
+                    flush(email);
+                }
+            }
+        } catch (Exception e) {
+            log.warn("cart write-behind flush failed: {}", e.getMessage());
+        }
+    }
+
+    void flush(String email) {
+        try {
+            Map<Long, Integer> items = getItems(email);
+            transactionTemplate.executeWithoutResult(status -> replaceItems(email, items));
+            redisTemplate.opsForSet().remove(FLUSHING_KEY, email);
+        } catch (Exception e) {
+            // 반영하지 못한 장바구니는 변경 목록으로 되돌려서 다음 주기에 다시 시도
+            log.warn("cart flush failed for {}: {}", email, e.getMessage());
+            redisTemplate.opsForSet().move(FLUSHING_KEY, email, DIRTY_KEY);
+        }
+    }
+
+    // 이전에 반영 도중 종료되어 반영 중 목록에 남은 장바구니를 변경 목록으로 되돌린다.
+    @EventListener(ApplicationReadyEvent.class)
+    public void requeueUnfinishedFlushes() {
+        try {
+            Set<String> unfinished = redisTemplate.opsForSet().members(FLUSHING_KEY);
+            if (unfinished == null) return;
+            unfinished.forEach(email -> redisTemplate.opsForSet().move(FLUSHING_KEY, email, DIRTY_KEY));
+        } catch (Exception e) {
+            log.warn("cart flush requeue failed: {}", e.getMessage());
+        }
+    }
+
+    // 처음 접근하는 장바구니는 MySQL 에 저장된 내용으로 채운다.
+    private void ensureLoaded(String email) {
+        String key = key(email);
+        if (hashOps.hasKey(key, LOADED_FIELD)) {
+            redisTemplate.expire(key, cartTtl);
+            return;
+        }
+
+        Map<String, String> loaded = new HashMap<>();
+        transactionTemplate.executeWithoutResult(status -> cartRepository.findByEmail(email).ifPresent(cart ->
+                cart.getItems().forEach(item -> loaded.merge(
+                        String.valueOf(item.getProductId()), String.valueOf(item.getQuantity()),
+                        (a, b) -> String.valueOf(Integer.parseInt(a) + Integer.parseInt(b))))));
+
+        // 다른 요청이 먼저 적재했으면(표시 필드가 있으면) 아무것도 쓰지 않는다.
+        List<String> args = new ArrayList<>();
+        loaded.forEach((field, value) -> {
+            args.add(field);
+            args.add(value);
+        });
+        args.add(String.valueOf(cartTtl.toMillis()));
+        redisTemplate.execute(LOAD_SCRIPT, List.of(key), args.toArray());
+    }
+
+    private void markDirty(String email) {
+        redisTemplate.opsForSet().add(DIRTY_KEY, email);
+    }
+
+    private void replaceItems(String email, Map<Long, Integer> items) {
+        Cart cart = cartRepository.findByEmail(email)
+                .orElseGet(() -> Cart.builder()
+                        .email(email)
+                        .createdAt(LocalDateTime.now())
+                        .items(new ArrayList<>())
+                        .build());
+
+        cart.getItems().clear();
+        items.forEach((productId, quantity) -> cart.getItems().add(CartItem.builder()
+                .productId(productId)
+                .quantity(quantity)
+                .cart(cart)
+                .build()));
+
+        cartRepository.save(cart);
+    }
+
+    private String key(String email) {
+        return KEY_PREFIX + email;
+    }
+}
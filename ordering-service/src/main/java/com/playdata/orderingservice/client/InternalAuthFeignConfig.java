@@ -0,0 +1,19 @@
+package com.playdata.orderingservice.client;
+
+import feign.RequestInterceptor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+
+// 서비스 내부 호출 전용 API(재고 예약/해제)를 부를 수 있도록 서비스 이름과 토큰을 헤더로 붙인다.
+// @Configuration 을 붙이지 않아서 이 설정을 지정한 Feign 클라이언트에만 적용된다.
+public class InternalAuthFeignConfig {
+
+    @Bean
+    public RequestInterceptor internalAuthInterceptor(@Value("${spring.application.name}") String serviceName,
+                                                      @Value("${internal-auth.token:}") String token) {
+        return template -> {
+            template.header("X-Internal-Service", serviceName);
+            template.header("X-Internal-Token", token);
+        };
+    }
+}
@@ -2,6 +2,8 @@ package com.playdata.orderingservice.client;
 
 import com.playdata.orderingservice.common.dto.CommonResDto;
 import com.playdata.orderingservice.ordering.dto.ProductResDto;
+import com.playdata.orderingservice.ordering.dto.StockReserveReqDto;
+import com.playdata.orderingservice.ordering.dto.StockReserveResDto;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -9,7 +11,8 @@ import org.springframework.web.bind.annotation.*;
 import java.util.List;
 import java.util.Map;
 
-@FeignClient(name = "product-service", url = "http://product-service.default.svc.cluster.local:8082")
+@FeignClient(name = "product-service", url = "http://product-service.default.svc.cluster.local:8082",
+        configuration = InternalAuthFeignConfig.class)
 public interface ProductServiceClient {
 
     // 상품 ID로 상품 정보를 조회하는 메서드
@@ -20,6 +23,16 @@ public interface ProductServiceClient {
     @PutMapping("/product/updateQuantity")
     ResponseEntity<?> updateQuantity(@RequestBody ProductResDto productResDto);
 
+    // 주문 상품들의 재고를 한 번의 요청으로 일괄 차감 (하나라도 부족하면 전체 롤백)
+    // 같은 Reservation-Key 로 다시 보내도 한 번만 차감된다.
+    @PostMapping("/product/reserve")
+    CommonResDto<List<StockReserveResDto>> reserveStock(@RequestHeader("Reservation-Key") String reservationKey,
+                                                         @RequestBody List<StockReserveReqDto> items);
+
+    // 재고 예약 해제 (예약 결과를 모를 때 되돌리기 위해 호출, 여러 번 호출해도 한 번만 반영)
+    @PostMapping("/product/reserve/release")
+    CommonResDto<String> releaseReservation(@RequestHeader("Reservation-Key") String reservationKey);
+
     // 여러 상품을 한 번에 조회하는 메서드
     @PostMapping("/product/products")
     CommonResDto<List<ProductResDto>> getProducts(@RequestBody List<Long> productIds);
@@ -0,0 +1,246 @@
+package com.playdata.orderingservice.common.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.playdata.orderingservice.client.ProductServiceClient;
+import com.playdata.orderingservice.common.bus.ProductChangedRemoteEvent;
+import com.playdata.orderingservice.common.dto.CommonResDto;
+import com.playdata.orderingservice.common.resilience.ResilientCaller;
+import com.playdata.orderingservice.ordering.dto.ProductResDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+// 상품 스냅샷 2단 캐시
+// 1단: 서비스 인스턴스 내부의 Caffeine 캐시 (크기/TTL 제한)
+// 2단: 인스턴스끼리 공유하는 Redis (RedisConfig 의 1번 DB)
+// 두 곳 모두에 없는 상품 ID만 모아서 product-service 에 한 번 요청한다.
+// 조회 화면(lookup)은 product-service 장애 시 마지막으로 알려진 스냅샷(product:lastknown:{id})으로 응답한다.
+// 상품이 바뀌면 product-service 가 버스로 ProductChangedRemoteEvent 를 보내고, 여기서 해당 항목을 지운다.
+// 무효화마다 세대 번호를 올리고, 조회를 시작한 뒤 세대가 바뀌었으면 읽어 온 스냅샷을 캐시에 쓰지 않는다.
+// (무효화 전에 읽은 옛 스냅샷이 무효화 뒤에 다시 저장되는 것 방지)
+@Component
+@Slf4j
+public class ProductSnapshotCache {
+
+    private static final String KEY_PREFIX = "product:snapshot:";
+    private static final String LAST_KNOWN_PREFIX = "product:lastknown:";
+
+    private final ProductServiceClient productServiceClient;
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final Cache<Long, ProductResDto> localCache;
+    private final Duration redisTtl;
+    private final Duration lastKnownTtl;
+    private final ResilientCaller resilientCaller;
+    private final AtomicLong generation = new AtomicLong();
+
+    private final Counter redisHitCounter;
+    private final Counter redisMissCounter;
+    private final Counter remoteFetchCounter;
+    private final Counter staleFallbackCounter;
+
+    public ProductSnapshotCache(ProductServiceClient productServiceClient,
+                                RedisTemplate<String, Object> redisTemplate,
+                                ResilientCaller resilientCaller,
+                                MeterRegistry meterRegistry,
+                                @Value("${product-cache.local.max-size:10000}") long localMaxSize,
+                                @Value("${product-cache.local.ttl-seconds:30}") long localTtlSeconds,
+                                @Value("${product-cache.redis.ttl-seconds:600}") long redisTtlSeconds,
+                                @Value("${product-cache.last-known.ttl-hours:168}") long lastKnownTtlHours) {
+        this.productServiceClient = productServiceClient;
+        this.redisTemplate = redisTemplate;
+        this.redisTtl = Duration.ofSeconds(redisTtlSeconds);
+        this.lastKnownTtl = Duration.ofHours(lastKnownTtlHours);
+        this.resilientCaller = resilientCaller;
+        this.localCache = Caffeine.newBuilder()
+                .maximumSize(localMaxSize)
+                .expireAfterWrite(Duration.ofSeconds(localTtlSeconds))
+                .recordStats()
+                .build();
+
+        // cache.gets / cache.puts / cache.evictions 등 (name=productSnapshot)
+        CaffeineCacheMetrics.monitor(meterRegistry, localCache, "productSnapshot");
+        this.redisHitCounter = Counter.builder("product.snapshot.redis")
+                .tag("result", "hit")
+                .description("Redis 에서 찾은 상품 스냅샷 수")
+                .register(meterRegistry);
+        this.redisMissCounter = Counter.builder("product.snapshot.redis")
+                .tag("result", "miss")
+                .description("Redis 에도 없어서 product-service 로 요청한 상품 스냅샷 수")
+                .register(meterRegistry);
+        this.remoteFetchCounter = Counter.builder("product.snapshot.remote.requests")
+                .description("product-service 로 보낸 상품 조회 요청 수")
+                .register(meterRegistry);
+        this.staleFallbackCounter = Counter.builder("product.snapshot.stale.fallbacks")
+                .description("product-service 장애로 마지막 스냅샷을 대신 돌려준 횟수")
+                .register(meterRegistry);
+    }
+
+    // 조회 결과. stale = product-service 장애로 마지막으로 알려진 스냅샷을 대신 사용함
+    public record ProductLookup(Map<Long, ProductResDto> products, boolean stale) {
+    }
+
+    // 상품 ID 목록으로 상품 정보를 조회 (ID -> 상품)
+    // product-service 호출이 실패하면 예외 발생 (주문 생성처럼 최신 정보가 꼭 필요한 곳에서 사용)
+    public Map<Long, ProductResDto> getProducts(Collection<Long> productIds) {
+        Set<Long> ids = new LinkedHashSet<>(productIds);
+        if (ids.isEmpty()) return Collections.emptyMap();
+
+        long requestGeneration = generation.get();
+        Map<Long, ProductResDto> result = readCached(ids, requestGeneration);
+        List<Long> misses = missing(ids, result);
+        if (misses.isEmpty()) return result;
+
+        result.putAll(fetch(misses, requestGeneration));
+        return result;
+    }
+
+    // 조회 화면용: product-service 호출이 실패하면 마지막으로 알려진 스냅샷으로 대신 응답
+    public ProductLookup lookup(Collection<Long> productIds) {
+        Set<Long> ids = new LinkedHashSet<>(productIds);
+        if (ids.isEmpty()) return new ProductLookup(Collections.emptyMap(), false);
+
+        long requestGeneration = generation.get();
+        Map<Long, ProductResDto> result = readCached(ids, requestGeneration);
+        List<Long> misses = missing(ids, result);
+        if (misses.isEmpty()) return new ProductLookup(result, false);
+
+        try {
+            result.putAll(fetch(misses, requestGeneration));
+            return new ProductLookup(result, false);
+        } catch (RuntimeException e) {
+            log.warn("product-service 조회 실패, 마지막 스냅샷으로 응답: {}", e.getMessage());
+            staleFallbackCounter.increment();
+            result.putAll(readFromRedis(LAST_KNOWN_PREFIX, misses));
+            return new ProductLookup(result, true);
+        }
+    }
+
+    // 1. 로컬 캐시 -> 2. Redis
+    private Map<Long, ProductResDto> readCached(Set<Long> ids, long requestGeneration) {
+        Map<Long, ProductResDto> result = new HashMap<>(localCache.getAllPresent(ids));
+        List<Long> misses = missing(ids, result);
+        if (misses.isEmpty()) return result;
+
+        Map<Long, ProductResDto> fromRedis = readFromRedis(KEY_PREFIX, misses);
+        redisHitCounter.increment(fromRedis.size());
+        redisMissCounter.increment(misses.size() - fromRedis.size());
+        if (generation.get() == requestGeneration) {
+            localCache.putAll(fromRedis);
+        }
+        result.putAll(fromRedis);
+        return result;
+    }
+
+    // 3. 남은 ID만 product-service 에 요청
+    private Map<Long, ProductResDto> fetch(List<Long> misses, long requestGeneration) {
+        remoteFetchCounter.increment();
+        CommonResDto<List<ProductResDto>> productResponse = resilientCaller.read(
+                ResilientCaller.PRODUCT_SERVICE, () -> productServiceClient.getProducts(misses));
+        if (productResponse == null || productResponse.getResult() == null) {
+            throw new RuntimeException("상품 정보 조회 실패");
+        }
+
+        Map<Long, ProductResDto> fetched = productResponse.getResult().stream()
+                .collect(Collectors.toMap(ProductResDto::getId, p -> p, (a, b) -> a));
+        if (generation.get() != requestGeneration) {
+            // 조회하는 사이에 무효화됨. 이번 호출에만 쓰고 캐시에는 남기지 않는다.
+            return fetched;
+        }
+        localCache.putAll(fetched);
+        writeToRedis(fetched);
+        // 확인과 저장 사이에 무효화가 끼어들었으면 방금 쓴 항목을 다시 지운다.
+        if (generation.get() != requestGeneration) {
+            evict(fetched.keySet());
+        }
+        return fetched;
+    }
+
+    private List<Long> missing(Set<Long> ids, Map<Long, ProductResDto> found) {
+        return ids.stream()
+                .filter(id -> !found.containsKey(id))
+                .collect(Collectors.toList());
+    }
+
+    // 지정한 상품들의 캐시를 로컬/Redis 양쪽에서 제거
+    public void invalidate(Collection<Long> productIds) {
+        if (productIds == null || productIds.isEmpty()) return;
+
+        // 지우기 전에 올려야 진행 중인 조회가 지운 뒤에 옛 스냅샷을 쓰지 못한다.
+        generation.incrementAndGet();
+        evict(productIds);
+    }
+
+    private void evict(Collection<Long> productIds) {
+        localCache.invalidateAll(productIds);
+        try {
+            redisTemplate.delete(productIds.stream().map(this::key).collect(Collectors.toList()));
+        } catch (Exception e) {
+            log.warn("product snapshot redis invalidate failed: {}", e.getMessage());
+        }
+    }
+
+    // product-service 에서 상품 변경 이벤트가 오면 캐시 무효화
+    @EventListener
+    public void onProductChanged(ProductChangedRemoteEvent event) {
+        log.debug("product changed: {}", event.getProductIds());
+        invalidate(event.getProductIds());
+    }
+
+    private Map<Long, ProductResDto> readFromRedis(String prefix, List<Long> ids) {
+        Map<Long, ProductResDto> found = new HashMap<>();
+        try {
+            List<Object> values = redisTemplate.opsForValue()
+                    .multiGet(ids.stream().map(id -> prefix + id).collect(Collectors.toList()));
+            if (values != null) {
+                for (int i = 0; i < ids.size(); i++) {
+                    if (values.get(i) instanceof ProductResDto product) {
+                        found.put(ids.get(i), product);
+                    }
+                }
+            }
+        } catch (Exception e) {
+            // Redis 장애 시에도 주문/장바구니는 동작해야 하므로 product-service 조회로 넘어간다.
+            log.warn("product snapshot redis read failed: {}", e.getMessage());
+        }
+        return found;
+    }
+
+    private void writeToRedis(Map<Long, ProductResDto> products) {
+        if (products.isEmpty()) return;
+        try {
+            // 한 번의 왕복으로 여러 키를 TTL과 함께 저장
+            redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(RedisOperations<K, V> operations) {
+                    RedisOperations<String, Object> ops = (RedisOperations<String, Object>) operations;
+                    products.forEach((id, product) -> {
+                        ops.opsForValue().set(key(id), product, redisTtl);
+                        // 변경 이벤트로 지워지지 않는 장애 대비용 사본
+                        ops.opsForValue().set(LAST_KNOWN_PREFIX + id, product, lastKnownTtl);
+                    });
+                    return null;
+                }
+            });
+        } catch (Exception e) {
+            log.warn("product snapshot redis write failed: {}", e.getMessage());
+        }
+    }
+
+    private String key(Long productId) {
+        return KEY_PREFIX + productId;
+    }
+}
@@ -5,12 +5,18 @@ import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFacto
 import org.springframework.amqp.rabbit.connection.ConnectionFactory;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.messaging.converter.JsonbMessageConverter;
 
 @Configuration
 public class RabbitMQConfig {
+
+    public static final String ORDER_EXCHANGE = "order.exchange";
+    public static final String ADMIN_NOTIFICATION_QUEUE = "admin.order.notifications";
+    public static final String ORDER_CREATED_ROUTING_KEY = "order.create";
+
     /*
     목표: 주문이 생성되면 → 관리자에게 알림이 가도록 "메시지 전달 경로" 만들기
 
@@ -28,7 +34,7 @@ public class RabbitMQConfig {
      */
     @Bean
     public TopicExchange orderExchange() {
-        return new TopicExchange("order.exchange");
+        return new TopicExchange(ORDER_EXCHANGE);
     }
 
 
@@ -48,7 +54,7 @@ public class RabbitMQConfig {
      */
     @Bean
     public Queue orderQueue() {
-        return QueueBuilder.durable("admin.order.notifications")
+        return QueueBuilder.durable(ADMIN_NOTIFICATION_QUEUE)
                 .withArgument("x-message-ttl",360000)
                 .build();
     }
@@ -62,7 +68,7 @@ public class RabbitMQConfig {
         return BindingBuilder
                 .bind(orderQueue())
                 .to(orderExchange())
-                .with("order.create");
+                .with(ORDER_CREATED_ROUTING_KEY);
     }
 
     /**
@@ -76,6 +82,8 @@ public class RabbitMQConfig {
 
     // RabbitTemplate 설정
     // 역할: 메시지 발송자 (Producer) - "편지를 우체통에 넣는 도구"
+    // 주문 이벤트는 아웃박스 릴레이가 traceparent 헤더를 직접 넣어 보내므로 (MessageTracing)
+    // 템플릿의 관측(observation) 기능은 켜지 않는다. 켜면 릴레이 스케줄러의 trace 로 헤더가 덮어써진다.
     @Bean
     public RabbitTemplate rabbitTemplate(ConnectionFactory connectionFactory) {
         RabbitTemplate rabbitTemplate = new RabbitTemplate(connectionFactory);
@@ -91,6 +99,33 @@ public class RabbitMQConfig {
         SimpleRabbitListenerContainerFactory factory = new SimpleRabbitListenerContainerFactory();
         factory.setConnectionFactory(connectionFactory);
         factory.setMessageConverter(messageConverter());
+        factory.setObservationEnabled(true); // 메시지의 traceparent 를 이어받아 소비 span 생성
+        return factory;
+    }
+
+    // 배치 Listener 설정
+    // 큐에서 여러 메세지를 한 번에 꺼내서 List 로 전달 (관리자 알림처럼 몰려오는 메세지용)
+    // prefetch: 소비자에게 미리 보내둘 메세지 수 / batch-size: 한 번에 묶을 메세지 수
+    // receive-timeout: batch-size 를 못 채워도 이 시간이 지나면 모인 만큼 전달
+    @Bean
+    public SimpleRabbitListenerContainerFactory batchRabbitListenerContainerFactory(
+            ConnectionFactory connectionFactory,
+            @Value("${rabbit.notification.prefetch:250}") int prefetch,
+            @Value("${rabbit.notification.batch-size:50}") int batchSize,
+            @Value("${rabbit.notification.receive-timeout-ms:200}") long receiveTimeoutMs,
+            @Value("${rabbit.notification.concurrency.min:1}") int minConsumers,
+            @Value("${rabbit.notification.concurrency.max:4}") int maxConsumers) {
+
+        SimpleRabbitListenerContainerFactory factory = new SimpleRabbitListenerContainerFactory();
+        factory.setConnectionFactory(connectionFactory);
+        factory.setMessageConverter(messageConverter());
+        factory.setBatchListener(true);
+        factory.setConsumerBatchEnabled(true);
+        factory.setBatchSize(batchSize);
+        factory.setReceiveTimeout(receiveTimeoutMs);
+        factory.setPrefetchCount(Math.max(prefetch, batchSize));
+        factory.setConcurrentConsumers(minConsumers);
+        factory.setMaxConcurrentConsumers(maxConsumers);
         return factory;
     }
 }
@@ -2,6 +2,7 @@ package com.playdata.orderingservice.common.exception;
 
 import com.playdata.orderingservice.common.dto.CommonErrorDto;
 import jakarta.persistence.EntityNotFoundException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authorization.AuthorizationDeniedException;
@@ -38,6 +39,32 @@ public class CommonExceptionHandler {
         return new ResponseEntity<>(errorDto, HttpStatus.FORBIDDEN);
     }
 
+    // 같은 Idempotency-Key 로 처리 중인 요청이 있을 때
+    @ExceptionHandler(IdempotencyConflictException.class)
+    public ResponseEntity<?> idempotencyConflictHandler(IdempotencyConflictException e) {
+        CommonErrorDto errorDto
+                = new CommonErrorDto(HttpStatus.CONFLICT, e.getMessage());
+        return new ResponseEntity<>(errorDto, HttpStatus.CONFLICT);
+    }
+
+    // 같은 Idempotency-Key 를 다른 요청 내용으로 재사용했을 때
+    @ExceptionHandler(IdempotencyKeyMismatchException.class)
+    public ResponseEntity<?> idempotencyKeyMismatchHandler(IdempotencyKeyMismatchException e) {
+        CommonErrorDto errorDto
+                = new CommonErrorDto(HttpStatus.UNPROCESSABLE_ENTITY, e.getMessage());
+        return new ResponseEntity<>(errorDto, HttpStatus.UNPROCESSABLE_ENTITY);
+    }
+
+    // 다른 서비스 호출 한도 초과 시 대기 없이 바로 503
+    @ExceptionHandler(DependencyOverloadedException.class)
+    public ResponseEntity<?> dependencyOverloadedHandler(DependencyOverloadedException e) {
+        CommonErrorDto errorDto
+                = new CommonErrorDto(HttpStatus.SERVICE_UNAVAILABLE, e.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(errorDto);
+    }
+
     // 미처 준비하지 못한 타입의 예외가 발생했을 시 처리할 메서드
     @ExceptionHandler(Exception.class)
     public ResponseEntity<?> exceptionHandler(Exception e) {
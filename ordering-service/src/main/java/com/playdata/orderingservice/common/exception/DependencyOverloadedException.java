@@ -0,0 +1,10 @@
+package com.playdata.orderingservice.common.exception;
+
+// 다른 서비스 호출이 동시 호출 한도(벌크헤드/리미터)에 걸려 보내지 못했을 때 발생
+// 요청을 대기시키지 않고 503 으로 바로 응답한다.
+public class DependencyOverloadedException extends RuntimeException {
+
+    public DependencyOverloadedException(String message) {
+        super(message);
+    }
+}
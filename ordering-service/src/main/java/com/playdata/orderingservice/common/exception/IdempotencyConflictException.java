@@ -0,0 +1,9 @@
+package com.playdata.orderingservice.common.exception;
+
+// 같은 Idempotency-Key 요청이 아직 처리 중이라 결과를 돌려줄 수 없을 때 발생
+public class IdempotencyConflictException extends RuntimeException {
+
+    public IdempotencyConflictException(String message) {
+        super(message);
+    }
+}
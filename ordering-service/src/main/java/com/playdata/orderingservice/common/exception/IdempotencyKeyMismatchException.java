@@ -0,0 +1,9 @@
+package com.playdata.orderingservice.common.exception;
+
+// 같은 Idempotency-Key 를 다른 요청 내용으로 다시 사용했을 때 발생
+public class IdempotencyKeyMismatchException extends RuntimeException {
+
+    public IdempotencyKeyMismatchException(String message) {
+        super(message);
+    }
+}
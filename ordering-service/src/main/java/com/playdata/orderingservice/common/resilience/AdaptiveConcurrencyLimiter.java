@@ -0,0 +1,59 @@
+package com.playdata.orderingservice.common.resilience;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 관찰한 응답 시간으로 동시 호출 허용 수를 조절하는 AIMD 리미터
+// - 기준 시간 안에 응답하고 허용 수의 절반 이상을 쓰고 있으면 허용 수 +1 (additive increase)
+// - 타임아웃/거절이 나거나 기준 시간을 넘기면 허용 수 * backoffRatio (multiplicative decrease)
+// tryAcquire 는 기다리지 않는다. 허용 수를 넘으면 바로 false 를 돌려주고 호출하는 쪽이 빠르게 실패시킨다.
+public class AdaptiveConcurrencyLimiter {
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final long latencyThresholdNanos;
+    private final double backoffRatio;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private volatile double limit;
+
+    public AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit,
+                                      long latencyThresholdMs, double backoffRatio) {
+        if (minLimit < 1 || maxLimit < minLimit) {
+            throw new IllegalArgumentException("잘못된 리미터 범위: min=" + minLimit + ", max=" + maxLimit);
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.latencyThresholdNanos = latencyThresholdMs * 1_000_000L;
+        this.backoffRatio = backoffRatio;
+        this.limit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+    }
+
+    // 허용 수 안이면 자리를 잡고 true
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= (int) limit) return false;
+            if (inFlight.compareAndSet(current, current + 1)) return true;
+        }
+    }
+
+    // 호출이 끝나면 반드시 호출. dropped = 타임아웃/과부하 등 상대 서비스가 버거워한다는 신호
+    public void release(long latencyNanos, boolean dropped) {
+        int current = inFlight.getAndDecrement();
+        synchronized (this) {
+            if (dropped || latencyNanos > latencyThresholdNanos) {
+                limit = Math.max(minLimit, limit * backoffRatio);
+            } else if (current * 2 >= limit) {
+                limit = Math.min(maxLimit, limit + 1);
+            }
+        }
+    }
+
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+}
@@ -0,0 +1,201 @@
+package com.playdata.orderingservice.common.resilience;
+
+import com.playdata.orderingservice.common.exception.DependencyOverloadedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.retry.Retry;
+import io.github.resilience4j.retry.RetryRegistry;
+import io.github.resilience4j.timelimiter.TimeLimiter;
+import io.github.resilience4j.timelimiter.TimeLimiterRegistry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.support.ContextPropagatingTaskDecorator;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+// 다른 서비스(Feign) 호출에 application.yml 의 resilience4j 인스턴스(userService, productService, productServiceUpdate)를 적용
+// 호출 순서: 동시 호출 리미터 -> Retry -> CircuitBreaker -> TimeLimiter -> 벌크헤드 스레드 풀 -> 실제 호출
+// 조회(read)는 재시도하고, 재고 차감 같은 쓰기(write)는 중복 반영을 막기 위해 재시도하지 않는다.
+// 인스턴스마다 스레드 풀(벌크헤드)과 리미터가 따로 있어서, 한 서비스가 느려져도 다른 서비스 호출은 영향을 받지 않는다.
+// 한도에 걸리면 기다리지 않고 DependencyOverloadedException(503)으로 바로 실패한다.
+@Component
+@Slf4j
+public class ResilientCaller implements DisposableBean {
+
+    public static final String USER_SERVICE = "userService";
+    public static final String PRODUCT_SERVICE = "productService";
+    public static final String PRODUCT_SERVICE_UPDATE = "productServiceUpdate";
+
+    private final CircuitBreakerRegistry circuitBreakerRegistry;
+    private final TimeLimiterRegistry timeLimiterRegistry;
+    private final RetryRegistry retryRegistry;
+    private final MeterRegistry meterRegistry;
+    private final Environment environment;
+
+    private final Map<String, Dependency> dependencies = new ConcurrentHashMap<>();
+
+    public ResilientCaller(CircuitBreakerRegistry circuitBreakerRegistry,
+                           TimeLimiterRegistry timeLimiterRegistry,
+                           RetryRegistry retryRegistry,
+                           MeterRegistry meterRegistry,
+                           Environment environment) {
+        this.circuitBreakerRegistry = circuitBreakerRegistry;
+        this.timeLimiterRegistry = timeLimiterRegistry;
+        this.retryRegistry = retryRegistry;
+        this.meterRegistry = meterRegistry;
+        this.environment = environment;
+
+        // 서킷 상태 전이 / 차단된 호출 수를 메트릭으로 기록
+        circuitBreakerRegistry.getAllCircuitBreakers().forEach(this::bindMetrics);
+        circuitBreakerRegistry.getEventPublisher().onEntryAdded(event -> bindMetrics(event.getAddedEntry()));
+    }
+
+    // 조회용 호출 (재시도 포함)
+    public <T> T read(String name, Supplier<T> call) {
+        return execute(name, call, true);
+    }
+
+    // 쓰기용 호출 (재시도 없음)
+    public <T> T write(String name, Supplier<T> call) {
+        return execute(name, call, false);
+    }
+
+    private <T> T execute(String name, Supplier<T> call, boolean retryable) {
+        Dependency dependency = dependencies.computeIfAbsent(name, this::createDependency);
+        if (!dependency.limiter.tryAcquire()) {
+            dependency.limitRejected.increment();
+            throw new DependencyOverloadedException(name + " 호출이 많아 잠시 후 다시 시도해 주세요.");
+        }
+
+        TimeLimiter timeLimiter = timeLimiterRegistry.timeLimiter(name);
+        CircuitBreaker circuitBreaker = circuitBreakerRegistry.circuitBreaker(name);
+
+        Callable<T> guarded = CircuitBreaker.decorateCallable(circuitBreaker,
+                timeLimiter.decorateFutureSupplier(() -> submit(dependency, call)));
+        if (retryable) {
+            guarded = Retry.decorateCallable(retryRegistry.retry(name), guarded);
+        }
+
+        long start = System.nanoTime();
+        boolean dropped = false;
+        try {
+            return guarded.call();
+        } catch (DependencyOverloadedException e) {
+            dropped = true;
+            throw e;
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (TimeoutException e) {
+            dropped = true;
+            throw new RuntimeException(name + " 호출 시간 초과", e);
+        } catch (Exception e) {
+            // 그 밖의 checked 예외
+            throw new RuntimeException(name + " 호출 실패: " + e.getMessage(), e);
+        } finally {
+            dependency.limiter.release(System.nanoTime() - start, dropped);
+        }
+    }
+
+    // 벌크헤드 풀은 대기 큐가 없으므로 스레드가 모두 사용 중이면 바로 거절된다.
+    // (타임아웃으로 포기한 호출이 아직 스레드를 잡고 있는 경우에도 새 호출이 쌓이지 않음)
+    private <T> CompletableFuture<T> submit(Dependency dependency, Supplier<T> call) {
+        try {
+            return CompletableFuture.supplyAsync(call, dependency.executor);
+        } catch (RejectedExecutionException e) {
+            dependency.bulkheadRejected.increment();
+            throw new DependencyOverloadedException(dependency.name + " 호출 스레드가 모두 사용 중입니다.");
+        }
+    }
+
+    // outbound.dependencies.{name}.* 설정이 없으면 outbound.defaults.* 사용
+    private Dependency createDependency(String name) {
+        int maxThreads = setting(name, "max-threads", Integer.class, 20);
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(
+                setting(name, "initial-limit", Integer.class, 10),
+                setting(name, "min-limit", Integer.class, 2),
+                maxThreads,
+                setting(name, "latency-threshold-ms", Long.class, 500L),
+                setting(name, "backoff-ratio", Double.class, 0.9));
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(maxThreads);
+        executor.setMaxPoolSize(maxThreads);
+        executor.setQueueCapacity(0);
+        executor.setThreadNamePrefix("outbound-" + name + "-");
+        // 호출 스레드의 trace 컨텍스트를 넘겨야 Feign 요청이 같은 trace 의 span 이 되고 traceparent 헤더가 붙는다.
+        executor.setTaskDecorator(new ContextPropagatingTaskDecorator());
+        executor.initialize();
+
+        Gauge.builder("outbound.limiter.limit", limiter, AdaptiveConcurrencyLimiter::getLimit)
+                .tag("name", name)
+                .description("현재 허용된 동시 호출 수")
+                .register(meterRegistry);
+        Gauge.builder("outbound.limiter.inflight", limiter, AdaptiveConcurrencyLimiter::getInFlight)
+                .tag("name", name)
+                .description("진행 중인 호출 수")
+                .register(meterRegistry);
+        Gauge.builder("outbound.bulkhead.active", executor, ThreadPoolTaskExecutor::getActiveCount)
+                .tag("name", name)
+                .description("벌크헤드 풀에서 사용 중인 스레드 수")
+                .register(meterRegistry);
+
+        log.info("outbound {} : max-threads={}, initial-limit={}", name, maxThreads, limiter.getLimit());
+        return new Dependency(name, executor, limiter,
+                rejectedCounter(name, "limit"), rejectedCounter(name, "bulkhead"));
+    }
+
+    private <V> V setting(String name, String key, Class<V> type, V defaultValue) {
+        V fallback = environment.getProperty("outbound.defaults." + key, type, defaultValue);
+        return environment.getProperty("outbound.dependencies." + name + "." + key, type, fallback);
+    }
+
+    private Counter rejectedCounter(String name, String reason) {
+        return Counter.builder("outbound.calls.rejected")
+                .tag("name", name)
+                .tag("reason", reason)
+                .description("보내지 않고 바로 실패시킨 호출 수")
+                .register(meterRegistry);
+    }
+
+    private void bindMetrics(CircuitBreaker circuitBreaker) {
+        String name = circuitBreaker.getName();
+        Counter rejected = rejectedCounter(name, "circuit_open");
+
+        circuitBreaker.getEventPublisher()
+                .onStateTransition(event -> {
+                    log.warn("circuit breaker {} : {}", name, event.getStateTransition());
+                    Counter.builder("outbound.circuitbreaker.transitions")
+                            .tag("name", name)
+                            .tag("from", event.getStateTransition().getFromState().name())
+                            .tag("to", event.getStateTransition().getToState().name())
+                            .description("서킷 상태 전이 횟수")
+                            .register(meterRegistry)
+                            .increment();
+                })
+                .onCallNotPermitted(event -> rejected.increment());
+    }
+
+    @Override
+    public void destroy() {
+        dependencies.values().forEach(dependency -> dependency.executor.shutdown());
+    }
+
+    private record Dependency(String name,
+                              ThreadPoolTaskExecutor executor,
+                              AdaptiveConcurrencyLimiter limiter,
+                              Counter limitRejected,
+                              Counter bulkheadRejected) {
+    }
+}
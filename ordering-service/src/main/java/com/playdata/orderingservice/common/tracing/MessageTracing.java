@@ -0,0 +1,56 @@
+package com.playdata.orderingservice.common.tracing;
+
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+import io.micrometer.tracing.propagation.Propagator;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+// 아웃박스를 거쳐 나가는 메시지의 trace 연결
+// 주문 요청 스레드에서 traceparent 를 꺼내 아웃박스에 저장해 두고,
+// 릴레이가 발행할 때 그 trace 의 자식 span 을 만들어 AMQP 헤더에 넣는다.
+// (릴레이는 스케줄러 스레드라서 RabbitTemplate 관측 기능에 맡기면 주문 요청과 다른 trace 로 끊긴다.)
+// 추적이 꺼져 있으면(management.tracing.enabled=false) 아무 것도 하지 않는다.
+@Component
+public class MessageTracing {
+
+    public static final String TRACEPARENT = "traceparent";
+
+    private final Tracer tracer;
+    private final Propagator propagator;
+
+    public MessageTracing(ObjectProvider<Tracer> tracer, ObjectProvider<Propagator> propagator) {
+        this.tracer = tracer.getIfAvailable(() -> Tracer.NOOP);
+        this.propagator = propagator.getIfAvailable(() -> Propagator.NOOP);
+    }
+
+    // 현재 요청의 traceparent (없으면 null)
+    public String currentTraceParent() {
+        Span span = tracer.currentSpan();
+        if (span == null) {
+            return null;
+        }
+        Map<String, String> carrier = new HashMap<>();
+        propagator.inject(span.context(), carrier, Map::put);
+        return carrier.get(TRACEPARENT);
+    }
+
+    // 저장해 둔 traceparent 를 부모로 하는 발행 span 을 시작하고, 그 컨텍스트를 메시지 헤더에 넣는다.
+    // 호출한 쪽에서 발행이 끝나면 span.end() 해야 한다.
+    public Span startPublishSpan(String traceParent, String destination, MessageProperties properties) {
+        Span span = (traceParent == null
+                ? tracer.spanBuilder().setNoParent()
+                : propagator.extract(traceParent, (carrier, key) -> TRACEPARENT.equals(key) ? carrier : null))
+                .name(destination + " send")
+                .kind(Span.Kind.PRODUCER)
+                .tag("messaging.system", "rabbitmq")
+                .tag("messaging.destination.name", destination)
+                .start();
+        propagator.inject(span.context(), properties, MessageProperties::setHeader);
+        return span;
+    }
+}
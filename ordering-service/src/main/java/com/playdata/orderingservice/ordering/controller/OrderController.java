@@ -2,9 +2,10 @@ package com.playdata.orderingservice.ordering.controller;
 
 import com.playdata.orderingservice.common.auth.TokenUserInfo;
 import com.playdata.orderingservice.common.dto.CommonResDto;
+import com.playdata.orderingservice.ordering.dto.OrderPageResDto;
 import com.playdata.orderingservice.ordering.dto.OrderRequestDto;
 import com.playdata.orderingservice.ordering.dto.OrderResponseDto;
-import com.playdata.orderingservice.ordering.entity.Order;
+import com.playdata.orderingservice.ordering.service.OrderIdempotencyService;
 import com.playdata.orderingservice.ordering.service.OrderService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -14,7 +15,6 @@ import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 import java.nio.file.AccessDeniedException;
-import java.util.List;
 
 @RestController
 @RequestMapping("/orders")
@@ -23,25 +23,40 @@ import java.util.List;
 public class OrderController {
 
     private final OrderService orderService;
+    private final OrderIdempotencyService orderIdempotencyService;
 
     @PostMapping("/create")
     public ResponseEntity<?> createOrder(
             @AuthenticationPrincipal TokenUserInfo userInfo, // 로그인된 사용자 정보
-            @RequestBody OrderRequestDto orderRequestDto
+            @RequestBody OrderRequestDto orderRequestDto,
+            // 재시도된 요청이 주문을 두 번 만들지 않도록 클라이언트가 보내는 고유 키 (선택)
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey
     ) {
         log.info("/order/create: POST, userInfo: {}", userInfo);
         log.info("orderRequestDto: {}", orderRequestDto);
 
         // 이메일을 통해 로그인된 사용자의 정보를 전달하고 주문 생성
-        Order order = orderService.createOrder(orderRequestDto, userInfo);
+        Long orderId;
+        boolean replayed = false;
+        if (idempotencyKey == null) {
+            orderId = orderService.createOrder(orderRequestDto, userInfo).getOrderId();
+        } else {
+            OrderIdempotencyService.Result result = orderIdempotencyService.execute(
+                    userInfo.getEmail(), idempotencyKey, orderRequestDto,
+                    () -> orderService.createOrder(orderRequestDto, userInfo).getOrderId());
+            orderId = result.orderId();
+            replayed = result.replayed();
+        }
 
         CommonResDto resDto = new CommonResDto(
                 HttpStatus.CREATED,
                 "정상 주문 완료",
-                order.getOrderId()
+                orderId
         );
 
-        return new ResponseEntity<>(resDto, HttpStatus.CREATED);
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .header("Idempotent-Replayed", String.valueOf(replayed))
+                .body(resDto);
     }
 
     // 주문 조회
@@ -50,16 +65,22 @@ public class OrderController {
         return orderService.getOrder(orderId, userInfo);
     }
 
-    // 사용자의 전체 주문 조회 (email로 조회)
+    // 사용자의 주문 내역 조회 (email로 조회, 최신순 커서 페이지)
+    // 다음 페이지는 응답의 nextCursor 를 cursor 로 넘겨서 조회
     @GetMapping("/userOrder")
-    public List<OrderResponseDto> getOrders(@RequestParam String email, @AuthenticationPrincipal TokenUserInfo userInfo) throws AccessDeniedException {
-        return orderService.getOrdersByEmail(email, userInfo);
+    public OrderPageResDto getOrders(@RequestParam String email,
+                                     @RequestParam(required = false) String cursor,
+                                     @RequestParam(defaultValue = "20") int size,
+                                     @AuthenticationPrincipal TokenUserInfo userInfo) throws AccessDeniedException {
+        return orderService.getOrdersByEmail(email, cursor, size, userInfo);
     }
 
-    // 사용자의 전체 주문 조회 (email로 조회)
+    // 사용자의 주문 내역 조회 (서버 간 통신용, 최신순 커서 페이지)
     @GetMapping("/userOrderServer")
-    public List<OrderResponseDto> getOrdersServer(@RequestParam String email){
-        return orderService.getOrdersByEmailServer(email);
+    public OrderPageResDto getOrdersServer(@RequestParam String email,
+                                           @RequestParam(required = false) String cursor,
+                                           @RequestParam(defaultValue = "20") int size){
+        return orderService.getOrdersByEmailServer(email, cursor, size);
     }
 
     // 주문 상태 변경
@@ -0,0 +1,42 @@
+package com.playdata.orderingservice.ordering.dto;
+
+import lombok.*;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+
+// 커서 기반 주문 내역 페이지
+// nextCursor 를 다음 요청의 cursor 파라미터로 그대로 넘기면 이어서 조회된다. (마지막 페이지면 null)
+@Getter @Setter @ToString
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OrderPageResDto {
+
+    private List<OrderResponseDto> orders;
+    private String nextCursor;
+    private boolean hasNext;
+    private boolean stale; // true 면 상품 정보가 마지막으로 알려진 스냅샷 (product-service 장애)
+
+    // 커서 = base64url("주문일시_주문ID")
+    public static String encodeCursor(LocalDateTime orderedAt, Long orderId) {
+        String raw = orderedAt + "_" + orderId;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static Cursor decodeCursor(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int idx = raw.lastIndexOf('_');
+            return new Cursor(LocalDateTime.parse(raw.substring(0, idx)), Long.parseLong(raw.substring(idx + 1)));
+        } catch (Exception e) {
+            throw new IllegalArgumentException("잘못된 커서입니다: " + cursor);
+        }
+    }
+
+    public record Cursor(LocalDateTime orderedAt, Long orderId) {
+    }
+}
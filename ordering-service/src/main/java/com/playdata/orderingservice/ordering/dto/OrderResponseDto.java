@@ -22,6 +22,7 @@ public class OrderResponseDto {
     private String address; // 배송지 주소
     private List<OrderItemDto> orderItems; // 주문 항목 리스트
     private String email; // 이메일
+    private boolean stale; // true 면 상품 정보가 마지막으로 알려진 스냅샷 (product-service 장애)
 
 
 }
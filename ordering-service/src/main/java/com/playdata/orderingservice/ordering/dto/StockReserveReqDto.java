@@ -0,0 +1,13 @@
+package com.playdata.orderingservice.ordering.dto;
+
+import lombok.*;
+
+// product-service 재고 일괄 차감 요청 항목
+@Getter @Setter @ToString
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StockReserveReqDto {
+    private Long productId;
+    private int quantity;
+}
@@ -0,0 +1,14 @@
+package com.playdata.orderingservice.ordering.dto;
+
+import lombok.*;
+
+// product-service 재고 일괄 차감 결과 (상품별 성공 여부)
+@Getter @Setter @ToString
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StockReserveResDto {
+    private Long productId;
+    private int quantity;
+    private boolean success;
+}
@@ -12,7 +12,10 @@ import java.util.List;
 @NoArgsConstructor
 @Builder
 @Entity
-@Table(name = "orders")
+@Table(name = "orders", indexes = {
+        // 사용자별 주문 내역 커서 페이지 조회용 (email, 주문일시, 주문ID)
+        @Index(name = "idx_orders_email_ordered_at", columnList = "email, ordered_at, order_id")
+})
 public class Order {
 
     @Id
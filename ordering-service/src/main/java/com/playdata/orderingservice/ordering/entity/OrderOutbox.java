@@ -0,0 +1,48 @@
+package com.playdata.orderingservice.ordering.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+// 트랜잭셔널 아웃박스: 주문과 같은 트랜잭션에서 이벤트를 기록해두고,
+// 릴레이가 나중에 모아서 브로커(order.exchange)로 발행한다.
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Entity
+@Table(name = "order_outbox",
+        indexes = @Index(name = "idx_order_outbox_pending", columnList = "published_at, outbox_id"))
+public class OrderOutbox {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "outbox_id")
+    private Long id;
+
+    @Column(name = "aggregate_id", nullable = false)
+    private Long aggregateId; // 주문 ID
+
+    @Column(name = "event_type", nullable = false, length = 50)
+    private String eventType; // ORDER_CREATED 등
+
+    @Column(name = "routing_key", nullable = false, length = 100)
+    private String routingKey; // order.exchange 에서 사용할 라우팅 키
+
+    @Column(name = "payload", nullable = false, columnDefinition = "TEXT")
+    private String payload; // 직렬화된 이벤트(JSON)
+
+    // 주문 요청의 W3C traceparent. 발행 메시지를 같은 trace 로 이어 붙이는 데 사용 (추적이 꺼져 있으면 null)
+    @Column(name = "trace_parent", length = 64)
+    private String traceParent;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    // 발행이 확인(publisher confirm)된 시각. null 이면 아직 발행 전
+    @Setter
+    @Column(name = "published_at")
+    private LocalDateTime publishedAt;
+
+}
@@ -0,0 +1,34 @@
+package com.playdata.orderingservice.ordering.repository;
+
+import com.playdata.orderingservice.ordering.entity.OrderOutbox;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface OrderOutboxRepository extends JpaRepository<OrderOutbox, Long> {
+
+    // 아직 발행되지 않은 이벤트를 오래된 순으로 가져온다.
+    // 여러 파드가 동시에 릴레이를 돌려도 같은 행을 중복 발행하지 않도록 SKIP LOCKED(-2) 사용
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT o FROM OrderOutbox o WHERE o.publishedAt IS NULL ORDER BY o.id ASC")
+    List<OrderOutbox> findPendingForUpdate(Pageable pageable);
+
+    // 릴레이 지연(가장 오래된 미발행 이벤트) 측정용
+    Optional<OrderOutbox> findFirstByPublishedAtIsNullOrderByIdAsc();
+
+    @Modifying
+    @Query("UPDATE OrderOutbox o SET o.publishedAt = :publishedAt WHERE o.id IN :ids")
+    int markPublished(@Param("ids") List<Long> ids, @Param("publishedAt") LocalDateTime publishedAt);
+
+    // 보관 기간이 지난 발행 완료 이벤트 정리
+    @Modifying
+    @Query("DELETE FROM OrderOutbox o WHERE o.publishedAt IS NOT NULL AND o.publishedAt < :before")
+    int deletePublishedBefore(@Param("before") LocalDateTime before);
+}
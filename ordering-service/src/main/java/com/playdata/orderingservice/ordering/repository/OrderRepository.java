@@ -1,12 +1,38 @@
 package com.playdata.orderingservice.ordering.repository;
 
 import com.playdata.orderingservice.ordering.entity.Order;
+import com.playdata.orderingservice.ordering.entity.OrderStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface OrderRepository extends JpaRepository<Order, Long> {
-    // 이메일로 주문을 찾도록
-    List<Order> findAllByEmail(String email);
-}
\ No newline at end of file
+    // 주문 내역 첫 페이지의 주문 ID (최신순, 제외 상태는 SQL 에서 거름)
+    @Query("SELECT o.orderId FROM Order o " +
+            "WHERE o.email = :email AND o.orderStatus <> :excluded " +
+            "ORDER BY o.orderedAt DESC, o.orderId DESC")
+    List<Long> findPageIds(@Param("email") String email,
+                           @Param("excluded") OrderStatus excluded,
+                           Pageable pageable);
+
+    // 커서(orderedAt, orderId) 이후 페이지의 주문 ID - offset 없이 인덱스 범위로 바로 찾아간다.
+    @Query("SELECT o.orderId FROM Order o " +
+            "WHERE o.email = :email AND o.orderStatus <> :excluded " +
+            "AND (o.orderedAt < :orderedAt OR (o.orderedAt = :orderedAt AND o.orderId < :orderId)) " +
+            "ORDER BY o.orderedAt DESC, o.orderId DESC")
+    List<Long> findPageIdsAfter(@Param("email") String email,
+                                @Param("excluded") OrderStatus excluded,
+                                @Param("orderedAt") LocalDateTime orderedAt,
+                                @Param("orderId") Long orderId,
+                                Pageable pageable);
+
+    // 주문 + 주문 항목을 한 번의 쿼리로 조회 (N+1 방지)
+    @Query("SELECT DISTINCT o FROM Order o LEFT JOIN FETCH o.orderItems WHERE o.orderId IN :ids")
+    List<Order> findAllWithItemsByOrderIdIn(@Param("ids") Collection<Long> ids);
+}
@@ -0,0 +1,75 @@
+package com.playdata.orderingservice.ordering.service;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.support.ContextPropagatingTaskDecorator;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.concurrent.DelegatingSecurityContextExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.function.Supplier;
+
+// 주문 생성 시 서로 독립적인 원격 조회(사용자, 장바구니+상품)를 동시에 실행하기 위한 스레드 풀
+// - 크기가 제한되어 있어서 원격 서비스가 느려져도 스레드가 무한정 늘어나지 않는다.
+// - ThreadPoolExecutor 는 큐가 가득 찬 뒤에야 core 이상으로 스레드를 늘리므로 core = max 로 두고,
+//   한가할 때는 core 스레드도 정리되도록 한다. 큐까지 가득 차면 즉시 거절(AbortPolicy)한다.
+// - 작업을 FutureTask 로 실행해서, 반환된 future 를 cancel 하면 실행 중인 스레드가 실제로 interrupt 된다.
+//   (CompletableFuture.supplyAsync 의 cancel 은 결과만 취소 상태로 바꾸고 작업은 계속 실행됨)
+// - 요청 스레드의 SecurityContext 와 trace 컨텍스트(observation)를 작업 스레드로 전달한다.
+// Executor 타입 빈으로 등록하면 스프링 부트 기본 applicationTaskExecutor 가 빠지므로 별도 컴포넌트로 감싼다.
+@Component
+public class CheckoutExecutor implements DisposableBean {
+
+    private final ThreadPoolTaskExecutor threadPool;
+    private final Executor executor;
+
+    public CheckoutExecutor(@Value("${checkout.executor.pool-size:64}") int poolSize,
+                            @Value("${checkout.executor.queue-capacity:200}") int queueCapacity) {
+        threadPool = new ThreadPoolTaskExecutor();
+        threadPool.setCorePoolSize(poolSize);
+        threadPool.setMaxPoolSize(poolSize);
+        threadPool.setAllowCoreThreadTimeOut(true);
+        threadPool.setQueueCapacity(queueCapacity);
+        threadPool.setThreadNamePrefix("checkout-");
+        threadPool.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        threadPool.setWaitForTasksToCompleteOnShutdown(true);
+        threadPool.setTaskDecorator(new ContextPropagatingTaskDecorator());
+        threadPool.initialize();
+        executor = new DelegatingSecurityContextExecutor(threadPool);
+    }
+
+    public <T> CompletableFuture<T> supplyAsync(Supplier<T> task) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        FutureTask<Void> futureTask = new FutureTask<>(() -> {
+            try {
+                result.complete(task.get());
+            } catch (Throwable e) {
+                result.completeExceptionally(e);
+            }
+            return null;
+        });
+        executor.execute(futureTask);
+
+        // 호출한 쪽에서 결과를 취소하면 실행 중인 작업 스레드도 interrupt
+        result.whenComplete((value, e) -> {
+            if (result.isCancelled()) {
+                futureTask.cancel(true);
+            }
+        });
+        return result;
+    }
+
+    // 현재 풀에 만들어진 스레드 수
+    int getPoolSize() {
+        return threadPool.getPoolSize();
+    }
+
+    @Override
+    public void destroy() {
+        threadPool.shutdown();
+    }
+}
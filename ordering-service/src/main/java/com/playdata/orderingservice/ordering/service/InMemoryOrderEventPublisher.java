@@ -0,0 +1,40 @@
+package com.playdata.orderingservice.ordering.service;
+
+import com.playdata.orderingservice.ordering.entity.OrderOutbox;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+// 브로커 없이 아웃박스 흐름을 확인하기 위한 메모리 발행기 (outbox.publisher=memory)
+@Component
+@ConditionalOnProperty(name = "outbox.publisher", havingValue = "memory")
+@Slf4j
+public class InMemoryOrderEventPublisher implements OrderEventPublisher {
+
+    private final List<OrderOutbox> published = new CopyOnWriteArrayList<>();
+    private final List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void publishBatch(List<OrderOutbox> events) {
+        published.addAll(events);
+        batchSizes.add(events.size());
+        log.debug("in-memory order events published: {}", events.size());
+    }
+
+    public List<OrderOutbox> getPublished() {
+        return new ArrayList<>(published);
+    }
+
+    public List<Integer> getBatchSizes() {
+        return new ArrayList<>(batchSizes);
+    }
+
+    public void clear() {
+        published.clear();
+        batchSizes.clear();
+    }
+}
@@ -0,0 +1,15 @@
+package com.playdata.orderingservice.ordering.service;
+
+import com.playdata.orderingservice.ordering.entity.OrderOutbox;
+
+import java.util.List;
+
+// 아웃박스 릴레이가 사용하는 발행기.
+// 운영에서는 RabbitMQ(order.exchange), 테스트/로컬에서는 메모리 구현을 사용한다.
+public interface OrderEventPublisher {
+
+    // 배치 전체를 발행하고 브로커의 확인(confirm)을 기다린다.
+    // 확인을 받지 못하면 예외를 던지며, 이 경우 배치 전체가 다음 주기에 재발행된다.
+    void publishBatch(List<OrderOutbox> events);
+
+}
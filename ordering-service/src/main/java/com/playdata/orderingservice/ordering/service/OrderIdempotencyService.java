@@ -0,0 +1,154 @@
+package com.playdata.orderingservice.ordering.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.playdata.orderingservice.common.exception.IdempotencyConflictException;
+import com.playdata.orderingservice.common.exception.IdempotencyKeyMismatchException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+// 주문 생성 멱등성 처리 (Idempotency-Key 헤더)
+// Redis 에 "처리 중" 표시를 SETNX 로 먼저 올린 요청만 실제로 주문을 만들고,
+// 결과(주문 ID)를 저장해 두었다가 같은 키로 다시 들어온 요청에는 그 결과를 그대로 돌려준다.
+// 동시에 들어온 중복 요청은 첫 요청이 끝날 때까지 기다린다.
+// - 처리 중 표시에는 요청마다 다른 토큰을 넣고, 결과 저장/삭제는 토큰이 같을 때만 한다. (Lua 로 비교+변경)
+//   TTL 이 지나 다른 요청이 키를 가져간 뒤에 늦게 끝난 요청이 남의 표시를 지우거나 덮어쓰지 않도록.
+// - 요청 본문의 해시를 같이 저장해서, 같은 키를 다른 내용으로 다시 쓰면 422 로 거절한다.
+@Service
+@Slf4j
+public class OrderIdempotencyService {
+
+    private static final String KEY_PREFIX = "idem:order:";
+    private static final String IN_PROGRESS_PREFIX = "IN_PROGRESS:";
+    private static final String DONE_PREFIX = "DONE:";
+    private static final int MAX_KEY_LENGTH = 100;
+
+    // 값이 내가 올린 처리 중 표시일 때만 결과로 바꾼다.
+    private static final RedisScript<Long> COMPLETE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then " +
+                    "redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[3]) return 1 " +
+                    "end return 0",
+            Long.class);
+
+    // 값이 내가 올린 처리 중 표시일 때만 지운다.
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then " +
+                    "return redis.call('DEL', KEYS[1]) " +
+                    "end return 0",
+            Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    // 처리 중 표시 유지 시간 (pod 가 죽어도 이 시간이 지나면 다시 시도 가능)
+    private final Duration inFlightTtl;
+    // 완료 결과 보관 시간
+    private final Duration completedTtl;
+    // 중복 요청이 첫 요청을 기다리는 최대 시간
+    private final Duration waitTimeout;
+
+    private final long pollIntervalMs;
+
+    public OrderIdempotencyService(StringRedisTemplate redisTemplate,
+                                   ObjectMapper objectMapper,
+                                   @Value("${idempotency.in-flight-ttl-seconds:120}") long inFlightTtlSeconds,
+                                   @Value("${idempotency.completed-ttl-hours:24}") long completedTtlHours,
+                                   @Value("${idempotency.wait-timeout-ms:30000}") long waitTimeoutMs,
+                                   @Value("${idempotency.poll-interval-ms:50}") long pollIntervalMs) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.inFlightTtl = Duration.ofSeconds(inFlightTtlSeconds);
+        this.completedTtl = Duration.ofHours(completedTtlHours);
+        this.waitTimeout = Duration.ofMillis(waitTimeoutMs);
+        this.pollIntervalMs = pollIntervalMs;
+    }
+
+    // 결과와 함께 이번 요청이 재전송(기존 결과 반환)이었는지 알려준다.
+    public record Result(Long orderId, boolean replayed) {
+    }
+
+    public Result execute(String email, String idempotencyKey, Object request, Supplier<Long> createOrder) {
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            throw new IllegalArgumentException("Idempotency-Key 는 1~" + MAX_KEY_LENGTH + "자여야 합니다.");
+        }
+        // 다른 사용자가 같은 키를 써도 섞이지 않도록 이메일 단위로 구분
+        String key = KEY_PREFIX + email + ":" + idempotencyKey;
+        String requestHash = hash(request);
+        long deadline = System.currentTimeMillis() + waitTimeout.toMillis();
+
+        while (true) {
+            String marker = IN_PROGRESS_PREFIX + UUID.randomUUID() + ":" + requestHash;
+            if (Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(key, marker, inFlightTtl))) {
+                return new Result(runFirst(key, marker, requestHash, createOrder), false);
+            }
+
+            // 값 형식: IN_PROGRESS:{토큰}:{해시} 또는 DONE:{주문ID}:{해시}
+            // value == null 이면 첫 요청이 실패해서 키가 지워진 것 -> 다시 선점 시도
+            String value = redisTemplate.opsForValue().get(key);
+            if (value != null) {
+                String[] parts = value.split(":");
+                if (!parts[2].equals(requestHash)) {
+                    throw new IdempotencyKeyMismatchException("같은 Idempotency-Key 로 다른 주문 요청을 보낼 수 없습니다.");
+                }
+                if (value.startsWith(DONE_PREFIX)) {
+                    log.info("idempotent replay: {}", key);
+                    return new Result(Long.parseLong(parts[1]), true);
+                }
+            }
+
+            if (System.currentTimeMillis() > deadline) {
+                throw new IdempotencyConflictException("같은 Idempotency-Key 의 주문이 아직 처리 중입니다.");
+            }
+            sleep();
+        }
+    }
+
+    private Long runFirst(String key, String marker, String requestHash, Supplier<Long> createOrder) {
+        Long orderId;
+        try {
+            orderId = createOrder.get();
+        } catch (RuntimeException e) {
+            // 실패한 요청은 결과를 남기지 않아서 클라이언트가 같은 키로 다시 시도할 수 있게 한다.
+            redisTemplate.execute(RELEASE_SCRIPT, List.of(key), marker);
+            throw e;
+        }
+        Long updated = redisTemplate.execute(COMPLETE_SCRIPT, List.of(key),
+                marker, DONE_PREFIX + orderId + ":" + requestHash, String.valueOf(completedTtl.toMillis()));
+        if (updated == null || updated == 0) {
+            // 처리 중 표시가 만료되어 다른 요청이 키를 가져간 경우 (in-flight-ttl-seconds 가 너무 짧음)
+            log.warn("idempotency marker expired before completion: {}, orderId={}", key, orderId);
+        }
+        return orderId;
+    }
+
+    // 요청 본문(JSON)의 SHA-256
+    private String hash(Object request) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(objectMapper.writeValueAsBytes(request)));
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new IllegalArgumentException("주문 요청을 해석할 수 없습니다.", e);
+        }
+    }
+
+    private void sleep() {
+        try {
+            Thread.sleep(pollIntervalMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IdempotencyConflictException("중복 주문 요청 대기 중 중단되었습니다.");
+        }
+    }
+}
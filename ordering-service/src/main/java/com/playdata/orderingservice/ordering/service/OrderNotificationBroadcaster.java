@@ -0,0 +1,79 @@
+package com.playdata.orderingservice.ordering.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.playdata.orderingservice.common.dto.OrderNotificationEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+// 주문 알림을 모든 ordering-service pod 의 관리자 SSE 구독자에게 전달
+// 1. 큐에서 배치로 소비한 알림을 JSON 배열로 한 번만 직렬화
+// 2. Redis 채널로 발행 -> 모든 pod 가 수신
+// 3. 각 pod 는 받은 JSON 문자열을 다시 변환하지 않고 자기 pod 에 연결된 구독자에게 그대로 전송
+@Component
+@Slf4j
+public class OrderNotificationBroadcaster implements MessageListener {
+
+    public static final String SSE_EVENT_NAME = "ordered";
+
+    private final StringRedisTemplate redisTemplate;
+    private final SseEmitterHub sseEmitterHub;
+    private final ObjectMapper objectMapper;
+    private final String channel;
+
+    public OrderNotificationBroadcaster(StringRedisTemplate redisTemplate,
+                                        RedisMessageListenerContainer listenerContainer,
+                                        SseEmitterHub sseEmitterHub,
+                                        ObjectMapper objectMapper,
+                                        @Value("${sse.broadcast.channel:order:notifications}") String channel) {
+        this.redisTemplate = redisTemplate;
+        this.sseEmitterHub = sseEmitterHub;
+        this.objectMapper = objectMapper;
+        this.channel = channel;
+        listenerContainer.addMessageListener(this, new ChannelTopic(channel));
+    }
+
+    // 큐 배치 소비로 묶여서 들어온 알림을 하나의 메시지로 발행
+    public void publishBatch(List<OrderNotificationEvent> batch) {
+        if (batch.isEmpty()) return;
+
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(batch);
+        } catch (JsonProcessingException e) {
+            log.error("order notification serialize failed: {}", e.getMessage());
+            return;
+        }
+
+        try {
+            redisTemplate.convertAndSend(channel, json);
+        } catch (Exception e) {
+            // Redis 장애 시 최소한 이 pod 의 구독자에게는 전달
+            log.warn("order notification publish failed, delivering locally: {}", e.getMessage());
+            deliverLocally(json);
+        }
+    }
+
+    // 다른 pod(자기 자신 포함)가 발행한 알림 수신
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        deliverLocally(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+
+    private void deliverLocally(String json) {
+        sseEmitterHub.broadcastToAdmins(SseEmitter.event()
+                .name(SSE_EVENT_NAME)
+                .data(json, MediaType.APPLICATION_JSON));
+    }
+}
@@ -0,0 +1,28 @@
+package com.playdata.orderingservice.ordering.service;
+
+import com.playdata.orderingservice.common.configs.RabbitMQConfig;
+import com.playdata.orderingservice.common.dto.OrderNotificationEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+// 관리자 주문 알림 큐 소비자
+// 큐는 pod 들이 나눠서 소비하므로, 받은 알림은 broadcaster 를 통해 모든 pod 의 구독자에게 퍼뜨린다.
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OrderNotificationListener {
+
+    private final OrderNotificationBroadcaster broadcaster;
+
+    // 큐에서 한 번에 꺼낸 알림 묶음을 하나의 SSE 이벤트로 전달
+    @RabbitListener(queues = RabbitMQConfig.ADMIN_NOTIFICATION_QUEUE,
+            containerFactory = "batchRabbitListenerContainerFactory")
+    public void onOrderNotifications(List<OrderNotificationEvent> events) {
+        log.debug("order notifications received: {}", events.size());
+        broadcaster.publishBatch(events);
+    }
+}
@@ -0,0 +1,128 @@
+package com.playdata.orderingservice.ordering.service;
+
+import com.playdata.orderingservice.ordering.entity.OrderOutbox;
+import com.playdata.orderingservice.ordering.repository.OrderOutboxRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 아웃박스 릴레이: 미발행 이벤트를 배치로 꺼내 브로커로 발행한다.
+// 주문 생성 요청은 브로커를 기다리지 않고, 몰려온 주문들은 몇 번의 배치 발행으로 처리된다.
+@Component
+@Slf4j
+public class OrderOutboxRelay {
+
+    private final OrderOutboxRepository orderOutboxRepository;
+    private final OrderEventPublisher orderEventPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    private final DistributionSummary batchSizeSummary;
+    private final Counter publishedCounter;
+    private final Counter failureCounter;
+    private final AtomicLong lagMillis = new AtomicLong();
+
+    @Value("${outbox.relay.batch-size:100}")
+    private int batchSize;
+
+    // 한 번의 주기에서 최대 몇 개의 배치를 연달아 비울지 (폭주 시 밀린 이벤트를 빨리 따라잡기 위함)
+    @Value("${outbox.relay.max-batches-per-run:10}")
+    private int maxBatchesPerRun;
+
+    @Value("${outbox.relay.retention-hours:24}")
+    private long retentionHours;
+
+    public OrderOutboxRelay(OrderOutboxRepository orderOutboxRepository,
+                            OrderEventPublisher orderEventPublisher,
+                            TransactionTemplate transactionTemplate,
+                            MeterRegistry meterRegistry) {
+        this.orderOutboxRepository = orderOutboxRepository;
+        this.orderEventPublisher = orderEventPublisher;
+        this.transactionTemplate = transactionTemplate;
+
+        this.batchSizeSummary = DistributionSummary.builder("outbox.relay.batch.size")
+                .description("한 번에 발행한 아웃박스 이벤트 수")
+                .register(meterRegistry);
+        this.publishedCounter = Counter.builder("outbox.relay.published")
+                .description("발행 완료된 아웃박스 이벤트 수")
+                .register(meterRegistry);
+        this.failureCounter = Counter.builder("outbox.relay.failures")
+                .description("발행에 실패한 배치 수")
+                .register(meterRegistry);
+        Gauge.builder("outbox.relay.lag", lagMillis, lag -> lag.get() / 1000.0)
+                .description("가장 오래된 미발행 이벤트의 대기 시간(초)")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.relay.interval-ms:500}")
+    public void relay() {
+        try {
+            for (int i = 0; i < maxBatchesPerRun; i++) {
+                int published = relayBatch();
+                if (published < batchSize) break; // 더 이상 밀린 이벤트가 없음
+            }
+        } catch (Exception e) {
+            failureCounter.increment();
+            log.error("order outbox relay failed: {}", e.getMessage());
+        } finally {
+            updateLag();
+        }
+    }
+
+    // 한 배치를 잠그고(SKIP LOCKED) 발행한 뒤, confirm 을 받으면 발행 완료로 표시한다.
+    // 발행이 실패하면 트랜잭션이 롤백되어 다음 주기에 다시 시도된다.
+    int relayBatch() {
+        Integer count = transactionTemplate.execute(status -> {
+            List<OrderOutbox> pending
+                    = orderOutboxRepository.findPendingForUpdate(PageRequest.of(0, batchSize));
+            if (pending.isEmpty()) return 0;
+
+            orderEventPublisher.publishBatch(pending);
+
+            List<Long> ids = pending.stream().map(OrderOutbox::getId).toList();
+            orderOutboxRepository.markPublished(ids, LocalDateTime.now());
+            return pending.size();
+        });
+
+        int published = count == null ? 0 : count;
+        if (published > 0) {
+            batchSizeSummary.record(published);
+            publishedCounter.increment(published);
+        }
+        return published;
+    }
+
+    private void updateLag() {
+        try {
+            long lag = orderOutboxRepository.findFirstByPublishedAtIsNullOrderByIdAsc()
+                    .map(oldest -> Duration.between(oldest.getCreatedAt(), LocalDateTime.now()).toMillis())
+                    .orElse(0L);
+            lagMillis.set(Math.max(lag, 0));
+        } catch (Exception e) {
+            log.warn("order outbox lag check failed: {}", e.getMessage());
+        }
+    }
+
+    // 발행이 끝난 이벤트는 보관 기간이 지나면 정리한다.
+    @Scheduled(fixedDelayString = "${outbox.relay.cleanup-interval-ms:3600000}")
+    public void cleanup() {
+        LocalDateTime before = LocalDateTime.now().minusHours(retentionHours);
+        Integer deleted = transactionTemplate.execute(
+                status -> orderOutboxRepository.deletePublishedBefore(before));
+        if (deleted != null && deleted > 0) {
+            log.info("published order outbox events cleaned up: {}", deleted);
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.playdata.orderingservice.ordering.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.playdata.orderingservice.common.configs.RabbitMQConfig;
+import com.playdata.orderingservice.common.dto.OrderNotificationEvent;
+import com.playdata.orderingservice.common.tracing.MessageTracing;
+import com.playdata.orderingservice.ordering.entity.Order;
+import com.playdata.orderingservice.ordering.entity.OrderOutbox;
+import com.playdata.orderingservice.ordering.repository.OrderOutboxRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+// 주문 이벤트를 아웃박스 테이블에 기록한다.
+// 반드시 주문 저장과 같은 트랜잭션 안에서 호출되어야 한다. (MANDATORY)
+@Service
+@RequiredArgsConstructor
+public class OrderOutboxService {
+
+    public static final String ORDER_CREATED = "ORDER_CREATED";
+
+    private final OrderOutboxRepository orderOutboxRepository;
+    private final ObjectMapper objectMapper;
+    private final MessageTracing messageTracing;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public OrderOutbox appendOrderCreated(Order order) {
+        OrderNotificationEvent event = OrderNotificationEvent.fromOrdering(order);
+
+        String payload;
+        try {
+            payload = objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("주문 이벤트 직렬화 실패: " + order.getOrderId(), e);
+        }
+
+        OrderOutbox outbox = OrderOutbox.builder()
+                .aggregateId(order.getOrderId())
+                .eventType(ORDER_CREATED)
+                .routingKey(RabbitMQConfig.ORDER_CREATED_ROUTING_KEY)
+                .payload(payload)
+                .traceParent(messageTracing.currentTraceParent())
+                .createdAt(LocalDateTime.now())
+                .build();
+
+        return orderOutboxRepository.save(outbox);
+    }
+}
@@ -4,8 +4,10 @@ import com.playdata.orderingservice.client.ProductServiceClient;
 import com.playdata.orderingservice.client.UserServiceClient;
 import com.playdata.orderingservice.common.auth.Role;
 import com.playdata.orderingservice.common.auth.TokenUserInfo;
+import com.playdata.orderingservice.common.cache.ProductSnapshotCache;
 import com.playdata.orderingservice.common.dto.CommonResDto;
-import com.playdata.orderingservice.ordering.controller.SseController;
+import com.playdata.orderingservice.common.exception.DependencyOverloadedException;
+import com.playdata.orderingservice.common.resilience.ResilientCaller;
 import com.playdata.orderingservice.ordering.dto.*;
 import com.playdata.orderingservice.ordering.entity.Order;
 import com.playdata.orderingservice.ordering.entity.OrderItem;
@@ -17,12 +19,19 @@ import com.playdata.orderingservice.cart.dto.CartResponseDto;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.math.BigDecimal;
 import java.nio.file.AccessDeniedException;
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 @Service
@@ -35,8 +44,18 @@ public class OrderService {
     private final UserServiceClient userServiceClient;
     private final ProductServiceClient productServiceClient;
     private final CartService cartService;
+    private final OrderOutboxService orderOutboxService;
+    private final TransactionTemplate transactionTemplate;
+    private final CheckoutExecutor checkoutExecutor;
+    private final ProductSnapshotCache productSnapshotCache;
+    private final ResilientCaller resilientCaller;
 
-    private final SseController sseController;
+    // 주문 내역 한 페이지의 최대 크기
+    private static final int MAX_ORDER_PAGE_SIZE = 100;
+
+    // 사용자/장바구니 동시 조회 전체에 허용하는 최대 대기 시간
+    @Value("${checkout.fan-out-timeout-ms:10000}")
+    private long fanOutTimeoutMs;
 
     // 주문 생성
     public Order createOrder(OrderRequestDto orderRequestDto, TokenUserInfo tokenUserInfo) {
@@ -45,26 +64,17 @@ public class OrderService {
             throw new RuntimeException("토큰에서 사용자 정보를 가져올 수 없습니다.");
         }
 
-        // 사용자 정보 조회 (주소 포함)
-        CommonResDto<UserResDto> userResponse = userServiceClient.findByEmail(userEmail);
-        if (userResponse == null || userResponse.getResult() == null) {
-            throw new RuntimeException("사용자 정보가 없습니다.");
-        }
-        String address = userResponse.getResult().getAddress();
-
-        // 1. 장바구니 조회
-        CartResponseDto cartResponse = cartService.getCart(tokenUserInfo);
-        List<CartResponseDto.CartItemDetailDto> cartItems = cartResponse.getItems();
-
-        // 2. 상품 ID 목록 추출
-        List<Long> productIds = cartItems.stream()
-                .map(CartResponseDto.CartItemDetailDto::getProductId)
-                .collect(Collectors.toList());
+        // 1. 사용자 정보(주소) 조회와 장바구니+상품 조회는 서로 독립적이므로 동시에 실행
+        //    체크아웃 지연 시간이 두 조회의 합이 아니라 더 느린 쪽으로 줄어든다.
+        CompletableFuture<String> addressFuture
+                = checkoutExecutor.supplyAsync(() -> findUserAddress(userEmail));
+        CompletableFuture<CheckoutCart> cartFuture
+                = checkoutExecutor.supplyAsync(() -> loadCheckoutCart(tokenUserInfo));
+        awaitAll(addressFuture, cartFuture);
 
-        // 3. 상품 정보 조회 (가격 포함)
-        List<ProductResDto> productList = getProductsByIds(productIds);
-        Map<Long, ProductResDto> productMap = productList.stream()
-                .collect(Collectors.toMap(ProductResDto::getId, p -> p));
+        String address = addressFuture.join();
+        List<CartResponseDto.CartItemDetailDto> cartItems = cartFuture.join().cartItems();
+        Map<Long, ProductResDto> productMap = cartFuture.join().productMap();
 
         // 4. 주문 항목 생성
         List<OrderItem> orderItems = cartItems.stream()
@@ -102,39 +112,66 @@ public class OrderService {
         // 7. 저장
         orderRepository.save(order);
 
-        // 8. 장바구니 비우기
-        cartService.clearCart(tokenUserInfo);
-
-        // 9. 상품 수량 감소 요청
-        cartItems.forEach(cartItem -> {
-            ProductResDto product = productMap.get(cartItem.getProductId());
-            if (product != null) {
-                int newQuantity = product.getStockQuantity() - cartItem.getQuantity(); // 수량 차감
-                product.setStockQuantity(newQuantity); // 상품 수량 업데이트
-
-                // 상품 수량 업데이트 요청
-                try {
-                    productServiceClient.updateQuantity(product); // 수량 업데이트 호출
-                } catch (Exception e) {
-                    log.error("상품 수량 업데이트 실패: {}", e.getMessage());
-                    throw new RuntimeException("상품 수량 업데이트 실패");
-                }
-            }
-        });
+        // 8. 재고 일괄 차감 요청 (장바구니 크기와 상관없이 한 번의 호출)
+        List<StockReserveReqDto> reserveItems = orderItems.stream()
+                .map(item -> new StockReserveReqDto(item.getProductId(), item.getQuantity()))
+                .collect(Collectors.toList());
+        // 주문 ID 로 예약 키를 만들어서, 결과를 모를 때 같은 키로 예약을 해제할 수 있게 한다.
+        // product-service 는 호출한 서비스 이름으로 시작하는 키만 받는다.
+        String reservationKey = "ordering-service:order-" + order.getOrderId();
 
-        // 10. 주문 상태 업데이트
-        order.setOrderStatus(OrderStatus.ORDERED); // 주문 완료 상태로 변경
-        Order save = orderRepository.save(order);// 변경된 상태 저장
+        CommonResDto<List<StockReserveResDto>> reserveResponse;
+        try {
+            // 재고 차감은 중복 반영되지 않도록 재시도 없이 서킷/타임아웃만 적용
+            reserveResponse = resilientCaller.write(ResilientCaller.PRODUCT_SERVICE_UPDATE,
+                    () -> productServiceClient.reserveStock(reservationKey, reserveItems));
+        } catch (Exception e) {
+            log.error("상품 수량 업데이트 실패: {}", e.getMessage());
+            order.setOrderStatus(OrderStatus.PENDING_PROD_STOCK_UPDATE);
+            orderRepository.save(order);
+            if (e instanceof DependencyOverloadedException overloaded) {
+                throw overloaded; // 요청을 보내지도 못한 경우 503 (되돌릴 재고 없음)
+            }
+            // 타임아웃 등으로 응답만 못 받았을 수 있다. product-service 에서 이미 커밋됐다면 재고를 되돌린다.
+            releaseReservation(reservationKey);
+            throw new RuntimeException("상품 수량 업데이트 실패");
+        }
 
+        List<Long> outOfStockIds = reserveResponse.getResult().stream()
+                .filter(result -> !result.isSuccess())
+                .map(StockReserveResDto::getProductId)
+                .collect(Collectors.toList());
+        if (!outOfStockIds.isEmpty()) {
+            order.setOrderStatus(OrderStatus.PENDING_PROD_STOCK_UPDATE);
+            orderRepository.save(order);
+            throw new IllegalArgumentException("재고가 부족한 상품이 있습니다. ID: " + outOfStockIds);
+        }
 
-        //관리자에게 주문이 생성되었다는 알림을 전송 <미구현>
-//        sseController.sendOrderMessage(save);
+        Order save;
+        try {
+            // 9. 장바구니 비우기 (재고 차감이 끝난 뒤에 비워서, 실패 시 장바구니가 남아있도록)
+            cartService.clearCart(tokenUserInfo);
+
+            // 10. 주문 상태 업데이트 + 아웃박스 기록 (같은 트랜잭션)
+            // 관리자 알림 이벤트는 아웃박스 릴레이가 비동기로 발행하므로, 주문 생성은 브로커를 기다리지 않는다.
+            save = transactionTemplate.execute(status -> {
+                order.setOrderStatus(OrderStatus.ORDERED); // 주문 완료 상태로 변경
+                Order saved = orderRepository.save(order); // 변경된 상태 저장
+                orderOutboxService.appendOrderCreated(saved);
+                return saved;
+            });
+        } catch (RuntimeException e) {
+            // 주문을 완료하지 못했으면 차감한 재고를 되돌린다.
+            releaseReservation(reservationKey);
+            throw e;
+        }
 
         return save;
     }
 
-    // 사용자 전체 주문 조회
-    public List<OrderResponseDto> getOrdersByEmail(String email, TokenUserInfo tokenUserInfo) throws AccessDeniedException {
+    // 사용자 주문 내역 조회 (커서 기반 페이지)
+    public OrderPageResDto getOrdersByEmail(String email, String cursor, int size,
+                                            TokenUserInfo tokenUserInfo) throws AccessDeniedException {
         // 관리자 권한 체크
         if (!isAdmin(tokenUserInfo)) {
             // 사용자가 자신만의 주문을 조회할 수 있도록
@@ -143,28 +180,7 @@ public class OrderService {
             }
         }
 
-        List<Order> orders = orderRepository.findAllByEmail(email).stream()
-                .filter(order -> order.getOrderStatus() != OrderStatus.CANCELED)
-                .collect(Collectors.toList());
-
-        // 모든 주문에서 상품 ID만 추출
-        List<Long> productIds = orders.stream()
-                .flatMap(order -> order.getOrderItems().stream())
-                .map(OrderItem::getProductId)
-                .distinct()
-                .collect(Collectors.toList());
-
-        // 상품 정보 조회
-        List<ProductResDto> productList = getProductsByIds(productIds);
-
-        // 상품 정보를 Map으로 변환 (ID -> ProductResDto)
-        Map<Long, ProductResDto> productMap = productList.stream()
-                .collect(Collectors.toMap(ProductResDto::getId, p -> p));
-
-        // 주문 DTO 반환
-        return orders.stream()
-                .map(order -> orderMapper.toDto(order, productMap)) // 상품 정보를 포함하여 변환
-                .collect(Collectors.toList());
+        return getOrderPage(email, cursor, size);
     }
 
     // 주문 단건 조회
@@ -182,14 +198,12 @@ public class OrderService {
                 .map(OrderItem::getProductId)
                 .collect(Collectors.toList());
 
-        // 상품 정보 조회
-        List<ProductResDto> productList = getProductsByIds(productIds);
-
-        // 상품 정보를 Map으로 변환 (ID -> ProductResDto)
-        Map<Long, ProductResDto> productMap = productList.stream()
-                .collect(Collectors.toMap(ProductResDto::getId, p -> p));
+        // 상품 정보 조회 (product-service 장애 시 마지막 스냅샷 사용)
+        ProductSnapshotCache.ProductLookup lookup = productSnapshotCache.lookup(productIds);
 
-        return orderMapper.toDto(order, productMap); // 상품 정보를 포함하여 변환
+        OrderResponseDto dto = orderMapper.toDto(order, lookup.products()); // 상품 정보를 포함하여 변환
+        dto.setStale(lookup.stale());
+        return dto;
     }
 
     // 주문 상태 업데이트
@@ -235,6 +249,78 @@ public class OrderService {
         orderRepository.save(order);
     }
 
+    // 재고 예약 해제. 같은 키로 여러 번 호출해도 한 번만 반영되므로 조회처럼 재시도한다.
+    // 그래도 실패하면 주문은 PENDING_PROD_STOCK_UPDATE 로 남아 있으므로 로그로 남기고 원래 예외를 던진다.
+    private void releaseReservation(String reservationKey) {
+        try {
+            resilientCaller.read(ResilientCaller.PRODUCT_SERVICE_UPDATE,
+                    () -> productServiceClient.releaseReservation(reservationKey));
+        } catch (RuntimeException e) {
+            log.error("재고 예약 해제 실패: {}, {}", reservationKey, e.getMessage());
+        }
+    }
+
+    // 사용자 정보 조회 (주소 포함)
+    private String findUserAddress(String userEmail) {
+        CommonResDto<UserResDto> userResponse = resilientCaller.read(
+                ResilientCaller.USER_SERVICE, () -> userServiceClient.findByEmail(userEmail));
+        if (userResponse == null || userResponse.getResult() == null) {
+            throw new RuntimeException("사용자 정보가 없습니다.");
+        }
+        return userResponse.getResult().getAddress();
+    }
+
+    // 장바구니 조회 후, 장바구니에 담긴 상품들의 가격 정보 조회
+    private CheckoutCart loadCheckoutCart(TokenUserInfo tokenUserInfo) {
+        CartResponseDto cartResponse = cartService.getCart(tokenUserInfo);
+        List<CartResponseDto.CartItemDetailDto> cartItems = cartResponse.getItems();
+
+        List<Long> productIds = cartItems.stream()
+                .map(CartResponseDto.CartItemDetailDto::getProductId)
+                .collect(Collectors.toList());
+
+        Map<Long, ProductResDto> productMap = getProductsByIds(productIds).stream()
+                .collect(Collectors.toMap(ProductResDto::getId, p -> p));
+
+        return new CheckoutCart(cartItems, productMap);
+    }
+
+    // 모든 조회가 끝날 때까지 기다리되, 하나라도 실패하면 즉시 나머지를 취소하고 원래 예외를 던진다.
+    // CheckoutExecutor 의 future 는 cancel 시 작업 스레드를 interrupt 하므로,
+    // ResilientCaller 에서 응답을 기다리던 조회는 바로 중단되고 스레드가 반환된다.
+    private void awaitAll(CompletableFuture<?>... futures) {
+        CompletableFuture<Void> firstFailure = new CompletableFuture<>();
+        for (CompletableFuture<?> future : futures) {
+            future.whenComplete((result, e) -> {
+                if (e != null) firstFailure.completeExceptionally(e);
+            });
+        }
+
+        try {
+            CompletableFuture.anyOf(CompletableFuture.allOf(futures), firstFailure)
+                    .get(fanOutTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (Exception e) {
+            for (CompletableFuture<?> future : futures) {
+                future.cancel(true);
+            }
+            Throwable cause = e instanceof ExecutionException ? e.getCause() : e;
+            if (cause instanceof CompletionException && cause.getCause() != null) {
+                cause = cause.getCause();
+            }
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            throw new RuntimeException("주문 정보 조회 실패", cause);
+        }
+    }
+
+    private record CheckoutCart(List<CartResponseDto.CartItemDetailDto> cartItems,
+                                Map<Long, ProductResDto> productMap) {
+    }
+
     // 관리자 여부 확인(공통 메서드로 빼놈)
     private boolean isAdmin(TokenUserInfo tokenUserInfo) {
         return Role.ADMIN.equals(tokenUserInfo.getRole());
@@ -242,39 +328,62 @@ public class OrderService {
 
     // 상품 정보를 여러 개 조회하는 공통 메서드
     private List<ProductResDto> getProductsByIds(List<Long> productIds) {
-        // 여러 상품 정보 조회
-        CommonResDto<List<ProductResDto>> productResponse = productServiceClient.getProducts(productIds);
-
-        if (productResponse == null || productResponse.getResult() == null) {
-            throw new RuntimeException("상품 정보 조회 실패");
-        }
+        // 여러 상품 정보 조회 (로컬/Redis 캐시에 없는 상품만 product-service 로 요청)
+        return new ArrayList<>(productSnapshotCache.getProducts(productIds).values());
+    }
 
-        return productResponse.getResult(); // 상품 정보 반환
+    // 서버 간 통신용 주문 내역 조회 (커서 기반 페이지)
+    public OrderPageResDto getOrdersByEmailServer(String email, String cursor, int size) {
+        return getOrderPage(email, cursor, size);
     }
 
-    public List<OrderResponseDto> getOrdersByEmailServer(String email) {
+    // 취소되지 않은 주문을 (주문일시, 주문ID) 역순으로 한 페이지 조회
+    // 쿼리 2번: 페이지에 해당하는 주문 ID 조회 -> 주문 + 주문 항목 fetch join
+    private OrderPageResDto getOrderPage(String email, String cursor, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_ORDER_PAGE_SIZE));
+        // 다음 페이지 존재 여부를 알기 위해 1건 더 조회
+        PageRequest limit = PageRequest.of(0, pageSize + 1);
+
+        List<Long> ids;
+        if (cursor == null || cursor.isBlank()) {
+            ids = orderRepository.findPageIds(email, OrderStatus.CANCELED, limit);
+        } else {
+            OrderPageResDto.Cursor after = OrderPageResDto.decodeCursor(cursor);
+            ids = orderRepository.findPageIdsAfter(
+                    email, OrderStatus.CANCELED, after.orderedAt(), after.orderId(), limit);
+        }
+
+        boolean hasNext = ids.size() > pageSize;
+        if (hasNext) ids = ids.subList(0, pageSize);
+        if (ids.isEmpty()) {
+            return OrderPageResDto.builder().orders(List.of()).hasNext(false).build();
+        }
 
-        List<Order> orders = orderRepository.findAllByEmail(email).stream()
-                .filter(order -> order.getOrderStatus() != OrderStatus.CANCELED)
+        // IN 조회 결과는 순서가 보장되지 않으므로 ID 순서대로 다시 정렬
+        Map<Long, Order> orderMap = orderRepository.findAllWithItemsByOrderIdIn(ids).stream()
+                .collect(Collectors.toMap(Order::getOrderId, o -> o));
+        List<Order> orders = ids.stream()
+                .map(orderMap::get)
+                .filter(Objects::nonNull)
                 .collect(Collectors.toList());
 
-        // 모든 주문에서 상품 ID만 추출
+        // 페이지 내 상품 ID만 추출해서 상품 정보 조회
         List<Long> productIds = orders.stream()
                 .flatMap(order -> order.getOrderItems().stream())
                 .map(OrderItem::getProductId)
                 .distinct()
                 .collect(Collectors.toList());
-
-        // 상품 정보 조회
-        List<ProductResDto> productList = getProductsByIds(productIds);
-
-        // 상품 정보를 Map으로 변환 (ID -> ProductResDto)
-        Map<Long, ProductResDto> productMap = productList.stream()
-                .collect(Collectors.toMap(ProductResDto::getId, p -> p));
-
-        // 주문 DTO 반환
-        return orders.stream()
-                .map(order -> orderMapper.toDto(order, productMap)) // 상품 정보를 포함하여 변환
-                .collect(Collectors.toList());
+        ProductSnapshotCache.ProductLookup lookup = productSnapshotCache.lookup(productIds);
+        Map<Long, ProductResDto> productMap = lookup.products();
+
+        Order last = orders.get(orders.size() - 1);
+        return OrderPageResDto.builder()
+                .orders(orders.stream()
+                        .map(order -> orderMapper.toDto(order, productMap)) // 상품 정보를 포함하여 변환
+                        .collect(Collectors.toList()))
+                .hasNext(hasNext)
+                .stale(lookup.stale())
+                .nextCursor(hasNext ? OrderPageResDto.encodeCursor(last.getOrderedAt(), last.getOrderId()) : null)
+                .build();
     }
 }
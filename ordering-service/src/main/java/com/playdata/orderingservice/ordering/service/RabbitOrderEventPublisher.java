@@ -0,0 +1,67 @@
+package com.playdata.orderingservice.ordering.service;
+
+import com.playdata.orderingservice.common.configs.RabbitMQConfig;
+import com.playdata.orderingservice.common.dto.OrderNotificationEvent;
+import com.playdata.orderingservice.common.tracing.MessageTracing;
+import com.playdata.orderingservice.ordering.entity.OrderOutbox;
+import io.micrometer.tracing.Span;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+@Component
+@ConditionalOnProperty(name = "outbox.publisher", havingValue = "rabbit", matchIfMissing = true)
+@RequiredArgsConstructor
+@Slf4j
+public class RabbitOrderEventPublisher implements OrderEventPublisher {
+
+    private final RabbitTemplate rabbitTemplate;
+    private final MessageTracing messageTracing;
+
+    @Value("${outbox.relay.confirm-timeout-ms:5000}")
+    private long confirmTimeoutMs;
+
+    @Override
+    public void publishBatch(List<OrderOutbox> events) {
+        // 하나의 채널에서 배치 전체를 보낸 뒤 confirm 을 한 번만 기다린다.
+        // (spring.rabbitmq.publisher-confirm-type: simple 필요)
+        rabbitTemplate.invoke(operations -> {
+            for (OrderOutbox event : events) {
+                MessageProperties properties = properties(event);
+                // 주문 요청 trace 에 이어지는 발행 span (traceparent 헤더로 소비자에게 전달)
+                Span span = messageTracing.startPublishSpan(event.getTraceParent(), RabbitMQConfig.ORDER_EXCHANGE, properties);
+                try {
+                    // payload 는 이미 JSON 이므로 다시 변환하지 않고 그대로 메시지 본문으로 사용
+                    operations.send(RabbitMQConfig.ORDER_EXCHANGE, event.getRoutingKey(),
+                            new Message(event.getPayload().getBytes(StandardCharsets.UTF_8), properties));
+                } catch (RuntimeException e) {
+                    span.error(e);
+                    throw e;
+                } finally {
+                    span.end();
+                }
+            }
+            operations.waitForConfirmsOrDie(confirmTimeoutMs);
+            return null;
+        });
+        log.debug("order events published: {}", events.size());
+    }
+
+    private MessageProperties properties(OrderOutbox event) {
+        MessageProperties properties = new MessageProperties();
+        properties.setContentType(MessageProperties.CONTENT_TYPE_JSON);
+        properties.setContentEncoding(StandardCharsets.UTF_8.name());
+        properties.setMessageId("order-outbox-" + event.getId()); // 소비자 측 중복 제거용
+        properties.setType(event.getEventType());
+        properties.setHeader("__TypeId__", OrderNotificationEvent.class.getName());
+        return properties;
+    }
+}
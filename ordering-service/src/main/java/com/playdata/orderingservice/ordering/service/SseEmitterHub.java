@@ -0,0 +1,243 @@
+package com.playdata.orderingservice.ordering.service;
+
+import com.playdata.orderingservice.common.auth.Role;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// SSE 연결 관리 허브
+// - 사용자(이메일)당 여러 연결 허용 (여러 탭/기기)
+// - 연결마다 권한(Role)을 기록해 두고, 전체 주문 알림은 관리자 연결에만 보낸다.
+// - heartbeat 는 공유 스케줄러 스레드 1개가 모든 연결에 주기적으로 보낸다. (연결마다 스레드 생성 X)
+// - 연결마다 크기가 제한된 전송 큐를 두고, 공유 전송 풀이 큐를 비운다.
+//   느린 클라이언트 때문에 큐가 차면 정책에 따라 가장 오래된 이벤트를 버리거나 연결을 끊는다.
+@Component
+@Slf4j
+public class SseEmitterHub implements DisposableBean {
+
+    public enum OverflowPolicy { DROP_OLDEST, CLOSE }
+
+    private static final Set<ResponseBodyEmitter.DataWithMediaType> HEARTBEAT
+            = SseEmitter.event().name("heartbeat").data("keep-alive").build();
+
+    private final Map<String, Set<Connection>> connections = new ConcurrentHashMap<>();
+    private final AtomicInteger connectionCount = new AtomicInteger();
+    private final ScheduledExecutorService heartbeatScheduler;
+    private final ThreadPoolTaskExecutor sendExecutor;
+
+    private final long timeoutMs;
+    private final int queueCapacity;
+    private final OverflowPolicy overflowPolicy;
+
+    private final Counter droppedCounter;
+    private final Counter overflowClosedCounter;
+
+    public SseEmitterHub(MeterRegistry meterRegistry,
+                         @Value("${sse.timeout-ms:86400000}") long timeoutMs,
+                         @Value("${sse.heartbeat-seconds:30}") long heartbeatSeconds,
+                         @Value("${sse.queue-capacity:256}") int queueCapacity,
+                         @Value("${sse.overflow-policy:DROP_OLDEST}") OverflowPolicy overflowPolicy,
+                         @Value("${sse.send-threads:8}") int sendThreads) {
+        this.timeoutMs = timeoutMs;
+        this.queueCapacity = queueCapacity;
+        this.overflowPolicy = overflowPolicy;
+
+        this.heartbeatScheduler = Executors.newSingleThreadScheduledExecutor(
+                new CustomizableThreadFactory("sse-heartbeat-"));
+        this.heartbeatScheduler.scheduleAtFixedRate(
+                this::sendHeartbeats, heartbeatSeconds, heartbeatSeconds, TimeUnit.SECONDS);
+
+        this.sendExecutor = new ThreadPoolTaskExecutor();
+        sendExecutor.setCorePoolSize(sendThreads);
+        sendExecutor.setMaxPoolSize(sendThreads);
+        sendExecutor.setThreadNamePrefix("sse-send-");
+        sendExecutor.initialize();
+
+        Gauge.builder("sse.connections", this, SseEmitterHub::connectionCount)
+                .description("현재 연결된 SSE 구독 수")
+                .register(meterRegistry);
+        Gauge.builder("sse.queue.depth", this, SseEmitterHub::queuedEventCount)
+                .description("모든 연결의 전송 대기 이벤트 수 합계")
+                .register(meterRegistry);
+        this.droppedCounter = Counter.builder("sse.events.dropped")
+                .description("전송 큐가 가득 차서 버려진 이벤트 수")
+                .register(meterRegistry);
+        this.overflowClosedCounter = Counter.builder("sse.connections.overflow.closed")
+                .description("전송 큐가 가득 차서 끊어진 연결 수")
+                .register(meterRegistry);
+    }
+
+    // 새 연결 등록
+    public SseEmitter subscribe(String email, Role role) {
+        SseEmitter emitter = newEmitter();
+        Connection connection = new Connection(email, role, emitter);
+
+        // 완료/타임아웃/에러 어느 경우든 목록에서 제거
+        emitter.onCompletion(() -> remove(connection));
+        emitter.onTimeout(() -> remove(connection));
+        emitter.onError(e -> remove(connection));
+
+        connections.compute(email, (k, set) -> {
+            if (set == null) set = ConcurrentHashMap.newKeySet();
+            if (set.add(connection)) connectionCount.incrementAndGet();
+            return set;
+        });
+        log.info("subscribe to {} (connections: {})", email, connectionCount());
+
+        //연결 성공 메세지 전송
+        connection.enqueue(SseEmitter.event().name("connect").data("connected!!").build());
+        return emitter;
+    }
+
+    // 특정 사용자의 모든 연결에 전송
+    public void sendTo(String email, SseEmitter.SseEventBuilder event) {
+        Set<Connection> targets = connections.get(email);
+        if (targets == null) return;
+
+        Set<ResponseBodyEmitter.DataWithMediaType> built = event.build();
+        targets.forEach(connection -> connection.enqueue(built));
+    }
+
+    // 관리자 연결에만 전송 (이벤트는 한 번만 만들어서 모든 연결이 공유)
+    // 주문 알림에는 고객 이메일/주문 내역이 들어 있으므로 일반 사용자 연결로는 보내지 않는다.
+    public void broadcastToAdmins(SseEmitter.SseEventBuilder event) {
+        Set<ResponseBodyEmitter.DataWithMediaType> built = event.build();
+        connections.values().forEach(set -> set.forEach(connection -> {
+            if (connection.role == Role.ADMIN) connection.enqueue(built);
+        }));
+    }
+
+    public int connectionCount() {
+        return connectionCount.get();
+    }
+
+    public int queuedEventCount() {
+        return connections.values().stream()
+                .flatMap(Collection::stream)
+                .mapToInt(connection -> connection.queue.size())
+                .sum();
+    }
+
+    @Override
+    public void destroy() {
+        heartbeatScheduler.shutdownNow();
+        connections.values().forEach(set -> set.forEach(connection -> connection.emitter.complete()));
+        connections.clear();
+        connectionCount.set(0);
+        sendExecutor.shutdown();
+    }
+
+    //30초 마다 heartbeat 메세지를 전송해서 연결유지
+    //클라이언트에서 사용하는 EventSourcePolyfill이 45초동안 활동이 없으면 지맘대로 연결 종료.
+    private void sendHeartbeats() {
+        try {
+            connections.values().forEach(set -> set.forEach(connection -> connection.enqueue(HEARTBEAT)));
+        } catch (Exception e) {
+            log.warn("Failed to send heartbeat event: {}", e.getMessage());
+        }
+    }
+
+    SseEmitter newEmitter() {
+        return new SseEmitter(timeoutMs);
+    }
+
+    private void remove(Connection connection) {
+        connection.closed = true;
+        connections.computeIfPresent(connection.email, (email, set) -> {
+            if (set.remove(connection)) connectionCount.decrementAndGet();
+            return set.isEmpty() ? null : set;
+        });
+    }
+
+    // 연결 하나의 전송 큐. 전송 풀의 스레드 하나만 동시에 큐를 비우므로 이벤트 순서가 유지된다.
+    private class Connection {
+        private final String email;
+        private final Role role;
+        private final SseEmitter emitter;
+        private final BlockingQueue<Set<ResponseBodyEmitter.DataWithMediaType>> queue;
+        private final AtomicBoolean draining = new AtomicBoolean(false);
+        private volatile boolean closed;
+
+        Connection(String email, Role role, SseEmitter emitter) {
+            this.email = email;
+            this.role = role;
+            this.emitter = emitter;
+            this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        }
+
+        void enqueue(Set<ResponseBodyEmitter.DataWithMediaType> event) {
+            if (closed) return;
+
+            if (!queue.offer(event)) {
+                if (overflowPolicy == OverflowPolicy.CLOSE) {
+                    overflowClosedCounter.increment();
+                    log.info("SSE 전송 큐 초과로 연결 종료: {}", email);
+                    close();
+                    return;
+                }
+                // DROP_OLDEST: 가장 오래된 이벤트를 버리고 새 이벤트를 넣는다.
+                queue.poll();
+                droppedCounter.increment();
+                if (!queue.offer(event)) {
+                    droppedCounter.increment();
+                }
+            }
+            scheduleDrain();
+        }
+
+        private void scheduleDrain() {
+            if (draining.compareAndSet(false, true)) {
+                try {
+                    sendExecutor.execute(this::drain);
+                } catch (RejectedExecutionException e) {
+                    draining.set(false);
+                }
+            }
+        }
+
+        private void drain() {
+            try {
+                Set<ResponseBodyEmitter.DataWithMediaType> event;
+                while (!closed && (event = queue.poll()) != null) {
+                    emitter.send(event);
+                }
+            } catch (IOException | IllegalStateException e) {
+                // 클라이언트가 이미 끊은 연결
+                log.debug("SSE send failed for {}: {}", email, e.getMessage());
+                close();
+            } finally {
+                draining.set(false);
+            }
+            // 비우는 사이 새로 들어온 이벤트가 있으면 다시 예약
+            if (!closed && !queue.isEmpty()) {
+                scheduleDrain();
+            }
+        }
+
+        private void close() {
+            remove(this);
+            queue.clear();
+            try {
+                emitter.complete();
+            } catch (Exception ignored) {
+                // 이미 완료된 연결
+            }
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.playdata.orderingservice.cart.repository;
+
+import com.playdata.orderingservice.cart.entity.Cart;
+import com.playdata.orderingservice.cart.entity.CartItem;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 체크아웃 작업 스레드처럼 트랜잭션이 없는 곳에서도 장바구니 항목을 읽을 수 있어야 함
+@DataJpaTest(properties = "spring.cloud.config.enabled=false")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class CartRepositoryTest {
+
+    private static final String EMAIL = "buyer@test.com";
+
+    @Autowired
+    private CartRepository cartRepository;
+
+    @AfterEach
+    void tearDown() {
+        cartRepository.deleteAll();
+    }
+
+    @Test
+    void itemsAreLoadedWithCartOutsideTransaction() {
+        Cart cart = Cart.builder()
+                .email(EMAIL)
+                .createdAt(LocalDateTime.now())
+                .items(new ArrayList<>())
+                .build();
+        cart.getItems().add(CartItem.builder().productId(1L).quantity(2).cart(cart).build());
+        cart.getItems().add(CartItem.builder().productId(2L).quantity(1).cart(cart).build());
+        cartRepository.save(cart);
+
+        List<Long> productIds = CompletableFuture.supplyAsync(() ->
+                cartRepository.findWithItemsByEmail(EMAIL).orElseThrow().getItems().stream()
+                        .map(CartItem::getProductId)
+                        .collect(Collectors.toList())).join();
+
+        assertThat(productIds).containsExactlyInAnyOrder(1L, 2L);
+    }
+}
@@ -0,0 +1,197 @@
+package com.playdata.orderingservice.cart.service;
+
+import com.playdata.orderingservice.cart.entity.Cart;
+import com.playdata.orderingservice.cart.entity.CartItem;
+import com.playdata.orderingservice.cart.repository.CartRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 로컬 Redis + H2 로 write-behind 동작 확인
+@DataJpaTest(properties = "spring.cloud.config.enabled=false")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class RedisCartStoreTest {
+
+    private static final String EMAIL = "buyer@test.com";
+
+    @Autowired
+    private CartRepository cartRepository;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private RedisServer redisServer;
+    private LettuceConnectionFactory connectionFactory;
+    private StringRedisTemplate redisTemplate;
+    private TransactionTemplate tx;
+    private RedisCartStore store;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        redisServer = new RedisServer(port);
+        redisServer.start();
+
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", port));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+
+        tx = new TransactionTemplate(transactionManager);
+        store = newStore(tx);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        cartRepository.deleteAll();
+        connectionFactory.destroy();
+        redisServer.stop();
+    }
+
+    @Test
+    void firstAccessLoadsCartFromDatabase() {
+        tx.executeWithoutResult(status -> {
+            Cart cart = Cart.builder().email(EMAIL).createdAt(LocalDateTime.now()).items(new ArrayList<>()).build();
+            cart.getItems().add(CartItem.builder().productId(1L).quantity(2).cart(cart).build());
+            cart.getItems().add(CartItem.builder().productId(2L).quantity(1).cart(cart).build());
+            cartRepository.save(cart);
+        });
+
+        assertThat(store.getItems(EMAIL)).containsExactly(Map.entry(1L, 2), Map.entry(2L, 1));
+        // 이후 변경은 Redis 에만 반영되고 DB 는 flush 전까지 그대로
+        store.addItem(EMAIL, 1L, 3);
+        assertThat(store.getItems(EMAIL)).containsEntry(1L, 5);
+        assertThat(databaseItems()).containsEntry(1L, 2);
+    }
+
+    @Test
+    void dirtyCartsAreFlushedToDatabase() {
+        store.addItem(EMAIL, 1L, 2);
+        store.addItem(EMAIL, 3L, 1);
+        store.removeItem(EMAIL, 3L);
+        assertThat(redisTemplate.opsForSet().isMember(RedisCartStore.DIRTY_KEY, EMAIL)).isTrue();
+
+        store.flushDirtyCarts();
+
+        assertThat(databaseItems()).containsExactly(Map.entry(1L, 2));
+        assertThat(redisTemplate.opsForSet().size(RedisCartStore.DIRTY_KEY)).isZero();
+        assertThat(redisTemplate.opsForSet().size(RedisCartStore.FLUSHING_KEY)).isZero();
+    }
+
+    @Test
+    void failedFlushKeepsCartDirtyForNextRun() {
+        store.addItem(EMAIL, 1L, 2);
+
+        // DB 쓰기가 실패하는 저장소로 반영 시도
+        newStore(new FailingTransactionTemplate(transactionManager)).flushDirtyCarts();
+
+        assertThat(databaseItems()).isEmpty();
+        assertThat(redisTemplate.opsForSet().isMember(RedisCartStore.DIRTY_KEY, EMAIL)).isTrue();
+        assertThat(redisTemplate.opsForSet().size(RedisCartStore.FLUSHING_KEY)).isZero();
+
+        // 다음 주기에 정상 반영
+        store.flushDirtyCarts();
+        assertThat(databaseItems()).containsExactly(Map.entry(1L, 2));
+    }
+
+    @Test
+    void unfinishedFlushesAreRequeuedOnStartup() {
+        store.addItem(EMAIL, 1L, 2);
+        // 반영 도중 pod 가 종료된 상황
+        redisTemplate.opsForSet().move(RedisCartStore.DIRTY_KEY, EMAIL, RedisCartStore.FLUSHING_KEY);
+
+        store.requeueUnfinishedFlushes();
+        store.flushDirtyCarts();
+
+        assertThat(databaseItems()).containsExactly(Map.entry(1L, 2));
+    }
+
+    @Test
+    void lateConcurrentLoadDoesNotRestoreRemovedItem() {
+        tx.executeWithoutResult(status -> {
+            Cart cart = Cart.builder().email(EMAIL).createdAt(LocalDateTime.now()).items(new ArrayList<>()).build();
+            cart.getItems().add(CartItem.builder().productId(1L).quantity(2).cart(cart).build());
+            cartRepository.save(cart);
+        });
+
+        // B 가 DB 를 읽은 뒤 Redis 에 채우기 전에, A 가 먼저 적재하고 1번 상품을 지운다.
+        RedisCartStore late = newStore(new InterleavingTransactionTemplate(transactionManager, () -> {
+            assertThat(store.getItems(EMAIL)).containsEntry(1L, 2);
+            store.removeItem(EMAIL, 1L);
+        }));
+
+        assertThat(late.getItems(EMAIL)).isEmpty();
+        store.flushDirtyCarts();
+        assertThat(databaseItems()).isEmpty();
+    }
+
+    private RedisCartStore newStore(TransactionTemplate transactionTemplate) {
+        RedisCartStore cartStore = new RedisCartStore(redisTemplate, cartRepository, transactionTemplate, 72);
+        ReflectionTestUtils.setField(cartStore, "flushBatchSize", 200);
+        return cartStore;
+    }
+
+    private Map<Long, Integer> databaseItems() {
+        return tx.execute(status -> cartRepository.findByEmail(EMAIL)
+                .map(cart -> cart.getItems().stream()
+                        .collect(Collectors.toMap(CartItem::getProductId, CartItem::getQuantity)))
+                .orElse(Map.of()));
+    }
+
+    // 처음 한 번은 트랜잭션을 마친 직후 afterFirst 를 실행한다. (다른 요청이 끼어드는 시점 재현)
+    private static class InterleavingTransactionTemplate extends TransactionTemplate {
+        private Runnable afterFirst;
+
+        InterleavingTransactionTemplate(PlatformTransactionManager transactionManager, Runnable afterFirst) {
+            super(transactionManager);
+            this.afterFirst = afterFirst;
+        }
+
+        @Override
+        public void executeWithoutResult(Consumer<TransactionStatus> action) throws TransactionException {
+            super.executeWithoutResult(action);
+            if (afterFirst != null) {
+                Runnable interleaved = afterFirst;
+                afterFirst = null;
+                interleaved.run();
+            }
+        }
+    }
+
+    private static class FailingTransactionTemplate extends TransactionTemplate {
+
+        FailingTransactionTemplate(PlatformTransactionManager transactionManager) {
+            super(transactionManager);
+        }
+
+        @Override
+        public void executeWithoutResult(Consumer<TransactionStatus> action) throws TransactionException {
+            throw new IllegalStateException("db down");
+        }
+    }
+}
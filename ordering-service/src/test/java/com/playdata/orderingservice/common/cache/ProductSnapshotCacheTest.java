@@ -0,0 +1,127 @@
+package com.playdata.orderingservice.common.cache;
+
+import com.playdata.orderingservice.client.ProductServiceClient;
+import com.playdata.orderingservice.common.dto.CommonResDto;
+import com.playdata.orderingservice.common.resilience.ResilientCaller;
+import com.playdata.orderingservice.ordering.dto.ProductResDto;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.retry.RetryConfig;
+import io.github.resilience4j.retry.RetryRegistry;
+import io.github.resilience4j.timelimiter.TimeLimiterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+class ProductSnapshotCacheTest {
+
+    private ProductServiceClient productServiceClient;
+    private RedisTemplate<String, Object> redisTemplate;
+    private ValueOperations<String, Object> valueOperations;
+    private ProductSnapshotCache cache;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        productServiceClient = mock(ProductServiceClient.class);
+        redisTemplate = mock(RedisTemplate.class);
+        valueOperations = mock(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        ResilientCaller resilientCaller = new ResilientCaller(CircuitBreakerRegistry.ofDefaults(),
+                TimeLimiterRegistry.ofDefaults(),
+                RetryRegistry.of(RetryConfig.custom().maxAttempts(1).build()),
+                meterRegistry, new MockEnvironment());
+        cache = new ProductSnapshotCache(productServiceClient, redisTemplate, resilientCaller,
+                meterRegistry, 100, 30, 600, 168);
+    }
+
+    @Test
+    void onlyMissingIdsGoOverTheWire() {
+        // 1번은 Redis 에 있고, 2번은 어디에도 없음
+        when(valueOperations.multiGet(anyList())).thenReturn(Arrays.asList(product(1L), null));
+        when(productServiceClient.getProducts(List.of(2L)))
+                .thenReturn(new CommonResDto<>(HttpStatus.OK, "OK", List.of(product(2L))));
+
+        Map<Long, ProductResDto> first = cache.getProducts(List.of(1L, 2L));
+        Map<Long, ProductResDto> second = cache.getProducts(List.of(1L, 2L));
+
+        assertThat(first).containsOnlyKeys(1L, 2L);
+        assertThat(second).containsOnlyKeys(1L, 2L);
+        // 두 번째 조회는 로컬 캐시에서 끝남
+        verify(productServiceClient, times(1)).getProducts(anyList());
+        verify(valueOperations, times(1)).multiGet(anyList());
+    }
+
+    @Test
+    void invalidatedIdIsFetchedAgain() {
+        when(valueOperations.multiGet(anyList())).thenReturn(Arrays.asList((Object) null));
+        when(productServiceClient.getProducts(List.of(1L)))
+                .thenReturn(new CommonResDto<>(HttpStatus.OK, "OK", List.of(product(1L))));
+
+        cache.getProducts(List.of(1L));
+        cache.invalidate(List.of(1L));
+        cache.getProducts(List.of(1L));
+
+        verify(productServiceClient, times(2)).getProducts(List.of(1L));
+    }
+
+    @Test
+    void snapshotFetchedAcrossInvalidationIsNotCached() {
+        when(valueOperations.multiGet(anyList())).thenReturn(Arrays.asList((Object) null));
+        // product-service 응답을 기다리는 사이에 상품 변경 이벤트가 도착
+        when(productServiceClient.getProducts(List.of(1L))).thenAnswer(invocation -> {
+            cache.invalidate(List.of(1L));
+            return new CommonResDto<>(HttpStatus.OK, "OK", List.of(product(1L)));
+        }).thenReturn(new CommonResDto<>(HttpStatus.OK, "OK", List.of(product(1L))));
+
+        assertThat(cache.getProducts(List.of(1L))).containsOnlyKeys(1L);
+        verify(redisTemplate, never()).executePipelined(any(SessionCallback.class));
+
+        cache.getProducts(List.of(1L));
+        verify(productServiceClient, times(2)).getProducts(List.of(1L));
+        verify(redisTemplate, times(1)).executePipelined(any(SessionCallback.class));
+    }
+
+    @Test
+    void lookupFallsBackToLastKnownSnapshotWhenProductServiceFails() {
+        // 첫 multiGet: product:snapshot 없음, 두 번째 multiGet: product:lastknown 에 있음
+        when(valueOperations.multiGet(anyList()))
+                .thenReturn(Arrays.asList((Object) null))
+                .thenReturn(Arrays.asList(product(1L)));
+        when(productServiceClient.getProducts(anyList())).thenThrow(new RuntimeException("down"));
+
+        ProductSnapshotCache.ProductLookup lookup = cache.lookup(List.of(1L));
+
+        assertThat(lookup.stale()).isTrue();
+        assertThat(lookup.products()).containsOnlyKeys(1L);
+        verify(valueOperations).multiGet(List.of("product:lastknown:1"));
+    }
+
+    @Test
+    void getProductsDoesNotFallBack() {
+        when(valueOperations.multiGet(anyList())).thenReturn(Arrays.asList((Object) null));
+        when(productServiceClient.getProducts(anyList())).thenThrow(new RuntimeException("down"));
+
+        assertThatThrownBy(() -> cache.getProducts(List.of(1L))).isInstanceOf(RuntimeException.class);
+    }
+
+    private ProductResDto product(Long id) {
+        return ProductResDto.builder().id(id).name("상품" + id).price(1000).build();
+    }
+}
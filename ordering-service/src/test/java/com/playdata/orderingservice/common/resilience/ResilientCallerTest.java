@@ -0,0 +1,126 @@
+package com.playdata.orderingservice.common.resilience;
+
+import com.playdata.orderingservice.client.ProductServiceClient;
+import com.playdata.orderingservice.common.cache.ProductSnapshotCache;
+import com.playdata.orderingservice.ordering.dto.ProductResDto;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.retry.RetryConfig;
+import io.github.resilience4j.retry.RetryRegistry;
+import io.github.resilience4j.timelimiter.TimeLimiterConfig;
+import io.github.resilience4j.timelimiter.TimeLimiterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+class ResilientCallerTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private ResilientCaller resilientCaller;
+
+    @BeforeEach
+    void setUp() {
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("outbound.dependencies.productService.max-threads", "2")
+                .withProperty("outbound.dependencies.productService.initial-limit", "2")
+                .withProperty("outbound.dependencies.productService.min-limit", "1")
+                .withProperty("outbound.dependencies.userService.max-threads", "4");
+        meterRegistry = new SimpleMeterRegistry();
+        resilientCaller = new ResilientCaller(CircuitBreakerRegistry.ofDefaults(),
+                TimeLimiterRegistry.of(TimeLimiterConfig.custom().timeoutDuration(Duration.ofMillis(300)).build()),
+                RetryRegistry.of(RetryConfig.custom().maxAttempts(1).build()),
+                meterRegistry, environment);
+    }
+
+    @AfterEach
+    void tearDown() {
+        resilientCaller.destroy();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void cartReadsStayFastWhileProductServiceIsSlow() throws Exception {
+        // product-service 가 2초씩 걸리는 상황
+        ProductServiceClient productServiceClient = mock(ProductServiceClient.class);
+        when(productServiceClient.getProducts(anyList())).thenAnswer(invocation -> {
+            Thread.sleep(2000);
+            return null;
+        });
+        RedisTemplate<String, Object> redisTemplate = mock(RedisTemplate.class);
+        ValueOperations<String, Object> valueOperations = mock(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.multiGet(List.of("product:snapshot:1"))).thenReturn(Arrays.asList((Object) null));
+        when(valueOperations.multiGet(List.of("product:lastknown:1"))).thenReturn(List.of(product(1L)));
+
+        ProductSnapshotCache cache = new ProductSnapshotCache(productServiceClient, redisTemplate,
+                resilientCaller, meterRegistry, 100, 30, 600, 168);
+
+        // 장바구니 조회 10건 동시 요청
+        ExecutorService requests = Executors.newFixedThreadPool(10);
+        try {
+            List<Future<Long>> elapsed = new ArrayList<>();
+            for (int i = 0; i < 10; i++) {
+                elapsed.add(requests.submit(() -> {
+                    long start = System.nanoTime();
+                    ProductSnapshotCache.ProductLookup lookup = cache.lookup(List.of(1L));
+                    assertThat(lookup.stale()).isTrue();
+                    assertThat(lookup.products()).containsOnlyKeys(1L);
+                    return (System.nanoTime() - start) / 1_000_000;
+                }));
+            }
+
+            // 느린 product-service 와 상관없이 user-service 호출은 바로 처리됨
+            long start = System.nanoTime();
+            assertThat(resilientCaller.read(ResilientCaller.USER_SERVICE, () -> "ok")).isEqualTo("ok");
+            assertThat((System.nanoTime() - start) / 1_000_000).isLessThan(200);
+
+            for (Future<Long> future : elapsed) {
+                // 타임아웃(300ms) 또는 즉시 거절 후 마지막 스냅샷으로 응답 (2초를 기다리지 않음)
+                assertThat(future.get()).isLessThan(1000);
+            }
+        } finally {
+            requests.shutdownNow();
+        }
+
+        // 벌크헤드 스레드 2개를 넘는 호출은 product-service 로 나가지 않음
+        verify(productServiceClient, atMost(2)).getProducts(anyList());
+        double rejected = meterRegistry.find("outbound.calls.rejected")
+                .tag("name", ResilientCaller.PRODUCT_SERVICE)
+                .counters().stream().mapToDouble(c -> c.count()).sum();
+        assertThat(rejected).isGreaterThan(0);
+    }
+
+    @Test
+    void limiterShrinksOnDropsAndGrowsOnFastResponses() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(4, 1, 8, 100, 0.5);
+
+        for (int i = 0; i < 4; i++) assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isFalse(); // 기다리지 않고 바로 거절
+
+        limiter.release(0, true);
+        assertThat(limiter.getLimit()).isEqualTo(2);
+
+        // 허용 수를 꽉 채운 상태에서 빠르게 응답하면 다시 늘어난다.
+        limiter.release(1_000_000, false);
+        assertThat(limiter.getLimit()).isEqualTo(3);
+    }
+
+    private ProductResDto product(Long id) {
+        return ProductResDto.builder().id(id).name("상품" + id).price(1000).build();
+    }
+}
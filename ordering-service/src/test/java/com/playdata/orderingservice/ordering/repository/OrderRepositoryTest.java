@@ -0,0 +1,101 @@
+package com.playdata.orderingservice.ordering.repository;
+
+import com.playdata.orderingservice.ordering.entity.Order;
+import com.playdata.orderingservice.ordering.entity.OrderItem;
+import com.playdata.orderingservice.ordering.entity.OrderStatus;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = {
+        "spring.cloud.config.enabled=false",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class OrderRepositoryTest {
+
+    private static final String EMAIL = "buyer@test.com";
+
+    @Autowired
+    private OrderRepository orderRepository;
+    @Autowired
+    private EntityManager em;
+    @Autowired
+    private EntityManagerFactory emf;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        LocalDateTime base = LocalDateTime.of(2025, 1, 1, 0, 0);
+        for (int i = 0; i < 30; i++) {
+            // 5개 중 1개는 취소 주문
+            OrderStatus status = i % 5 == 0 ? OrderStatus.CANCELED : OrderStatus.ORDERED;
+            saveOrder(base.plusMinutes(i), status, 3);
+        }
+        em.flush();
+        em.clear();
+
+        statistics = emf.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void onePageCostsTwoStatements() {
+        List<Long> ids = orderRepository.findPageIds(EMAIL, OrderStatus.CANCELED, PageRequest.of(0, 11));
+        List<Order> orders = orderRepository.findAllWithItemsByOrderIdIn(ids.subList(0, 10));
+        // 주문 항목까지 접근해도 추가 쿼리가 없어야 함
+        int itemCount = orders.stream().mapToInt(o -> o.getOrderItems().size()).sum();
+
+        assertThat(orders).hasSize(10);
+        assertThat(itemCount).isEqualTo(30);
+        assertThat(orders).noneMatch(o -> o.getOrderStatus() == OrderStatus.CANCELED);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    void keysetPagesWalkAllActiveOrdersWithoutOverlap() {
+        List<Long> seen = new ArrayList<>();
+        List<Long> page = orderRepository.findPageIds(EMAIL, OrderStatus.CANCELED, PageRequest.of(0, 10));
+        while (!page.isEmpty()) {
+            seen.addAll(page);
+            Order last = orderRepository.findById(page.get(page.size() - 1)).orElseThrow();
+            page = orderRepository.findPageIdsAfter(EMAIL, OrderStatus.CANCELED,
+                    last.getOrderedAt(), last.getOrderId(), PageRequest.of(0, 10));
+        }
+
+        assertThat(seen).hasSize(24).doesNotHaveDuplicates();
+    }
+
+    private void saveOrder(LocalDateTime orderedAt, OrderStatus status, int itemCount) {
+        Order order = Order.builder()
+                .email(EMAIL)
+                .address("서울")
+                .orderStatus(status)
+                .orderedAt(orderedAt)
+                .totalPrice(BigDecimal.valueOf(3000))
+                .orderItems(new ArrayList<>())
+                .build();
+        for (long p = 1; p <= itemCount; p++) {
+            order.getOrderItems().add(OrderItem.builder()
+                    .order(order)
+                    .productId(p)
+                    .quantity(1)
+                    .unitPrice(BigDecimal.valueOf(1000))
+                    .build());
+        }
+        em.persist(order);
+    }
+}
@@ -0,0 +1,82 @@
+package com.playdata.orderingservice.ordering.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CheckoutExecutorTest {
+
+    private final CheckoutExecutor checkoutExecutor = new CheckoutExecutor(8, 100);
+
+    @AfterEach
+    void tearDown() {
+        checkoutExecutor.destroy();
+    }
+
+    @Test
+    void cancelInterruptsRunningTask() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch interrupted = new CountDownLatch(1);
+        CompletableFuture<String> future = checkoutExecutor.supplyAsync(() -> {
+            started.countDown();
+            try {
+                Thread.sleep(10_000);
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+            return "done";
+        });
+
+        assertThat(started.await(3, TimeUnit.SECONDS)).isTrue();
+        future.cancel(true);
+
+        assertThat(interrupted.await(3, TimeUnit.SECONDS)).isTrue();
+        assertThat(future.isCancelled()).isTrue();
+    }
+
+    @Test
+    void blockingTasksRunInParallelUpToPoolSizeInsteadOfQueueing() throws Exception {
+        // 큐가 남아 있어도 풀 크기만큼은 동시에 실행되어야 함 (core < max 였을 때는 core 개수만 실행)
+        int tasks = 8;
+        CountDownLatch allStarted = new CountDownLatch(tasks);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicBoolean failed = new AtomicBoolean();
+        for (int i = 0; i < tasks; i++) {
+            checkoutExecutor.supplyAsync(() -> {
+                allStarted.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    failed.set(true);
+                }
+                return null;
+            });
+        }
+
+        try {
+            assertThat(allStarted.await(3, TimeUnit.SECONDS)).isTrue();
+            assertThat(checkoutExecutor.getPoolSize()).isEqualTo(tasks);
+        } finally {
+            release.countDown();
+        }
+        assertThat(failed).isFalse();
+    }
+
+    @Test
+    void failureCompletesFutureExceptionally() {
+        CompletableFuture<Object> future = checkoutExecutor.supplyAsync(() -> {
+            throw new IllegalArgumentException("boom");
+        });
+
+        assertThat(future).failsWithin(3, TimeUnit.SECONDS)
+                .withThrowableOfType(ExecutionException.class)
+                .withCauseInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,168 @@
+package com.playdata.orderingservice.ordering.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.playdata.orderingservice.common.exception.IdempotencyKeyMismatchException;
+import com.playdata.orderingservice.ordering.dto.OrderItemDto;
+import com.playdata.orderingservice.ordering.dto.OrderRequestDto;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class OrderIdempotencyServiceTest {
+
+    private RedisServer redisServer;
+    private LettuceConnectionFactory connectionFactory;
+    private StringRedisTemplate redisTemplate;
+    private OrderIdempotencyService service;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        redisServer = new RedisServer(port);
+        redisServer.start();
+
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", port));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+        service = newService(60);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        connectionFactory.destroy();
+        redisServer.stop();
+    }
+
+    @Test
+    void concurrentDuplicatesWaitForTheFirstExecution() throws Exception {
+        AtomicInteger executions = new AtomicInteger();
+        Callable<OrderIdempotencyService.Result> request = () -> service.execute("buyer@test.com", "key-1", request(1L, 2), () -> {
+            executions.incrementAndGet();
+            sleep(300); // 느린 주문 생성
+            return 42L;
+        });
+
+        ExecutorService pool = Executors.newFixedThreadPool(3);
+        List<Future<OrderIdempotencyService.Result>> results = pool.invokeAll(List.of(request, request, request));
+        pool.shutdown();
+
+        assertThat(executions.get()).isEqualTo(1);
+        for (Future<OrderIdempotencyService.Result> result : results) {
+            assertThat(result.get().orderId()).isEqualTo(42L);
+        }
+        assertThat(results.stream().filter(r -> !get(r).replayed()).count()).isEqualTo(1);
+    }
+
+    @Test
+    void failedExecutionCanBeRetriedWithTheSameKey() {
+        assertThatThrownBy(() -> service.execute("buyer@test.com", "key-2", request(1L, 2), () -> {
+            throw new RuntimeException("재고 부족");
+        })).hasMessage("재고 부족");
+
+        OrderIdempotencyService.Result retry = service.execute("buyer@test.com", "key-2", request(1L, 2), () -> 7L);
+        assertThat(retry.orderId()).isEqualTo(7L);
+        assertThat(retry.replayed()).isFalse();
+    }
+
+    @Test
+    void sameKeyWithDifferentRequestIsRejected() {
+        service.execute("buyer@test.com", "key-3", request(1L, 2), () -> 9L);
+
+        assertThatThrownBy(() -> service.execute("buyer@test.com", "key-3", request(1L, 5), () -> 10L))
+                .isInstanceOf(IdempotencyKeyMismatchException.class);
+        // 같은 내용이면 기존 결과를 그대로 돌려줌
+        assertThat(service.execute("buyer@test.com", "key-3", request(1L, 2), () -> 10L).replayed()).isTrue();
+    }
+
+    @Test
+    void lateCompletionDoesNotOverwriteNewOwner() throws Exception {
+        // 처리 중 표시가 1초 뒤 만료되는 설정
+        OrderIdempotencyService shortTtl = newService(1);
+        ExecutorService pool = Executors.newSingleThreadExecutor();
+        Future<OrderIdempotencyService.Result> slow = pool.submit(() ->
+                shortTtl.execute("buyer@test.com", "key-4", request(1L, 2), () -> {
+                    sleep(1_500);
+                    return 1L;
+                }));
+
+        sleep(1_200); // 첫 요청의 표시가 만료된 뒤 같은 키로 재시도
+        OrderIdempotencyService.Result retry = shortTtl.execute("buyer@test.com", "key-4", request(1L, 2), () -> 2L);
+        assertThat(retry.orderId()).isEqualTo(2L);
+
+        assertThat(slow.get().orderId()).isEqualTo(1L);
+        pool.shutdown();
+
+        // 늦게 끝난 첫 요청이 결과를 덮어쓰지 않음
+        OrderIdempotencyService.Result replay = shortTtl.execute("buyer@test.com", "key-4", request(1L, 2), () -> 3L);
+        assertThat(replay.orderId()).isEqualTo(2L);
+        assertThat(replay.replayed()).isTrue();
+    }
+
+    @Test
+    void lateFailureDoesNotReleaseNewOwnersMarker() throws Exception {
+        OrderIdempotencyService shortTtl = newService(1);
+        ExecutorService pool = Executors.newFixedThreadPool(2);
+        Future<?> failing = pool.submit(() ->
+                shortTtl.execute("buyer@test.com", "key-5", request(1L, 2), () -> {
+                    sleep(1_500);
+                    throw new RuntimeException("재고 부족");
+                }));
+
+        sleep(1_200);
+        Future<OrderIdempotencyService.Result> owner = pool.submit(() ->
+                shortTtl.execute("buyer@test.com", "key-5", request(1L, 2), () -> {
+                    sleep(800);
+                    return 2L;
+                }));
+
+        assertThatThrownBy(failing::get).hasRootCauseMessage("재고 부족");
+        // 첫 요청이 실패했어도 두 번째 요청의 처리 중 표시는 남아 있어야 함
+        assertThat(redisTemplate.opsForValue().get("idem:order:buyer@test.com:key-5")).startsWith("IN_PROGRESS:");
+
+        assertThat(owner.get().orderId()).isEqualTo(2L);
+        pool.shutdown();
+    }
+
+    private OrderIdempotencyService newService(long inFlightTtlSeconds) {
+        return new OrderIdempotencyService(redisTemplate, new ObjectMapper(), inFlightTtlSeconds, 24, 5000, 20);
+    }
+
+    private static OrderRequestDto request(Long productId, int quantity) {
+        OrderRequestDto dto = new OrderRequestDto();
+        dto.setOrderItems(List.of(new OrderItemDto(productId, quantity, null, null, null, null)));
+        return dto;
+    }
+
+    private static void sleep(long ms) {
+        try {
+            Thread.sleep(ms);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static OrderIdempotencyService.Result get(Future<OrderIdempotencyService.Result> future) {
+        try {
+            return future.get();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
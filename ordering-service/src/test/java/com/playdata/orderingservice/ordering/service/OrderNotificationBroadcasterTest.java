@@ -0,0 +1,116 @@
+package com.playdata.orderingservice.ordering.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.playdata.orderingservice.common.dto.OrderNotificationEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+// 로컬 Redis 하나에 broadcaster 두 개(= pod 두 개)를 붙여서 pod 간 전달을 확인
+class OrderNotificationBroadcasterTest {
+
+    private RedisServer redisServer;
+    private final List<Pod> pods = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        redisServer = new RedisServer(port);
+        redisServer.start();
+
+        pods.add(new Pod(port));
+        pods.add(new Pod(port));
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        pods.forEach(Pod::close);
+        redisServer.stop();
+    }
+
+    @Test
+    void eventsRaisedOnOnePodReachSubscribersOnEveryPodAsOneMessage() {
+        Pod podA = pods.get(0);
+        podA.broadcaster.publishBatch(List.of(event(1L), event(2L)));
+
+        for (Pod pod : pods) {
+            ArgumentCaptor<SseEmitter.SseEventBuilder> captor = ArgumentCaptor.forClass(SseEmitter.SseEventBuilder.class);
+            // 두 알림이 하나의 SSE 이벤트로 묶여서 한 번만 전달됨
+            verify(pod.hub, timeout(3000).times(1)).broadcastToAdmins(captor.capture());
+
+            String payload = captor.getValue().build().stream()
+                    .map(ResponseBodyEmitter.DataWithMediaType::getData)
+                    .map(String::valueOf)
+                    .collect(Collectors.joining());
+            assertThat(payload).contains("event:" + OrderNotificationBroadcaster.SSE_EVENT_NAME);
+            assertThat(payload).contains("\"orderId\":1").contains("\"orderId\":2");
+        }
+    }
+
+    @Test
+    void nothingIsPublishedWhenThereAreNoEvents() throws InterruptedException {
+        pods.get(0).broadcaster.publishBatch(List.of());
+
+        Thread.sleep(300);
+        pods.forEach(pod -> verifyNoInteractions(pod.hub));
+    }
+
+    private OrderNotificationEvent event(Long orderId) {
+        return OrderNotificationEvent.builder()
+                .orderId(orderId)
+                .customerEmail("buyer@test.com")
+                .orderStatus("ORDERED")
+                .totalItems(1)
+                .build();
+    }
+
+    private static class Pod {
+        final LettuceConnectionFactory connectionFactory;
+        final RedisMessageListenerContainer container;
+        final SseEmitterHub hub = mock(SseEmitterHub.class);
+        final OrderNotificationBroadcaster broadcaster;
+
+        Pod(int port) {
+            connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", port));
+            connectionFactory.afterPropertiesSet();
+            connectionFactory.start();
+
+            container = new RedisMessageListenerContainer();
+            container.setConnectionFactory(connectionFactory);
+            container.afterPropertiesSet();
+
+            broadcaster = new OrderNotificationBroadcaster(new StringRedisTemplate(connectionFactory), container,
+                    hub, new ObjectMapper().registerModule(new JavaTimeModule()), "order:notifications:test");
+            container.start();
+        }
+
+        void close() {
+            try {
+                container.destroy();
+            } catch (Exception ignored) {
+            }
+            connectionFactory.destroy();
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.playdata.orderingservice.ordering.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.playdata.orderingservice.common.dto.OrderNotificationEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+// 배치 크기별 관리자 알림 처리량 (메세지/초)
+// 브로커 없이 컨테이너가 꺼내 주는 것과 같은 List<OrderNotificationEvent> 묶음을 리스너에 직접 넣고,
+// Redis pub/sub 을 거쳐 SSE 허브에 모두 도착할 때까지의 시간을 잰다. (AMQP 수신 비용은 포함하지 않음)
+class OrderNotificationThroughputTest {
+
+    private static final Logger log = LoggerFactory.getLogger(OrderNotificationThroughputTest.class);
+
+    private static final int MESSAGES = 2000;
+    private static final int[] BATCH_SIZES = {1, 10, 50, 200};
+
+    private RedisServer redisServer;
+    private LettuceConnectionFactory connectionFactory;
+    private RedisMessageListenerContainer container;
+    private final AtomicInteger delivered = new AtomicInteger();
+    private OrderNotificationListener listener;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        redisServer = new RedisServer(port);
+        redisServer.start();
+
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", port));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.afterPropertiesSet();
+
+        // 호출 기록을 남기지 않는 mock (기록 비용이 작은 배치 쪽에 불리하게 섞이지 않도록)
+        SseEmitterHub hub = mock(SseEmitterHub.class, withSettings().stubOnly());
+        doAnswer(invocation -> delivered.incrementAndGet())
+                .when(hub).broadcastToAdmins(any(SseEmitter.SseEventBuilder.class));
+
+        OrderNotificationBroadcaster broadcaster = new OrderNotificationBroadcaster(
+                new StringRedisTemplate(connectionFactory), container, hub,
+                new ObjectMapper().registerModule(new JavaTimeModule()), "order:notifications:benchmark");
+        container.start();
+        listener = new OrderNotificationListener(broadcaster);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        container.destroy();
+        connectionFactory.destroy();
+        redisServer.stop();
+    }
+
+    @Test
+    void batchingRaisesNotificationThroughput() throws InterruptedException {
+        run(50); // JIT/커넥션 예열
+
+        Map<Integer, Double> throughput = new LinkedHashMap<>();
+        for (int batchSize : BATCH_SIZES) {
+            throughput.put(batchSize, run(batchSize));
+        }
+        throughput.forEach((batchSize, perSecond) ->
+                log.info("order notification throughput: batch-size={} -> {} msg/s", batchSize, Math.round(perSecond)));
+
+        assertThat(throughput.get(50)).isGreaterThan(throughput.get(1));
+    }
+
+    // MESSAGES 개를 batchSize 씩 리스너에 넣고, 모든 묶음이 허브에 도착할 때까지의 처리량
+    private double run(int batchSize) throws InterruptedException {
+        List<List<OrderNotificationEvent>> batches = new ArrayList<>();
+        for (int start = 0; start < MESSAGES; start += batchSize) {
+            List<OrderNotificationEvent> batch = new ArrayList<>();
+            for (int i = start; i < Math.min(start + batchSize, MESSAGES); i++) {
+                batch.add(event(i));
+            }
+            batches.add(batch);
+        }
+
+        delivered.set(0);
+        long started = System.nanoTime();
+        batches.forEach(listener::onOrderNotifications);
+        long deadline = System.currentTimeMillis() + 30_000;
+        while (delivered.get() < batches.size()) {
+            assertThat(System.currentTimeMillis()).as("모든 알림이 30초 안에 도착해야 함").isLessThan(deadline);
+            Thread.sleep(1);
+        }
+        return MESSAGES / ((System.nanoTime() - started) / 1_000_000_000.0);
+    }
+
+    private OrderNotificationEvent event(long orderId) {
+        return OrderNotificationEvent.builder()
+                .orderId(orderId)
+                .customerEmail("buyer@test.com")
+                .orderStatus("ORDERED")
+                .totalItems(1)
+                .build();
+    }
+}
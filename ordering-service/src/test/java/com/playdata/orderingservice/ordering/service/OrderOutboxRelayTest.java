@@ -0,0 +1,98 @@
+package com.playdata.orderingservice.ordering.service;
+
+import com.playdata.orderingservice.ordering.entity.OrderOutbox;
+import com.playdata.orderingservice.ordering.repository.OrderOutboxRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+class OrderOutboxRelayTest {
+
+    private OrderOutboxRepository repository;
+    private InMemoryOrderEventPublisher publisher;
+    private SimpleMeterRegistry meterRegistry;
+    private OrderOutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(OrderOutboxRepository.class);
+        publisher = new InMemoryOrderEventPublisher();
+        meterRegistry = new SimpleMeterRegistry();
+        TransactionTemplate transactionTemplate
+                = new TransactionTemplate(mock(PlatformTransactionManager.class));
+
+        relay = new OrderOutboxRelay(repository, publisher, transactionTemplate, meterRegistry);
+        ReflectionTestUtils.setField(relay, "batchSize", 100);
+        ReflectionTestUtils.setField(relay, "maxBatchesPerRun", 10);
+        when(repository.findFirstByPublishedAtIsNullOrderByIdAsc()).thenReturn(Optional.empty());
+    }
+
+    @Test
+    void burstIsDrainedInFewBulkPublishes() {
+        when(repository.findPendingForUpdate(any(Pageable.class)))
+                .thenReturn(events(1, 100), events(101, 100), events(201, 50));
+
+        relay.relay();
+
+        assertThat(publisher.getBatchSizes()).containsExactly(100, 100, 50);
+        assertThat(publisher.getPublished()).hasSize(250);
+        verify(repository, times(3)).markPublished(anyList(), any(LocalDateTime.class));
+        assertThat(meterRegistry.get("outbox.relay.published").counter().count()).isEqualTo(250);
+        assertThat(meterRegistry.get("outbox.relay.batch.size").summary().count()).isEqualTo(3);
+    }
+
+    @Test
+    void failedPublishLeavesEventsPending() {
+        OrderEventPublisher failing = events -> {
+            throw new IllegalStateException("broker down");
+        };
+        relay = new OrderOutboxRelay(repository, failing,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)), meterRegistry);
+        ReflectionTestUtils.setField(relay, "batchSize", 100);
+        ReflectionTestUtils.setField(relay, "maxBatchesPerRun", 10);
+        when(repository.findPendingForUpdate(any(Pageable.class))).thenReturn(events(1, 10));
+
+        relay.relay();
+
+        verify(repository, never()).markPublished(anyList(), any(LocalDateTime.class));
+        assertThat(meterRegistry.get("outbox.relay.failures").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void lagGaugeReportsOldestPendingEvent() {
+        when(repository.findPendingForUpdate(any(Pageable.class))).thenReturn(List.of());
+        when(repository.findFirstByPublishedAtIsNullOrderByIdAsc()).thenReturn(Optional.of(
+                OrderOutbox.builder().id(1L).createdAt(LocalDateTime.now().minusSeconds(30)).build()));
+
+        relay.relay();
+
+        assertThat(meterRegistry.get("outbox.relay.lag").gauge().value()).isGreaterThanOrEqualTo(30.0);
+    }
+
+    private List<OrderOutbox> events(long firstId, int count) {
+        return LongStream.range(firstId, firstId + count)
+                .mapToObj(id -> OrderOutbox.builder()
+                        .id(id)
+                        .aggregateId(id)
+                        .eventType(OrderOutboxService.ORDER_CREATED)
+                        .routingKey("order.create")
+                        .payload("{\"orderId\":" + id + "}")
+                        .createdAt(LocalDateTime.now())
+                        .build())
+                .toList();
+    }
+}
@@ -0,0 +1,197 @@
+package com.playdata.orderingservice.ordering.service;
+
+import com.playdata.orderingservice.cart.dto.CartResponseDto;
+import com.playdata.orderingservice.cart.service.CartService;
+import com.playdata.orderingservice.client.ProductServiceClient;
+import com.playdata.orderingservice.client.UserServiceClient;
+import com.playdata.orderingservice.common.auth.Role;
+import com.playdata.orderingservice.common.auth.TokenUserInfo;
+import com.playdata.orderingservice.common.cache.ProductSnapshotCache;
+import com.playdata.orderingservice.common.dto.CommonResDto;
+import com.playdata.orderingservice.common.exception.DependencyOverloadedException;
+import com.playdata.orderingservice.common.resilience.ResilientCaller;
+import com.playdata.orderingservice.ordering.dto.ProductResDto;
+import com.playdata.orderingservice.ordering.dto.StockReserveResDto;
+import com.playdata.orderingservice.ordering.dto.UserResDto;
+import com.playdata.orderingservice.ordering.entity.Order;
+import com.playdata.orderingservice.ordering.entity.OrderStatus;
+import com.playdata.orderingservice.ordering.mapper.OrderMapper;
+import com.playdata.orderingservice.ordering.repository.OrderRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class OrderServiceTest {
+
+    private static final String EMAIL = "buyer@test.com";
+    private static final long LOOKUP_DELAY_MS = 300;
+
+    private final OrderRepository orderRepository = mock(OrderRepository.class);
+    private final UserServiceClient userServiceClient = mock(UserServiceClient.class);
+    private final ProductServiceClient productServiceClient = mock(ProductServiceClient.class);
+    private final CartService cartService = mock(CartService.class);
+    private final OrderOutboxService orderOutboxService = mock(OrderOutboxService.class);
+    private final TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+    private final ProductSnapshotCache productSnapshotCache = mock(ProductSnapshotCache.class);
+    private final ResilientCaller resilientCaller = mock(ResilientCaller.class);
+    private final CheckoutExecutor checkoutExecutor = new CheckoutExecutor(8, 100);
+
+    private final TokenUserInfo buyer = new TokenUserInfo(EMAIL, Role.USER);
+    private OrderService orderService;
+
+    @BeforeEach
+    void setUp() {
+        orderService = new OrderService(orderRepository, mock(OrderMapper.class), userServiceClient,
+                productServiceClient, cartService, orderOutboxService, transactionTemplate,
+                checkoutExecutor, productSnapshotCache, resilientCaller);
+        ReflectionTestUtils.setField(orderService, "fanOutTimeoutMs", 5_000L);
+
+        // 보호 장치 없이 바로 호출
+        when(resilientCaller.read(anyString(), any())).thenAnswer(inv -> inv.<Supplier<?>>getArgument(1).get());
+        when(resilientCaller.write(anyString(), any())).thenAnswer(inv -> inv.<Supplier<?>>getArgument(1).get());
+        when(transactionTemplate.execute(any()))
+                .thenAnswer(inv -> inv.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        when(orderRepository.save(any(Order.class))).thenAnswer(inv -> {
+            Order order = inv.getArgument(0);
+            if (order.getOrderId() == null) ReflectionTestUtils.setField(order, "orderId", 100L);
+            return order;
+        });
+
+        when(productSnapshotCache.getProducts(anyCollection()))
+                .thenReturn(Map.of(1L, ProductResDto.builder().id(1L).price(1000).build()));
+        when(productServiceClient.reserveStock(anyString(), any())).thenReturn(new CommonResDto<>(HttpStatus.OK, "ok",
+                List.of(new StockReserveResDto(1L, 2, true))));
+    }
+
+    private void stubLookups(long delayMs) {
+        when(userServiceClient.findByEmail(EMAIL)).thenAnswer(inv -> {
+            Thread.sleep(delayMs);
+            return new CommonResDto<>(HttpStatus.OK, "ok", UserResDto.builder().address("Seoul").build());
+        });
+        when(cartService.getCart(any())).thenAnswer(inv -> {
+            Thread.sleep(delayMs);
+            return CartResponseDto.from(EMAIL, Map.of(1L, 2), Map.of());
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        checkoutExecutor.destroy();
+    }
+
+    @Test
+    void userAndCartLookupsRunConcurrently() {
+        stubLookups(LOOKUP_DELAY_MS);
+
+        long start = System.nanoTime();
+        Order order = orderService.createOrder(null, buyer);
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        // 두 조회의 합(600ms)이 아니라 더 느린 쪽에 가까워야 함
+        assertThat(elapsedMs).isLessThan(LOOKUP_DELAY_MS * 2 - 50);
+        assertThat(order.getOrderStatus()).isEqualTo(OrderStatus.ORDERED);
+        assertThat(order.getAddress()).isEqualTo("Seoul");
+        assertThat(order.getTotalPrice()).isEqualByComparingTo("2000");
+    }
+
+    @Test
+    void reserveTimeoutReleasesReservation() {
+        stubLookups(0);
+        when(productServiceClient.reserveStock(anyString(), any()))
+                .thenThrow(new RuntimeException("productServiceUpdate 호출 시간 초과"));
+
+        assertThatThrownBy(() -> orderService.createOrder(null, buyer))
+                .hasMessage("상품 수량 업데이트 실패");
+
+        // 응답을 못 받았으므로 같은 키로 예약 해제, 장바구니는 그대로
+        verify(productServiceClient).releaseReservation("ordering-service:order-100");
+        verify(cartService, never()).clearCart(any());
+        ArgumentCaptor<Order> saved = ArgumentCaptor.forClass(Order.class);
+        verify(orderRepository, atLeastOnce()).save(saved.capture());
+        assertThat(saved.getValue().getOrderStatus()).isEqualTo(OrderStatus.PENDING_PROD_STOCK_UPDATE);
+    }
+
+    @Test
+    void outOfStockIsNotReleased() {
+        stubLookups(0);
+        when(productServiceClient.reserveStock(anyString(), any())).thenReturn(new CommonResDto<>(HttpStatus.OK, "재고 부족",
+                List.of(new StockReserveResDto(1L, 2, false))));
+
+        assertThatThrownBy(() -> orderService.createOrder(null, buyer))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        // product-service 에서 이미 롤백됨
+        verify(productServiceClient, never()).releaseReservation(anyString());
+        verify(cartService, never()).clearCart(any());
+    }
+
+    @Test
+    void overloadedReserveIsNotReleased() {
+        stubLookups(0);
+        doThrow(new DependencyOverloadedException("productServiceUpdate 호출이 많아 잠시 후 다시 시도해 주세요."))
+                .when(resilientCaller).write(anyString(), any());
+
+        assertThatThrownBy(() -> orderService.createOrder(null, buyer))
+                .isInstanceOf(DependencyOverloadedException.class);
+
+        // 요청을 보내지 않았으므로 되돌릴 재고도 없음
+        verify(productServiceClient, never()).releaseReservation(anyString());
+    }
+
+    @Test
+    void failureAfterReserveReleasesReservation() {
+        stubLookups(0);
+        doThrow(new RuntimeException("cart store down")).when(cartService).clearCart(any());
+
+        assertThatThrownBy(() -> orderService.createOrder(null, buyer))
+                .hasMessage("cart store down");
+
+        verify(productServiceClient).releaseReservation("ordering-service:order-100");
+    }
+
+    @Test
+    void failedUserLookupInterruptsCartLookup() throws Exception {
+        CountDownLatch cartStarted = new CountDownLatch(1);
+        CountDownLatch cartInterrupted = new CountDownLatch(1);
+        when(userServiceClient.findByEmail(EMAIL)).thenAnswer(inv -> {
+            cartStarted.await(3, TimeUnit.SECONDS); // 장바구니 조회가 실행 중일 때 실패
+            throw new RuntimeException("user-service down");
+        });
+        when(cartService.getCart(any())).thenAnswer(inv -> {
+            cartStarted.countDown();
+            try {
+                Thread.sleep(10_000);
+            } catch (InterruptedException e) {
+                cartInterrupted.countDown();
+            }
+            return CartResponseDto.from(EMAIL, Map.of(), Map.of());
+        });
+
+        assertThatThrownBy(() -> orderService.createOrder(null, buyer))
+                .hasMessage("user-service down");
+        assertThat(cartInterrupted.await(3, TimeUnit.SECONDS)).isTrue();
+    }
+}
@@ -0,0 +1,218 @@
+package com.playdata.orderingservice.ordering.service;
+
+import com.playdata.orderingservice.common.auth.Role;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SseEmitterHubTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private TestHub hub;
+
+    @AfterEach
+    void tearDown() {
+        if (hub != null) hub.destroy();
+    }
+
+    @Test
+    void orderBroadcastReachesOnlyAdminConnections() {
+        hub = new TestHub(meterRegistry, 256, SseEmitterHub.OverflowPolicy.DROP_OLDEST);
+        RecordingEmitter admin = (RecordingEmitter) hub.subscribe("admin@test.com", Role.ADMIN);
+        RecordingEmitter user = (RecordingEmitter) hub.subscribe("user@test.com", Role.USER);
+        waitUntil(() -> admin.sent.size() == 1 && user.sent.size() == 1); // connect 이벤트
+
+        hub.broadcastToAdmins(SseEmitter.event().name("ordered").data("order-1"));
+
+        waitUntil(() -> admin.sent.size() == 2);
+        assertThat(admin.sent.get(1)).contains("order-1");
+        assertThat(user.sent).hasSize(1).noneMatch(data -> data.contains("order-1"));
+    }
+
+    @Test
+    void everyConnectionOfTheSameUserReceivesEvents() {
+        hub = new TestHub(meterRegistry, 256, SseEmitterHub.OverflowPolicy.DROP_OLDEST);
+        RecordingEmitter tab1 = (RecordingEmitter) hub.subscribe("admin@test.com", Role.ADMIN);
+        RecordingEmitter tab2 = (RecordingEmitter) hub.subscribe("admin@test.com", Role.ADMIN);
+
+        hub.sendTo("admin@test.com", SseEmitter.event().name("ordered").data("order-1"));
+
+        waitUntil(() -> tab1.sent.size() == 2 && tab2.sent.size() == 2);
+        assertThat(tab1.sent.get(1)).contains("order-1");
+        assertThat(tab2.sent.get(1)).contains("order-1");
+        assertThat(gauge("sse.connections")).isEqualTo(2);
+    }
+
+    @Test
+    void connectionsAreRemovedOnCompletionTimeoutAndError() {
+        hub = new TestHub(meterRegistry, 256, SseEmitterHub.OverflowPolicy.DROP_OLDEST);
+        RecordingEmitter completed = (RecordingEmitter) hub.subscribe("admin@test.com", Role.ADMIN);
+        RecordingEmitter timedOut = (RecordingEmitter) hub.subscribe("admin@test.com", Role.ADMIN);
+        RecordingEmitter failed = (RecordingEmitter) hub.subscribe("admin@test.com", Role.ADMIN);
+        assertThat(gauge("sse.connections")).isEqualTo(3);
+        waitUntil(() -> completed.sent.size() == 1 && timedOut.sent.size() == 1 && failed.sent.size() == 1);
+
+        completed.completionCallback.run();
+        assertThat(hub.connectionCount()).isEqualTo(2);
+        timedOut.timeoutCallback.run();
+        assertThat(hub.connectionCount()).isEqualTo(1);
+        failed.errorCallback.accept(new IllegalStateException("broken pipe"));
+        assertThat(hub.connectionCount()).isZero();
+        assertThat(gauge("sse.connections")).isZero();
+
+        // 콜백이 두 번 불려도 수가 음수가 되지 않음
+        completed.timeoutCallback.run();
+        assertThat(hub.connectionCount()).isZero();
+
+        hub.sendTo("admin@test.com", SseEmitter.event().name("ordered").data("order-1"));
+        hub.broadcastToAdmins(SseEmitter.event().name("ordered").data("order-2"));
+        assertThat(hub.queuedEventCount()).isZero();
+        assertThat(failed.sent).hasSize(1); // connect 이벤트만
+    }
+
+    @Test
+    void dropOldestKeepsNewestEventsWhenQueueIsFull() throws InterruptedException {
+        hub = new TestHub(meterRegistry, 2, SseEmitterHub.OverflowPolicy.DROP_OLDEST);
+        RecordingEmitter slow = (RecordingEmitter) hub.subscribe("admin@test.com", Role.ADMIN, new CountDownLatch(1));
+        // 전송 스레드가 connect 이벤트를 보내다가 멈춘 상태
+        assertThat(slow.sending.await(3, TimeUnit.SECONDS)).isTrue();
+
+        hub.broadcastToAdmins(SseEmitter.event().data("e1"));
+        hub.broadcastToAdmins(SseEmitter.event().data("e2"));
+        hub.broadcastToAdmins(SseEmitter.event().data("e3"));
+
+        assertThat(gauge("sse.queue.depth")).isEqualTo(2);
+        assertThat(meterRegistry.get("sse.events.dropped").counter().count()).isEqualTo(1);
+
+        slow.release.countDown();
+        waitUntil(() -> slow.sent.size() == 3);
+        assertThat(slow.sent.get(1)).contains("e2");
+        assertThat(slow.sent.get(2)).contains("e3");
+        assertThat(gauge("sse.queue.depth")).isZero();
+    }
+
+    @Test
+    void closePolicyDisconnectsSlowClient() throws InterruptedException {
+        hub = new TestHub(meterRegistry, 2, SseEmitterHub.OverflowPolicy.CLOSE);
+        RecordingEmitter slow = (RecordingEmitter) hub.subscribe("admin@test.com", Role.ADMIN, new CountDownLatch(1));
+        RecordingEmitter fast = (RecordingEmitter) hub.subscribe("other@test.com", Role.ADMIN);
+        assertThat(slow.sending.await(3, TimeUnit.SECONDS)).isTrue();
+
+        hub.sendTo("admin@test.com", SseEmitter.event().data("e1"));
+        hub.sendTo("admin@test.com", SseEmitter.event().data("e2"));
+        hub.sendTo("admin@test.com", SseEmitter.event().data("e3"));
+
+        assertThat(slow.completed).isTrue();
+        assertThat(hub.connectionCount()).isEqualTo(1); // 다른 연결은 그대로
+        assertThat(meterRegistry.get("sse.connections.overflow.closed").counter().count()).isEqualTo(1);
+        // 끊긴 연결의 큐는 비워지고, 남은 것은 전송 스레드를 기다리는 다른 연결의 connect 이벤트뿐
+        assertThat(gauge("sse.queue.depth")).isEqualTo(1);
+
+        slow.release.countDown();
+        waitUntil(() -> fast.sent.size() == 1);
+        assertThat(fast.completed).isFalse();
+        assertThat(gauge("sse.queue.depth")).isZero();
+    }
+
+    private double gauge(String name) {
+        return meterRegistry.get(name).gauge().value();
+    }
+
+    // 전송은 별도 스레드에서 일어나므로 조건이 맞을 때까지 잠깐 기다린다.
+    static void waitUntil(BooleanSupplier condition) {
+        long deadline = System.currentTimeMillis() + 3000;
+        while (!condition.getAsBoolean()) {
+            if (System.currentTimeMillis() > deadline) throw new AssertionError("조건을 만족하지 못함");
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new AssertionError(e);
+            }
+        }
+    }
+
+    // 테스트용 허브: 실제 응답 대신 보낸 이벤트를 기록하는 emitter 를 만든다.
+    static class TestHub extends SseEmitterHub {
+        TestHub(SimpleMeterRegistry meterRegistry, int queueCapacity, OverflowPolicy overflowPolicy) {
+            super(meterRegistry, 60_000, 3600, queueCapacity, overflowPolicy, 1);
+        }
+
+        private CountDownLatch nextRelease;
+
+        // send 가 release 될 때까지 멈추는 느린 클라이언트로 연결
+        SseEmitter subscribe(String email, Role role, CountDownLatch release) {
+            nextRelease = release;
+            try {
+                return subscribe(email, role);
+            } finally {
+                nextRelease = null;
+            }
+        }
+
+        @Override
+        SseEmitter newEmitter() {
+            return new RecordingEmitter(nextRelease);
+        }
+    }
+
+    static class RecordingEmitter extends SseEmitter {
+        final List<String> sent = new CopyOnWriteArrayList<>();
+        volatile Runnable completionCallback;
+        volatile Runnable timeoutCallback;
+        volatile Consumer<Throwable> errorCallback;
+        volatile boolean completed;
+        final CountDownLatch sending = new CountDownLatch(1);
+        final CountDownLatch release;
+
+        RecordingEmitter(CountDownLatch release) {
+            this.release = release;
+        }
+
+        @Override
+        public void send(Set<ResponseBodyEmitter.DataWithMediaType> items) {
+            sending.countDown();
+            if (release != null) {
+                try {
+                    release.await(3, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            sent.add(items.stream().map(item -> String.valueOf(item.getData())).collect(Collectors.joining()));
+        }
+
+        @Override
+        public synchronized void onCompletion(Runnable callback) {
+            this.completionCallback = callback;
+        }
+
+        @Override
+        public synchronized void onTimeout(Runnable callback) {
+            this.timeoutCallback = callback;
+        }
+
+        @Override
+        public synchronized void onError(Consumer<Throwable> callback) {
+            this.errorCallback = callback;
+        }
+
+        @Override
+        public synchronized void complete() {
+            completed = true;
+        }
+    }
+}
@@ -30,6 +30,10 @@ public class QProduct extends EntityPathBase<Product> {
 
     public final StringPath description = createString("description");
 
+    public final StringPath detailImagePath = createString("detailImagePath");
+
+    public final StringPath listImagePath = createString("listImagePath");
+
     public final StringPath mainImagePath = createString("mainImagePath");
 
     public final StringPath name = createString("name");
@@ -40,6 +44,8 @@ public class QProduct extends EntityPathBase<Product> {
 
     public final ListPath<ProductImages, QProductImages> productImages = this.<ProductImages, QProductImages>createList("productImages", ProductImages.class, QProductImages.class, PathInits.DIRECT2);
 
+    public final StringPath smallThumbnailPath = createString("smallThumbnailPath");
+
     public final NumberPath<Integer> stockQuantity = createNumber("stockQuantity", Integer.class);
 
     public final StringPath thumbnailPath = createString("thumbnailPath");
@@ -22,6 +22,8 @@ public class QProductImages extends EntityPathBase<ProductImages> {
 
     public static final QProductImages productImages = new QProductImages("productImages");
 
+    public final StringPath detailUrl = createString("detailUrl");
+
     public final NumberPath<Long> imgId = createNumber("imgId", Long.class);
 
     public final NumberPath<Integer> imgOrder = createNumber("imgOrder", Integer.class);
@@ -30,6 +32,8 @@ public class QProductImages extends EntityPathBase<ProductImages> {
 
     public final QProduct product;
 
+    public final StringPath thumbnailUrl = createString("thumbnailUrl");
+
     public QProductImages(String variable) {
         this(ProductImages.class, forVariable(variable), INITS);
     }
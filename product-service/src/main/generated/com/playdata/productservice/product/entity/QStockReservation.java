@@ -0,0 +1,45 @@
+package com.playdata.productservice.product.entity;
+
+import static com.querydsl.core.types.PathMetadataFactory.*;
+
+import com.querydsl.core.types.dsl.*;
+
+import com.querydsl.core.types.PathMetadata;
+import javax.annotation.processing.Generated;
+import com.querydsl.core.types.Path;
+
+
+/**
+ * QStockReservation is a Querydsl query type for StockReservation
+ */
+@Generated("com.querydsl.codegen.DefaultEntitySerializer")
+public class QStockReservation extends EntityPathBase<StockReservation> {
+
+    private static final long serialVersionUID = 1091140669L;
+
+    public static final QStockReservation stockReservation = new QStockReservation("stockReservation");
+
+    public final DateTimePath<java.time.LocalDateTime> createdAt = createDateTime("createdAt", java.time.LocalDateTime.class);
+
+    public final NumberPath<Long> id = createNumber("id", Long.class);
+
+    public final MapPath<Long, Integer, NumberPath<Integer>> items = this.<Long, Integer, NumberPath<Integer>>createMap("items", Long.class, Integer.class, NumberPath.class);
+
+    public final BooleanPath released = createBoolean("released");
+
+    public final StringPath reservationKey = createString("reservationKey");
+
+    public QStockReservation(String variable) {
+        super(StockReservation.class, forVariable(variable));
+    }
+
+    public QStockReservation(Path<? extends StockReservation> path) {
+        super(path.getType(), path.getMetadata());
+    }
+
+    public QStockReservation(PathMetadata metadata) {
+        super(StockReservation.class, metadata);
+    }
+
+}
+
@@ -0,0 +1,47 @@
+package com.playdata.productservice.upload.entity;
+
+import static com.querydsl.core.types.PathMetadataFactory.*;
+
+import com.querydsl.core.types.dsl.*;
+
+import com.querydsl.core.types.PathMetadata;
+import javax.annotation.processing.Generated;
+import com.querydsl.core.types.Path;
+
+
+/**
+ * QS3DeletionTask is a Querydsl query type for S3DeletionTask
+ */
+@Generated("com.querydsl.codegen.DefaultEntitySerializer")
+public class QS3DeletionTask extends EntityPathBase<S3DeletionTask> {
+
+    private static final long serialVersionUID = 1326253398L;
+
+    public static final QS3DeletionTask s3DeletionTask = new QS3DeletionTask("s3DeletionTask");
+
+    public final NumberPath<Integer> attempts = createNumber("attempts", Integer.class);
+
+    public final DateTimePath<java.time.LocalDateTime> createdAt = createDateTime("createdAt", java.time.LocalDateTime.class);
+
+    public final NumberPath<Long> id = createNumber("id", Long.class);
+
+    public final StringPath lastError = createString("lastError");
+
+    public final DateTimePath<java.time.LocalDateTime> nextAttemptAt = createDateTime("nextAttemptAt", java.time.LocalDateTime.class);
+
+    public final StringPath objectKey = createString("objectKey");
+
+    public QS3DeletionTask(String variable) {
+        super(S3DeletionTask.class, forVariable(variable));
+    }
+
+    public QS3DeletionTask(Path<? extends S3DeletionTask> path) {
+        super(path.getType(), path.getMetadata());
+    }
+
+    public QS3DeletionTask(PathMetadata metadata) {
+        super(S3DeletionTask.class, metadata);
+    }
+
+}
+
@@ -0,0 +1,53 @@
+package com.playdata.productservice.upload.entity;
+
+import static com.querydsl.core.types.PathMetadataFactory.*;
+
+import com.querydsl.core.types.dsl.*;
+
+import com.querydsl.core.types.PathMetadata;
+import javax.annotation.processing.Generated;
+import com.querydsl.core.types.Path;
+
+
+/**
+ * QUploadSession is a Querydsl query type for UploadSession
+ */
+@Generated("com.querydsl.codegen.DefaultEntitySerializer")
+public class QUploadSession extends EntityPathBase<UploadSession> {
+
+    private static final long serialVersionUID = 368442450L;
+
+    public static final QUploadSession uploadSession = new QUploadSession("uploadSession");
+
+    public final NumberPath<Long> contentLength = createNumber("contentLength", Long.class);
+
+    public final StringPath contentType = createString("contentType");
+
+    public final DateTimePath<java.time.LocalDateTime> createTime = createDateTime("createTime", java.time.LocalDateTime.class);
+
+    public final DateTimePath<java.time.LocalDateTime> expiresAt = createDateTime("expiresAt", java.time.LocalDateTime.class);
+
+    public final NumberPath<Long> id = createNumber("id", Long.class);
+
+    public final StringPath objectKey = createString("objectKey");
+
+    public final StringPath ownerEmail = createString("ownerEmail");
+
+    public final EnumPath<UploadPurpose> purpose = createEnum("purpose", UploadPurpose.class);
+
+    public final BooleanPath used = createBoolean("used");
+
+    public QUploadSession(String variable) {
+        super(UploadSession.class, forVariable(variable));
+    }
+
+    public QUploadSession(Path<? extends UploadSession> path) {
+        super(path.getType(), path.getMetadata());
+    }
+
+    public QUploadSession(PathMetadata metadata) {
+        super(UploadSession.class, metadata);
+    }
+
+}
+
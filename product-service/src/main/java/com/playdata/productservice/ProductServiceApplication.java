@@ -1,11 +1,16 @@
 package com.playdata.productservice;
 
+import com.playdata.productservice.common.bus.ProductChangedRemoteEvent;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.cloud.bus.jackson.RemoteApplicationEventScan;
 import org.springframework.cloud.openfeign.EnableFeignClients;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
 @EnableFeignClients(basePackages = "com.playdata.productservice.client")
+@RemoteApplicationEventScan(basePackageClasses = ProductChangedRemoteEvent.class) // 버스 커스텀 이벤트 등록
+@EnableScheduling
 public class ProductServiceApplication {
 
     public static void main(String[] args) {
@@ -2,7 +2,7 @@ package com.playdata.productservice.client;
 
 
 import com.playdata.productservice.common.auth.TokenUserInfo;
-import com.playdata.productservice.review.dto.OrderResponseDto;
+import com.playdata.productservice.review.dto.OrderPageResDto;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -15,8 +15,10 @@ import java.util.List;
 @FeignClient(name = "ordering-service")
 public interface OrderServiceClient {
 
-    // 사용자의 전체 주문 조회 (email로 조회)
-    @GetMapping("/orders//userOrderServer")
-    public List<OrderResponseDto> getOrdersServer(@RequestParam String email ) throws AccessDeniedException ;
+    // 사용자의 주문 내역 조회 (email로 조회, 최신순 커서 페이지)
+    @GetMapping("/orders/userOrderServer")
+    public OrderPageResDto getOrdersServer(@RequestParam String email,
+                                           @RequestParam(required = false) String cursor,
+                                           @RequestParam int size) throws AccessDeniedException ;
 
 }
@@ -0,0 +1,54 @@
+package com.playdata.productservice.common.auth;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.env.Environment;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.List;
+
+// 서비스 간 내부 호출 인증 (재고 예약/해제처럼 사용자가 직접 부르면 안 되는 API 용)
+// X-Internal-Service 에 호출한 서비스 이름, X-Internal-Token 에 그 서비스의 토큰을 담아 보낸다.
+// 토큰은 internal-auth.tokens.{서비스 이름} 에 설정하고, 설정이 없는 서비스는 인증하지 않는다.
+// 인증되면 principal 은 서비스 이름(String), 권한은 ROLE_SERVICE
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class InternalAuthFilter extends OncePerRequestFilter {
+
+    public static final String SERVICE_HEADER = "X-Internal-Service";
+    public static final String TOKEN_HEADER = "X-Internal-Token";
+
+    private final Environment environment;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+
+        String service = request.getHeader(SERVICE_HEADER);
+        String token = request.getHeader(TOKEN_HEADER);
+
+        if (service != null && token != null) {
+            String expected = environment.getProperty("internal-auth.tokens." + service);
+            if (expected != null && !expected.isEmpty() && MessageDigest.isEqual(
+                    expected.getBytes(StandardCharsets.UTF_8), token.getBytes(StandardCharsets.UTF_8))) {
+                SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                        service, "", List.of(new SimpleGrantedAuthority("ROLE_SERVICE"))));
+            } else {
+                log.warn("internal auth failed: service={}", service);
+            }
+        }
+
+        filterChain.doFilter(request, response);
+    }
+}
@@ -0,0 +1,24 @@
+package com.playdata.productservice.common.bus;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.cloud.bus.event.Destination;
+import org.springframework.cloud.bus.event.RemoteApplicationEvent;
+
+import java.util.List;
+
+// 상품의 가격/재고/정보가 바뀌었음을 Spring Cloud Bus(AMQP)로 알리는 이벤트
+// 버스는 클래스의 simple name 으로 타입을 구분하므로, 발행/구독하는 서비스 모두 같은 이름을 사용해야 한다.
+@Getter @Setter
+@NoArgsConstructor
+public class ProductChangedRemoteEvent extends RemoteApplicationEvent {
+
+    private List<Long> productIds;
+
+    public ProductChangedRemoteEvent(Object source, String originService,
+                                     Destination destination, List<Long> productIds) {
+        super(source, originService, destination);
+        this.productIds = productIds;
+    }
+}
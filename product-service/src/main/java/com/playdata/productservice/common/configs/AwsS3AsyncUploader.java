@@ -0,0 +1,202 @@
+package com.playdata.productservice.common.configs;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.InputStreamSource;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.core.async.BlockingInputStreamAsyncRequestBody;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.S3AsyncClientBuilder;
+import software.amazon.awssdk.services.s3.model.CompletedMultipartUpload;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.UploadPartResponse;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 상품 이미지 여러 장을 S3AsyncClient 로 동시에 올린다.
+// - 파일을 byte[] 로 통째로 읽지 않고 MultipartFile 의 InputStream 을 그대로 흘려보낸다.
+// - 동시에 올리는 파일 수는 s3-upload.max-concurrency 개로 제한 (전용 스레드 풀, 모든 요청이 공유)
+// - multipart-threshold 보다 큰 파일은 part-size 씩 나눠서 multipart upload (파일당 part 하나만큼만 메모리 사용)
+// - 하나라도 실패하면 이미 올라간 파일을 지우고 예외를 던진다.
+// spring.cloud.aws.s3.endpoint 를 지정하면 MinIO 같은 S3 호환 저장소로 보낸다. (로컬 테스트용)
+@Component
+@Slf4j
+public class AwsS3AsyncUploader {
+
+    private S3AsyncClient s3AsyncClient;
+    private ExecutorService uploadExecutor;
+
+    @Value("${spring.cloud.aws.credentials.accessKey}")
+    private String accessKey;
+    @Value("${spring.cloud.aws.credentials.secretKey}")
+    private String secretKey;
+    @Value("${spring.cloud.aws.region.static}")
+    private String region;
+    @Value("${spring.cloud.aws.s3.bucket}")
+    private String bucketName;
+    @Value("${spring.cloud.aws.s3.endpoint:}")
+    private String endpoint;
+
+    @Value("${s3-upload.max-concurrency:8}")
+    private int maxConcurrency;
+    @Value("${s3-upload.multipart-threshold-mb:16}")
+    private long multipartThresholdMb;
+    @Value("${s3-upload.part-size-mb:8}")
+    private int partSizeMb;
+
+    // 올릴 파일 하나 (MultipartFile 도 InputStreamSource)
+    public record UploadRequest(String key, InputStreamSource source, long contentLength, String contentType) {
+    }
+
+    public AwsS3AsyncUploader() {
+    }
+
+    // 테스트용: 미리 만든 클라이언트로 생성
+    AwsS3AsyncUploader(S3AsyncClient s3AsyncClient, String bucketName, int maxConcurrency,
+                       long multipartThresholdMb, int partSizeMb) {
+        this.s3AsyncClient = s3AsyncClient;
+        this.bucketName = bucketName;
+        this.maxConcurrency = maxConcurrency;
+        this.multipartThresholdMb = multipartThresholdMb;
+        this.partSizeMb = partSizeMb;
+        initialize();
+    }
+
+    @PostConstruct
+    private void initialize() {
+        if (s3AsyncClient == null) {
+            s3AsyncClient = buildClient();
+        }
+
+        AtomicInteger threadCount = new AtomicInteger();
+        uploadExecutor = Executors.newFixedThreadPool(maxConcurrency,
+                runnable -> new Thread(runnable, "s3-upload-" + threadCount.incrementAndGet()));
+    }
+
+    private S3AsyncClient buildClient() {
+        S3AsyncClientBuilder builder = S3AsyncClient.builder()
+                .region(Region.of(region))
+                .credentialsProvider(StaticCredentialsProvider.create(
+                        AwsBasicCredentials.create(accessKey, secretKey)));
+        if (!endpoint.isBlank()) {
+            builder.endpointOverride(URI.create(endpoint)).forcePathStyle(true);
+        }
+        return builder.build();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        uploadExecutor.shutdown();
+        s3AsyncClient.close();
+    }
+
+    // 요청 순서대로 업로드된 URL 을 돌려준다.
+    public List<String> uploadAll(List<UploadRequest> requests) {
+        List<CompletableFuture<String>> futures = new ArrayList<>(requests.size());
+        for (UploadRequest request : requests) {
+            futures.add(CompletableFuture.supplyAsync(() -> upload(request), uploadExecutor));
+        }
+
+        try {
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+        } catch (CompletionException e) {
+            // 성공한 것만 골라서 삭제 (실패한 multipart 는 upload 안에서 abort 됨)
+            List<String> uploadedKeys = new ArrayList<>();
+            for (int i = 0; i < futures.size(); i++) {
+                if (!futures.get(i).isCompletedExceptionally()) {
+                    uploadedKeys.add(requests.get(i).key());
+                }
+            }
+            deleteKeys(uploadedKeys);
+            throw new RuntimeException("이미지 업로드 실패: " + e.getCause().getMessage(), e.getCause());
+        }
+
+        List<String> urls = new ArrayList<>(futures.size());
+        futures.forEach(future -> urls.add(future.join()));
+        return urls;
+    }
+
+    // 업로드 후 DB 반영이 실패한 경우 등, 올린 파일을 되돌릴 때 사용
+    public void deleteKeys(List<String> keys) {
+        List<CompletableFuture<?>> deletes = new ArrayList<>();
+        for (String key : keys) {
+            deletes.add(s3AsyncClient.deleteObject(b -> b.bucket(bucketName).key(key))
+                    .exceptionally(e -> {
+                        log.warn("업로드 보상 삭제 실패: {} ({})", key, e.getMessage());
+                        return null;
+                    }));
+        }
+        CompletableFuture.allOf(deletes.toArray(new CompletableFuture[0])).join();
+    }
+
+    public String urlOf(String key) {
+        return s3AsyncClient.utilities()
+                .getUrl(b -> b.bucket(bucketName).key(key))
+                .toString();
+    }
+
+    // 업로드 스레드에서 실행. 스트림을 읽는 동안 이 스레드가 묶이므로 동시 업로드 수 = 스레드 수
+    private String upload(UploadRequest request) {
+        try (InputStream in = request.source().getInputStream()) {
+            if (request.contentLength() > multipartThresholdMb * 1024 * 1024) {
+                uploadMultipart(request, in);
+            } else {
+                BlockingInputStreamAsyncRequestBody body = AsyncRequestBody.forBlockingInputStream(request.contentLength());
+                CompletableFuture<?> put = s3AsyncClient.putObject(b -> b.bucket(bucketName)
+                        .key(request.key())
+                        .contentType(request.contentType())
+                        .contentLength(request.contentLength()), body);
+                body.writeInputStream(in);
+                put.join();
+            }
+            return urlOf(request.key());
+        } catch (IOException e) {
+            throw new CompletionException(e);
+        }
+    }
+
+    private void uploadMultipart(UploadRequest request, InputStream in) throws IOException {
+        String uploadId = s3AsyncClient.createMultipartUpload(b -> b.bucket(bucketName)
+                        .key(request.key())
+                        .contentType(request.contentType()))
+                .join()
+                .uploadId();
+        try {
+            List<CompletedPart> parts = new ArrayList<>();
+            byte[] buffer = new byte[partSizeMb * 1024 * 1024];
+            int partNumber = 1;
+            int read;
+            while ((read = in.readNBytes(buffer, 0, buffer.length)) > 0) {
+                int number = partNumber++;
+                int length = read;
+                UploadPartResponse response = s3AsyncClient.uploadPart(b -> b.bucket(bucketName)
+                                .key(request.key())
+                                .uploadId(uploadId)
+                                .partNumber(number)
+                                .contentLength((long) length),
+                        AsyncRequestBody.fromByteBuffer(ByteBuffer.wrap(buffer, 0, length))).join();
+                parts.add(CompletedPart.builder().partNumber(number).eTag(response.eTag()).build());
+            }
+            s3AsyncClient.completeMultipartUpload(b -> b.bucket(bucketName)
+                    .key(request.key())
+                    .uploadId(uploadId)
+                    .multipartUpload(CompletedMultipartUpload.builder().parts(parts).build())).join();
+        } catch (RuntimeException | IOException e) {
+            s3AsyncClient.abortMultipartUpload(b -> b.bucket(bucketName).key(request.key()).uploadId(uploadId));
+            throw e;
+        }
+    }
+}
@@ -9,17 +9,33 @@ import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
 import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3ClientBuilder;
+import software.amazon.awssdk.services.s3.S3Configuration;
+import software.amazon.awssdk.services.s3.model.Delete;
 import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsResponse;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.S3Error;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
 
+import java.net.URI;
 import java.net.URL;
 import java.net.URLDecoder;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 @Component
 @Slf4j
 public class AwsS3Config {
 
     private S3Client s3Client;
+    private S3Presigner s3Presigner;
 
     @Value("${spring.cloud.aws.credentials.accessKey}")
     private String accessKey;
@@ -29,6 +45,8 @@ public class AwsS3Config {
     private String region;
     @Value("${spring.cloud.aws.s3.bucket}")
     private String bucketName;
+    @Value("${spring.cloud.aws.s3.endpoint:}")
+    private String endpoint; // S3 호환 저장소(MinIO 등) 주소. 비어 있으면 AWS S3
 
     @PostConstruct
     private void initializeAmazonS3Client() {
@@ -36,11 +54,69 @@ public class AwsS3Config {
         AwsBasicCredentials credentials
                 = AwsBasicCredentials.create(accessKey, secretKey);
 
-        this.s3Client = S3Client.builder()
+        S3ClientBuilder builder = S3Client.builder()
                 .region(Region.of(region))
-                .credentialsProvider(StaticCredentialsProvider.create(credentials))
+                .credentialsProvider(StaticCredentialsProvider.create(credentials));
+        if (!endpoint.isBlank()) {
+            builder.endpointOverride(URI.create(endpoint)).forcePathStyle(true);
+        }
+        this.s3Client = builder.build();
+
+        S3Presigner.Builder presignerBuilder = S3Presigner.builder()
+                .region(Region.of(region))
+                .credentialsProvider(StaticCredentialsProvider.create(credentials));
+        if (!endpoint.isBlank()) {
+            presignerBuilder.endpointOverride(URI.create(endpoint))
+                    .serviceConfiguration(S3Configuration.builder().pathStyleAccessEnabled(true).build());
+        }
+        this.s3Presigner = presignerBuilder.build();
+
+    }
+
+    // 클라이언트가 S3 로 직접 올릴 PUT URL. Content-Type / Content-Length 도 서명에 들어가므로 다르게 보내면 거절된다.
+    public String presignPutUrl(String key, String contentType, long contentLength, Duration expiresIn) {
+        PutObjectRequest request = PutObjectRequest.builder()
+                .bucket(bucketName)
+                .key(key)
+                .contentType(contentType)
+                .contentLength(contentLength)
                 .build();
 
+        return s3Presigner.presignPutObject(b -> b.signatureDuration(expiresIn).putObjectRequest(request))
+                .url()
+                .toString();
+    }
+
+    // 여러 파일을 한 번에 삭제 (DeleteObjects, 최대 1000개). 실패한 key 와 오류 메시지를 돌려준다.
+    // 없는 key 는 삭제 성공으로 처리된다.
+    public Map<String, String> deleteObjects(List<String> keys) {
+        List<ObjectIdentifier> objects = keys.stream()
+                .map(key -> ObjectIdentifier.builder().key(key).build())
+                .toList();
+
+        DeleteObjectsResponse response = s3Client.deleteObjects(b -> b.bucket(bucketName)
+                .delete(Delete.builder().objects(objects).quiet(true).build()));
+
+        Map<String, String> failed = new HashMap<>();
+        for (S3Error error : response.errors()) {
+            failed.put(error.key(), error.code() + ": " + error.message());
+        }
+        return failed;
+    }
+
+    // 올라간 파일의 메타데이터. 없으면 null
+    public HeadObjectResponse headObject(String key) {
+        try {
+            return s3Client.headObject(b -> b.bucket(bucketName).key(key));
+        } catch (NoSuchKeyException e) {
+            return null;
+        }
+    }
+
+    public String urlOf(String key) {
+        return s3Client.utilities()
+                .getUrl(b -> b.bucket(bucketName).key(key))
+                .toString();
     }
 
     public String uploadToS3Bucket(byte[] uploadFile, String fileName) {
@@ -51,18 +127,13 @@ public class AwsS3Config {
 
         s3Client.putObject(request, RequestBody.fromBytes(uploadFile));
 
-        return s3Client.utilities()
-                .getUrl(b -> b.bucket(bucketName).key(fileName))
-                .toString();
+        return urlOf(fileName);
 
     }
 
     public void deleteFromS3Bucket(String imageUrl) throws Exception {
 
-        URL url = new URL(imageUrl);
-
-        String decodingKey = URLDecoder.decode(url.getPath(), "UTF-8");
-        String key = decodingKey.substring(1);
+        String key = keyOf(imageUrl);
 
         DeleteObjectRequest request = DeleteObjectRequest.builder()
                 .bucket(bucketName)
@@ -71,6 +142,28 @@ public class AwsS3Config {
 
         s3Client.deleteObject(request);
     }
+
+    // 업로드된 원본 이미지를 다시 읽을 때 사용 (축소본 생성 등)
+    public byte[] downloadFromS3Bucket(String imageUrl) throws Exception {
+        GetObjectRequest request = GetObjectRequest.builder()
+                .bucket(bucketName)
+                .key(keyOf(imageUrl))
+                .build();
+
+        return s3Client.getObjectAsBytes(request).asByteArray();
+    }
+
+    public String keyOf(String imageUrl) throws Exception {
+        URL url = new URL(imageUrl);
+
+        String decodingKey = URLDecoder.decode(url.getPath(), "UTF-8");
+        String key = decodingKey.substring(1);
+        // path-style 주소(S3 호환 저장소)는 경로 맨 앞에 버킷 이름이 붙는다.
+        if (!endpoint.isBlank() && key.startsWith(bucketName + "/")) {
+            key = key.substring(bucketName.length() + 1);
+        }
+        return key;
+    }
 }
 
 
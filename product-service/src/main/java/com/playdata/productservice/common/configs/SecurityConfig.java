@@ -1,5 +1,6 @@
 package com.playdata.productservice.common.configs;
 
+import com.playdata.productservice.common.auth.InternalAuthFilter;
 import com.playdata.productservice.common.auth.JwtAuthFilter;
 import com.playdata.productservice.common.exception.CustomAuthenticationEntryPoint;
 import lombok.RequiredArgsConstructor;
@@ -22,6 +23,7 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 public class SecurityConfig {
 
     private final JwtAuthFilter jwtAuthFilter;
+    private final InternalAuthFilter internalAuthFilter;
     private final CustomAuthenticationEntryPoint customAuthenticationEntryPoint;
 
     @Bean
@@ -34,7 +36,11 @@ public class SecurityConfig {
 
         http.authorizeHttpRequests(auth -> {
             auth
+                    // 재고 예약/해제는 ordering-service 만 호출 (InternalAuthFilter)
+                    .requestMatchers("/product/reserve",
+                            "/product/reserve/release").hasRole("SERVICE")
                     .requestMatchers("/product/list",
+                            "/product/search",
                             "/product/updateQuantity",
                             "/product/detail/*",
                               "/product/products",
@@ -45,6 +51,7 @@ public class SecurityConfig {
                     .anyRequest().authenticated();
         });
         http.addFilterBefore(jwtAuthFilter, UsernamePasswordAuthenticationFilter.class);
+        http.addFilterAfter(internalAuthFilter, JwtAuthFilter.class);
 
         http.exceptionHandling(exception -> {
             exception.authenticationEntryPoint(customAuthenticationEntryPoint);
@@ -0,0 +1,24 @@
+package com.playdata.productservice.common.configs;
+
+import io.lettuce.core.tracing.MicrometerTracing;
+import io.micrometer.observation.ObservationRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.data.redis.ClientResourcesBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+// 분산 추적 설정
+// - HTTP 서버/Feign 요청 span 과 W3C traceparent 전파는 스프링 부트 + feign-micrometer 자동 설정이 처리한다.
+// - Redis 명령 span: Lettuce ClientResources 에 Micrometer 추적을 연결 (명령 인자는 span 에 남기지 않음)
+// - 리포지토리 호출 span: RepositoryObservationAspect
+// - span 은 management.otlp.tracing.endpoint 의 OTLP 수집기로 내보낸다.
+@Configuration
+public class TracingConfig {
+
+    @Bean
+    public ClientResourcesBuilderCustomizer lettuceTracingCustomizer(
+            ObservationRegistry observationRegistry,
+            @Value("${spring.application.name}") String applicationName) {
+        return builder -> builder.tracing(new MicrometerTracing(observationRegistry, applicationName + "-redis"));
+    }
+}
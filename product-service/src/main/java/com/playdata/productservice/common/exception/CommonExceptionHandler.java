@@ -2,6 +2,7 @@ package com.playdata.productservice.common.exception;
 
 import com.playdata.productservice.common.dto.CommonErrorDto;
 import jakarta.persistence.EntityNotFoundException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authorization.AuthorizationDeniedException;
@@ -27,6 +28,16 @@ public class CommonExceptionHandler {
         return new ResponseEntity<>(errorDto, HttpStatus.NOT_FOUND);
     }
 
+    // 검색 인덱스 적재 중이라 잠시 검색할 수 없는 상태
+    @ExceptionHandler(SearchIndexNotReadyException.class)
+    public ResponseEntity<?> searchIndexNotReadyHandler(SearchIndexNotReadyException e) {
+        CommonErrorDto errorDto
+                = new CommonErrorDto(HttpStatus.SERVICE_UNAVAILABLE, e.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(errorDto);
+    }
+
     @ExceptionHandler(AuthorizationDeniedException.class)
     public ResponseEntity<?> authDeniedHandler(AuthorizationDeniedException e) {
         e.printStackTrace();
@@ -0,0 +1,9 @@
+package com.playdata.productservice.common.exception;
+
+// 상품 검색 인덱스를 아직 적재 중이라 검색할 수 없을 때 발생 (503)
+public class SearchIndexNotReadyException extends RuntimeException {
+
+    public SearchIndexNotReadyException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,34 @@
+package com.playdata.productservice.common.tracing;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+// 스프링 데이터 리포지토리 메서드 호출마다 span 을 남긴다. (예: ProductRepository.findById)
+// 쿼리 자체의 span 은 없으므로, 트레이스에서 DB 구간을 이 span 으로 확인한다.
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class RepositoryObservationAspect {
+
+    private final ObservationRegistry observationRegistry;
+
+    @Around("execution(* org.springframework.data.repository.Repository+.*(..))")
+    public Object observe(ProceedingJoinPoint joinPoint) throws Throwable {
+        Class<?>[] interfaces = joinPoint.getThis() == null
+                ? new Class<?>[0] : joinPoint.getThis().getClass().getInterfaces();
+        String repository = interfaces.length > 0
+                ? interfaces[0].getSimpleName() : joinPoint.getSignature().getDeclaringType().getSimpleName();
+        String method = joinPoint.getSignature().getName();
+
+        return Observation.createNotStarted("repository.call", observationRegistry)
+                .contextualName(repository + "." + method)
+                .lowCardinalityKeyValue("repository", repository)
+                .lowCardinalityKeyValue("method", method)
+                .observeChecked(() -> joinPoint.proceed());
+    }
+}
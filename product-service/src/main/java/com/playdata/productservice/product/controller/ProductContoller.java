@@ -1,10 +1,15 @@
 package com.playdata.productservice.product.controller;
 
+import com.playdata.productservice.common.auth.TokenUserInfo;
 import com.playdata.productservice.common.dto.CommonResDto;
+import com.playdata.productservice.product.dto.ProductFacetSearchReqDto;
+import com.playdata.productservice.product.dto.ProductFacetSearchResDto;
 import com.playdata.productservice.product.dto.ProductResDto;
 import com.playdata.productservice.product.dto.ProductSaveReqDto;
 import com.playdata.productservice.product.dto.ProductSearchDto;
 import com.playdata.productservice.product.dto.ProductUpdateDto;
+import com.playdata.productservice.product.dto.StockReserveReqDto;
+import com.playdata.productservice.product.dto.StockReserveResDto;
 import com.playdata.productservice.product.entity.Product;
 import com.playdata.productservice.product.service.ProductService;
 import lombok.RequiredArgsConstructor;
@@ -13,6 +18,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 import java.io.IOException;
@@ -30,10 +36,11 @@ public class ProductContoller {
     // 상품 등록 요청
     @PreAuthorize("hasRole('ADMIN')")
     @PostMapping("/create")
-    public ResponseEntity<?> createProduct(ProductSaveReqDto dto)
+    public ResponseEntity<?> createProduct(ProductSaveReqDto dto,
+                                           @AuthenticationPrincipal TokenUserInfo tokenUserInfo)
             throws IOException {
 
-        Product product = productService.productCreate(dto);
+        Product product = productService.productCreate(dto, tokenUserInfo.getEmail());
 
         CommonResDto resDto
                 = new CommonResDto(HttpStatus.CREATED, "상품 등록 성공", product.getProductId());
@@ -52,11 +59,25 @@ public class ProductContoller {
         return ResponseEntity.ok().body(resDto);
     }
 
+    // 카테고리(여러 개) / 가격 구간 / 재고 있음 조건 검색 + 패싯별 개수
+    // 예) /product/search?searchName=이어폰&categoryIds=1,2&priceBuckets=1&inStock=true&page=0&size=20
+    @GetMapping("/search")
+    public ResponseEntity<?> searchProduct(ProductFacetSearchReqDto dto, Pageable pageable) {
+
+        ProductFacetSearchResDto result = productService.productFacetSearch(dto, pageable);
+
+        CommonResDto resDto
+                = new CommonResDto(HttpStatus.OK, "상품 검색 정상 조회", result);
+
+        return ResponseEntity.ok().body(resDto);
+    }
+
     @PreAuthorize("hasRole('ADMIN')")
     @PatchMapping("/update")
-    public ResponseEntity<?> updateProduct(@RequestParam("id") Long id, ProductUpdateDto dto) throws Exception {
+    public ResponseEntity<?> updateProduct(@RequestParam("id") Long id, ProductUpdateDto dto,
+                                           @AuthenticationPrincipal TokenUserInfo tokenUserInfo) throws Exception {
         log.info("/product/update: UPDATE, id: {} dto:{}", id, dto.toString());
-        productService.productUpdate(dto, id);
+        productService.productUpdate(dto, id, tokenUserInfo.getEmail());
 
         CommonResDto resDto
                 = new CommonResDto(HttpStatus.OK, "수정 완료", id);
@@ -101,6 +122,32 @@ public class ProductContoller {
         return ResponseEntity.ok().body(resDto);
     }
 
+    // 주문 시 여러 상품의 재고를 한 번에 차감 (전부 성공하거나 전부 롤백, 서비스 내부 호출 전용)
+    // Reservation-Key 가 있으면 같은 키로 다시 요청해도 한 번만 차감된다.
+    @PostMapping("/reserve")
+    public ResponseEntity<?> reserveStock(
+            @RequestHeader(value = "Reservation-Key", required = false) String reservationKey,
+            @RequestBody List<StockReserveReqDto> items,
+            @AuthenticationPrincipal String service) {
+        log.info("/product/reserve: POST, service: {}, reservationKey: {}, items: {}", service, reservationKey, items);
+        List<StockReserveResDto> results = productService.reserveStock(service, reservationKey, items);
+        boolean allReserved = results.stream().allMatch(StockReserveResDto::isSuccess);
+        CommonResDto resDto
+                = new CommonResDto(HttpStatus.OK, allReserved ? "재고 차감 완료" : "재고 부족", results);
+        return ResponseEntity.ok().body(resDto);
+    }
+
+    // 재고 예약 해제 (주문 쪽에서 예약 결과를 받지 못했을 때 되돌리기 위해 호출, 멱등, 서비스 내부 호출 전용)
+    @PostMapping("/reserve/release")
+    public ResponseEntity<?> releaseReservation(@RequestHeader("Reservation-Key") String reservationKey,
+                                                @AuthenticationPrincipal String service) {
+        log.info("/product/reserve/release: POST, service: {}, reservationKey: {}", service, reservationKey);
+        productService.releaseReservation(service, reservationKey);
+        CommonResDto resDto
+                = new CommonResDto(HttpStatus.OK, "재고 예약 해제 완료", reservationKey);
+        return ResponseEntity.ok().body(resDto);
+    }
+
     // 한 사용자의 모든 주문 내역 안에 있는 상품 정보를 리턴하는 메서드
     @PostMapping("/products")
     public ResponseEntity<?> getProducts(@RequestBody List<Long> productIds) {
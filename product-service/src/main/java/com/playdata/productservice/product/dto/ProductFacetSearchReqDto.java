@@ -0,0 +1,25 @@
+package com.playdata.productservice.product.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+// 패싯 검색 조건 (모두 선택)
+// 같은 조건 안의 여러 값은 OR, 조건끼리는 AND
+@Setter @Getter @ToString
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProductFacetSearchReqDto {
+
+    private String searchName;
+
+    private List<Long> categoryIds;
+
+    // 가격 구간 번호 (응답의 priceBuckets[].bucket)
+    private List<Integer> priceBuckets;
+
+    // true 면 재고가 있는 상품만
+    private boolean inStock;
+
+}
@@ -0,0 +1,42 @@
+package com.playdata.productservice.product.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+// 패싯 검색 결과: 조건에 맞는 상품 한 페이지 + 패싯별 개수
+// 각 패싯 개수는 그 패싯 자신의 조건을 뺀 나머지 조건 기준이다.
+@Getter @Setter @ToString
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProductFacetSearchResDto {
+
+    private long totalCount;
+    private List<ProductResDto> products;
+
+    private List<CategoryFacet> categories;
+    private List<PriceBucketFacet> priceBuckets;
+    private int inStockCount;
+
+    @Getter @Setter @ToString
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class CategoryFacet {
+        private Long categoryId;
+        private String categoryName;
+        private int count;
+    }
+
+    @Getter @Setter @ToString
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class PriceBucketFacet {
+        private int bucket;
+        private Integer minPrice; // 이상 (null 이면 하한 없음)
+        private Integer maxPrice; // 미만 (null 이면 상한 없음)
+        private int count;
+    }
+}
@@ -16,16 +16,22 @@ public class ProductResDto {
     private int price;
     private int stockQuantity;
     private String mainImagePath;
-    private String thumbnailPath;
+    private String thumbnailPath; // 썸네일 축소본 (없으면 원본)
+    private String listImagePath; // 목록 크기 대표 이미지 (없으면 원본)
+    private String detailImagePath; // 상세 크기 대표 이미지 (없으면 원본)
     private String description;
     private Long categoryId;
     private String categoryName;
 
-    private List<String> productImages;
+    private List<String> productImages; // 상세 이미지 원본
+    private List<String> productImageThumbnails;
+    private List<String> productDetailImages;
 
     private LocalDateTime createTime;
     private LocalDateTime updateTime;
 
+    // 목록/일괄 조회용 변환: 목록 화면에서 쓰지 않는 상세 이미지(productImages)는 담지 않는다.
+    // (상세 이미지 컬렉션을 건드리지 않으므로 상품마다 이미지 조회가 나가지 않음. 상세 조회는 Product.fromEntity)
     public static ProductResDto fromEntity(Product product) {
         return ProductResDto.builder()
                 .id(product.getProductId())
@@ -34,7 +40,8 @@ public class ProductResDto {
                 .description(product.getDescription())
                 .stockQuantity(product.getStockQuantity())
                 .mainImagePath(product.getMainImagePath())
-                .thumbnailPath(product.getThumbnailPath())
+                .thumbnailPath(product.displayThumbnailPath())
+                .listImagePath(product.displayListImagePath())
                 .categoryId(product.getCategory().getCategoryId())
                 .categoryName(product.getCategory().getName())
                 .createTime(product.getCreateTime())
@@ -18,12 +18,17 @@ public class ProductSaveReqDto {
     private String description;
     private int price;
     private int stockQuantity;
-    //그냥 제일 먼저 나올 썸네일 이미지
+    //그냥 제일 먼저 나올 썸네일 이미지 (선택. 없으면 대표 이미지로 서버에서 만든다)
     private MultipartFile thumbnailImage;
     //호버시 나올 대표이미지
     private MultipartFile mainImage;
     private List<MultipartFile> images;
 
+    // pre-signed URL 로 직접 올린 경우 (/upload/session). 있으면 위 파일 대신 쓴다.
+    private String mainImageKey;
+    private String thumbnailImageKey;
+    private List<String> imageKeys;
+
     private Long categoryId; // 사용자가 선택한 카테고리 ID
 
     private String mainImagePath;
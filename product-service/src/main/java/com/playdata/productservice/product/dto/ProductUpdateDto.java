@@ -19,6 +19,10 @@ public class ProductUpdateDto {
     private MultipartFile mainImage;
     private MultipartFile thumbnailImage;
     private List<MultipartFile> images;
+    // pre-signed URL 로 직접 올린 경우 (/upload/session). 있으면 위 파일 대신 쓴다.
+    private String mainImageKey;
+    private String thumbnailImageKey;
+    private List<String> imageKeys;
     String categoryId;
 
 }
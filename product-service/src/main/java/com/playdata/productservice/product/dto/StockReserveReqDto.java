@@ -0,0 +1,13 @@
+package com.playdata.productservice.product.dto;
+
+import lombok.*;
+
+// 재고 차감(예약) 요청 항목: 어떤 상품을 몇 개 차감할지
+@Getter @Setter @ToString
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StockReserveReqDto {
+    private Long productId;
+    private int quantity;
+}
@@ -0,0 +1,14 @@
+package com.playdata.productservice.product.dto;
+
+import lombok.*;
+
+// 재고 차감(예약) 결과: 상품별 성공 여부
+@Getter @Setter @ToString
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StockReserveResDto {
+    private Long productId;
+    private int quantity;
+    private boolean success;
+}
@@ -35,7 +35,15 @@ public class Product extends BaseTimeEntity {
     @Column(length = 1000)
     private String mainImagePath;
     @Column(length = 1000)
-    private String thumbnailPath;
+    private String thumbnailPath; // 관리자가 따로 올린 썸네일 원본 (없으면 null)
+
+    // 서버에서 만든 축소본 (ProductImageDerivativeService). 만들어지기 전에는 null
+    @Column(length = 1000)
+    private String smallThumbnailPath; // 썸네일 원본(없으면 대표 이미지)의 썸네일 크기
+    @Column(length = 1000)
+    private String listImagePath; // 대표 이미지의 목록 크기
+    @Column(length = 1000)
+    private String detailImagePath; // 대표 이미지의 상세 크기
 
     private String description;
 
@@ -56,7 +64,9 @@ public class Product extends BaseTimeEntity {
                 .description(description)
                 .stockQuantity(stockQuantity)
                 .mainImagePath(mainImagePath)
-                .thumbnailPath(thumbnailPath)
+                .thumbnailPath(displayThumbnailPath())
+                .listImagePath(displayListImagePath())
+                .detailImagePath(detailImagePath != null ? detailImagePath : mainImagePath)
                 .createTime(createTime)
                 .updateTime(updateTime)
                 .productImages(
@@ -64,9 +74,34 @@ public class Product extends BaseTimeEntity {
                             .map(ProductImages::getImgUrl)
                             .collect(Collectors.toList())
                 )
+                .productImageThumbnails(
+                    this.productImages.stream()
+                            .map(image -> image.getThumbnailUrl() != null ? image.getThumbnailUrl() : image.getImgUrl())
+                            .collect(Collectors.toList())
+                )
+                .productDetailImages(
+                    this.productImages.stream()
+                            .map(image -> image.getDetailUrl() != null ? image.getDetailUrl() : image.getImgUrl())
+                            .collect(Collectors.toList())
+                )
                 .build();
     }
 
+    // 화면에 보여줄 썸네일: 축소본 > 썸네일 원본 > 대표 이미지 원본
+    public String displayThumbnailPath() {
+        if (smallThumbnailPath != null) return smallThumbnailPath;
+        return thumbnailPath != null ? thumbnailPath : mainImagePath;
+    }
+
+    public String displayListImagePath() {
+        return listImagePath != null ? listImagePath : mainImagePath;
+    }
+
+    // 썸네일 축소본을 만들 원본
+    public String thumbnailSourcePath() {
+        return thumbnailPath != null ? thumbnailPath : mainImagePath;
+    }
+
 }
 
 
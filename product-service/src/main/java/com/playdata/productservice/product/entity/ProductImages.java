@@ -20,6 +20,13 @@ public class ProductImages {
     @Column(name = "img_url", nullable = false, length = 1000)
     private String imgUrl;
 
+    // 서버에서 만든 축소본. 만들어지기 전에는 null
+    @Column(name = "thumbnail_url", length = 1000)
+    private String thumbnailUrl;
+
+    @Column(name = "detail_url", length = 1000)
+    private String detailUrl;
+
     @Column(name = "img_order", nullable = false)
     private int imgOrder;
 
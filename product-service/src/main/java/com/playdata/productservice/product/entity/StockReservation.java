@@ -0,0 +1,41 @@
+package com.playdata.productservice.product.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// 주문 하나의 재고 예약 기록 (reservationKey = 주문 쪽에서 보낸 Reservation-Key)
+// 같은 키로 다시 들어온 예약은 재고를 또 차감하지 않고, 해제(release)도 한 번만 반영된다.
+// 예약보다 해제가 먼저 도착하면 released 상태로만 남겨서, 늦게 도착한 예약을 거절한다.
+@Getter
+@Setter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(name = "tbl_stock_reservation")
+public class StockReservation {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "reservation_key", nullable = false, unique = true, length = 100)
+    private String reservationKey;
+
+    // 상품 ID -> 차감한 수량
+    @ElementCollection
+    @CollectionTable(name = "tbl_stock_reservation_item", joinColumns = @JoinColumn(name = "reservation_id"))
+    @MapKeyColumn(name = "product_id")
+    @Column(name = "quantity")
+    @Builder.Default
+    private Map<Long, Integer> items = new LinkedHashMap<>();
+
+    private boolean released;
+
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,37 @@
+package com.playdata.productservice.product.event;
+
+import com.playdata.productservice.common.bus.ProductChangedRemoteEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cloud.bus.BusProperties;
+import org.springframework.cloud.bus.event.Destination;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+// 커밋된 상품 변경만 Spring Cloud Bus 로 내보낸다.
+// 롤백된 변경(예: 재고 부족으로 취소된 예약)은 다른 서비스의 캐시를 지우지 않는다.
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ProductChangeBroadcaster {
+
+    private final ApplicationEventPublisher publisher;
+    private final BusProperties busProperties;
+    private final Destination.Factory destinationFactory;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        if (event.productIds() == null || event.productIds().isEmpty()) return;
+
+        try {
+            // 목적지를 지정하지 않으면 버스에 연결된 모든 서비스로 전달된다.
+            publisher.publishEvent(new ProductChangedRemoteEvent(
+                    this, busProperties.getId(), destinationFactory.getDestination(null), event.productIds()));
+        } catch (Exception e) {
+            // 이미 커밋된 변경이므로 예외를 올리지 않는다. (구독 측 캐시는 TTL 로 결국 갱신됨)
+            log.warn("상품 변경 이벤트 발행 실패: {}", e.getMessage());
+        }
+    }
+}
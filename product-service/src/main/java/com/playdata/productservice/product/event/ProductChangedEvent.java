@@ -0,0 +1,8 @@
+package com.playdata.productservice.product.event;
+
+import java.util.List;
+
+// 상품 정보(가격/재고 등)가 변경되었음을 알리는 내부 이벤트
+// 트랜잭션이 커밋된 뒤 ProductChangeBroadcaster 가 버스로 전달한다.
+public record ProductChangedEvent(List<Long> productIds) {
+}
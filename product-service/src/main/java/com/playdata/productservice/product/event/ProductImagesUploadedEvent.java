@@ -0,0 +1,6 @@
+package com.playdata.productservice.product.event;
+
+// 상품 이미지(대표/썸네일/상세)가 새로 올라왔음을 알리는 내부 이벤트
+// 트랜잭션이 커밋된 뒤 ProductImageDerivativeService 가 축소본을 만든다.
+public record ProductImagesUploadedEvent(Long productId) {
+}
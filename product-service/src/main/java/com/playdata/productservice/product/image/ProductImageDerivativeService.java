@@ -0,0 +1,229 @@
+package com.playdata.productservice.product.image;
+
+import com.playdata.productservice.common.configs.AwsS3AsyncUploader;
+import com.playdata.productservice.common.configs.AwsS3Config;
+import com.playdata.productservice.product.entity.Product;
+import com.playdata.productservice.product.entity.ProductImages;
+import com.playdata.productservice.product.event.ProductChangedEvent;
+import com.playdata.productservice.product.event.ProductImagesUploadedEvent;
+import com.playdata.productservice.product.repository.ProductRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.awt.image.BufferedImage;
+import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+// 상품 이미지 축소본(썸네일 / 목록 / 상세 크기) 생성
+// - 이미지가 올라간 트랜잭션이 커밋되면 작업을 큐에 넣고, 전용 스레드 풀(image-derivative.workers)에서 처리한다.
+//   큐(image-derivative.queue-capacity)가 가득 차면 버리고 원본을 그대로 쓴다. (다음 이미지 수정 때 다시 만든다)
+// - 아직 없는 축소본만 만든다. 원본을 내려받아 한 번만 디코딩하고 크기별로 JPEG 로 압축해서 올린다.
+// - 만드는 동안 상품 이미지가 바뀌었으면 만든 축소본은 저장하지 않고 지운다.
+@Component
+@Slf4j
+public class ProductImageDerivativeService {
+
+    private static final String KEY_PREFIX = "derived/";
+
+    private final ProductRepository productRepository;
+    private final AwsS3Config s3Config;
+    private final AwsS3AsyncUploader s3Uploader;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MeterRegistry meterRegistry;
+    private final Counter rejectedCounter;
+
+    private ThreadPoolExecutor executor;
+
+    @Value("${image-derivative.workers:2}")
+    private int workers;
+    @Value("${image-derivative.queue-capacity:100}")
+    private int queueCapacity;
+    @Value("${image-derivative.thumbnail-size:200}")
+    private int thumbnailSize;
+    @Value("${image-derivative.list-size:480}")
+    private int listSize;
+    @Value("${image-derivative.detail-size:1200}")
+    private int detailSize;
+    @Value("${image-derivative.jpeg-quality:0.8}")
+    private float jpegQuality;
+    @Value("${image-derivative.max-source-pixels:40000000}")
+    private long maxSourcePixels;
+
+    public ProductImageDerivativeService(ProductRepository productRepository, AwsS3Config s3Config,
+                                         AwsS3AsyncUploader s3Uploader, PlatformTransactionManager transactionManager,
+                                         ApplicationEventPublisher eventPublisher, MeterRegistry meterRegistry) {
+        this.productRepository = productRepository;
+        this.s3Config = s3Config;
+        this.s3Uploader = s3Uploader;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
+        this.meterRegistry = meterRegistry;
+        this.rejectedCounter = Counter.builder("product.image.derivative.rejected")
+                .description("큐가 가득 차서 버려진 축소본 생성 작업 수")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    private void initialize() {
+        AtomicInteger threadCount = new AtomicInteger();
+        executor = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> new Thread(runnable, "image-derivative-" + threadCount.incrementAndGet()));
+        Gauge.builder("product.image.derivative.queue", executor, e -> e.getQueue().size())
+                .description("대기 중인 축소본 생성 작업 수")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    private void shutdown() {
+        executor.shutdown();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onImagesUploaded(ProductImagesUploadedEvent event) {
+        submit(event.productId());
+    }
+
+    public void submit(Long productId) {
+        try {
+            executor.execute(() -> generate(productId));
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            log.warn("축소본 생성 대기열이 가득 차서 건너뜀: product {}", productId);
+        }
+    }
+
+    void generate(Long productId) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String result = "success";
+        try {
+            List<Derivative> missing = transactionTemplate.execute(status -> findMissing(productId));
+            if (missing == null || missing.isEmpty()) return;
+
+            // 원본별로 한 번만 내려받아 디코딩
+            Map<String, List<Derivative>> bySource = missing.stream()
+                    .collect(Collectors.groupingBy(Derivative::sourceUrl, LinkedHashMap::new, Collectors.toList()));
+            List<Derivative> made = new ArrayList<>();
+            List<AwsS3AsyncUploader.UploadRequest> requests = new ArrayList<>();
+            for (Map.Entry<String, List<Derivative>> entry : bySource.entrySet()) {
+                try {
+                    BufferedImage image = ImageResizer.read(s3Config.downloadFromS3Bucket(entry.getKey()), maxSourcePixels);
+                    if (image == null) {
+                        log.warn("축소본을 만들 수 없는 이미지 형식: {}", entry.getKey());
+                        continue;
+                    }
+                    for (Derivative derivative : entry.getValue()) {
+                        byte[] jpeg = ImageResizer.toJpeg(image, derivative.maxEdge(), jpegQuality);
+                        String key = KEY_PREFIX + UUID.randomUUID() + "_" + derivative.maxEdge() + ".jpg";
+                        requests.add(new AwsS3AsyncUploader.UploadRequest(key, new ByteArrayResource(jpeg), jpeg.length, "image/jpeg"));
+                        made.add(derivative);
+                    }
+                } catch (Exception e) {
+                    result = "failure";
+                    log.warn("축소본 생성 실패: {} ({})", entry.getKey(), e.getMessage());
+                }
+            }
+            if (requests.isEmpty()) return;
+
+            List<String> urls = s3Uploader.uploadAll(requests);
+            List<String> keys = requests.stream().map(AwsS3AsyncUploader.UploadRequest::key).collect(Collectors.toList());
+
+            List<String> unusedKeys = new ArrayList<>(keys);
+            try {
+                transactionTemplate.executeWithoutResult(status -> save(productId, made, urls, keys, unusedKeys));
+            } catch (RuntimeException e) {
+                s3Uploader.deleteKeys(keys);
+                throw e;
+            }
+            if (!unusedKeys.isEmpty()) {
+                s3Uploader.deleteKeys(unusedKeys);
+            }
+        } catch (Exception e) {
+            result = "failure";
+            log.warn("상품 {} 축소본 생성 실패: {}", productId, e.getMessage());
+        } finally {
+            sample.stop(Timer.builder("product.image.derivative")
+                    .description("상품 하나의 축소본 생성 시간")
+                    .tag("result", result)
+                    .register(meterRegistry));
+        }
+    }
+
+    List<Derivative> findMissing(Long productId) {
+        Product product = productRepository.findById(productId).orElse(null);
+        if (product == null || product.getMainImagePath() == null) return List.of(); // 그 사이 삭제됨
+
+        List<Derivative> missing = new ArrayList<>();
+        if (product.getSmallThumbnailPath() == null) {
+            missing.add(new Derivative(Kind.THUMBNAIL, null, product.thumbnailSourcePath(), thumbnailSize));
+        }
+        if (product.getListImagePath() == null) {
+            missing.add(new Derivative(Kind.LIST, null, product.getMainImagePath(), listSize));
+        }
+        if (product.getDetailImagePath() == null) {
+            missing.add(new Derivative(Kind.DETAIL, null, product.getMainImagePath(), detailSize));
+        }
+        for (ProductImages image : product.getProductImages()) {
+            if (image.getThumbnailUrl() == null) {
+                missing.add(new Derivative(Kind.IMAGE_THUMBNAIL, image.getImgId(), image.getImgUrl(), thumbnailSize));
+            }
+            if (image.getDetailUrl() == null) {
+                missing.add(new Derivative(Kind.IMAGE_DETAIL, image.getImgId(), image.getImgUrl(), detailSize));
+            }
+        }
+        return missing;
+    }
+
+    // 원본이 그대로인 축소본만 저장하고, 저장한 것은 unusedKeys 에서 뺀다.
+    // 컬럼 단위 조건부 UPDATE 로 저장하므로 그 사이 커밋된 재고/상품 정보 변경을 덮어쓰지 않는다.
+    void save(Long productId, List<Derivative> made, List<String> urls,
+              List<String> keys, List<String> unusedKeys) {
+        boolean changed = false;
+        for (int i = 0; i < made.size(); i++) {
+            if (apply(productId, made.get(i), urls.get(i)) == 1) {
+                unusedKeys.remove(keys.get(i));
+                changed = true;
+            }
+        }
+        if (changed) {
+            // 다른 서비스에 캐시된 상품 정보(썸네일 경로)도 갱신되도록
+            eventPublisher.publishEvent(new ProductChangedEvent(List.of(productId)));
+        }
+    }
+
+    private int apply(Long productId, Derivative derivative, String url) {
+        String source = derivative.sourceUrl();
+        return switch (derivative.kind()) {
+            case THUMBNAIL -> productRepository.setSmallThumbnailPath(productId, source, url);
+            case LIST -> productRepository.setListImagePath(productId, source, url);
+            case DETAIL -> productRepository.setDetailImagePath(productId, source, url);
+            case IMAGE_THUMBNAIL -> productRepository.setImageThumbnailUrl(derivative.imgId(), source, url);
+            case IMAGE_DETAIL -> productRepository.setImageDetailUrl(derivative.imgId(), source, url);
+        };
+    }
+
+    enum Kind { THUMBNAIL, LIST, DETAIL, IMAGE_THUMBNAIL, IMAGE_DETAIL }
+
+    // imgId 는 상세 이미지 축소본일 때만 있다.
+    record Derivative(Kind kind, Long imgId, String sourceUrl, int maxEdge) {
+    }
+}
@@ -1,28 +1,101 @@
 package com.playdata.productservice.product.repository;
 
 import com.playdata.productservice.product.entity.Product;
+import com.playdata.productservice.product.search.ProductIndexRow;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface ProductRepository extends JpaRepository<Product, Long> {
 
+    // 목록/일괄 조회는 ProductResDto.fromEntity(상세 이미지 제외)로 변환하므로 카테고리만 같이 가져온다. (@EntityGraph)
+    // 카테고리를 지연 로딩하면 상품마다 카테고리 조회가 한 번씩 더 나간다. (N+1)
+
+    @EntityGraph(attributePaths = "category")
+    @Query("SELECT p FROM Product p")
+    Page<Product> findPageWithCategory(Pageable pageable);
+
     // 검색 조건(카테고리, 검색어)에 따른 페이징
+    @EntityGraph(attributePaths = "category")
     @Query("SELECT p FROM Product p WHERE p.category.categoryId = ?1")
     Page<Product> findByCategoryId(Long categoryId, Pageable pageable);
 
+    @EntityGraph(attributePaths = "category")
     @Query("SELECT p FROM Product p WHERE p.name LIKE %?1%")
     Page<Product> findByNameValue(String keyword,
                                   Pageable pageable);
+    @EntityGraph(attributePaths = "category")
     @Query("SELECT p FROM Product p JOIN p.category c WHERE p.name LIKE %:name% AND c.categoryId = :categoryId")
     Page<Product> findByNameValueAndCategory_CategoryId(@Param("name") String name, @Param("categoryId") Long categoryId, Pageable pageable);
 
+    @EntityGraph(attributePaths = "category")
     List<Product> findByProductIdIn(List<Long> ids);
 
+    // 검색 인덱스로 찾은 상품들을 정렬/페이징해서 조회
+    @EntityGraph(attributePaths = "category")
+    Page<Product> findByProductIdIn(Collection<Long> ids, Pageable pageable);
+
+    @EntityGraph(attributePaths = "category")
+    Page<Product> findByProductIdInAndCategory_CategoryId(Collection<Long> ids, Long categoryId, Pageable pageable);
+
+    // 검색 인덱스 적재용: ID 기준으로 끊어 읽기 (OFFSET 없이)
+    @Query("SELECT new com.playdata.productservice.product.search.ProductIndexRow(" +
+            "p.productId, p.name, p.category.categoryId, p.price, p.stockQuantity) " +
+            "FROM Product p WHERE p.productId > :afterId ORDER BY p.productId")
+    List<ProductIndexRow> findIndexRows(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("SELECT new com.playdata.productservice.product.search.ProductIndexRow(" +
+            "p.productId, p.name, p.category.categoryId, p.price, p.stockQuantity) " +
+            "FROM Product p WHERE p.productId IN :ids")
+    List<ProductIndexRow> findIndexRowsByIds(@Param("ids") Collection<Long> ids);
+
+    // 재고가 충분할 때만 차감하는 조건부 UPDATE (읽기-수정-쓰기 없이 원자적으로 처리)
+    // 반환값이 0이면 재고 부족 또는 상품 없음
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Product p SET p.stockQuantity = p.stockQuantity - :quantity " +
+            "WHERE p.productId = :productId AND p.stockQuantity >= :quantity")
+    int decreaseStock(@Param("productId") Long productId, @Param("quantity") int quantity);
+
+    // 예약 해제 시 차감했던 재고를 되돌림
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Product p SET p.stockQuantity = p.stockQuantity + :quantity WHERE p.productId = :productId")
+    int increaseStock(@Param("productId") Long productId, @Param("quantity") int quantity);
+
+    // 축소본 경로 저장 (ProductImageDerivativeService)
+    // 엔티티를 통째로 저장하면 그 사이 커밋된 재고/이미지 변경을 덮어쓰므로 해당 컬럼만 바꾼다.
+    // 원본이 그대로이고 아직 축소본이 없을 때만 반영된다. (반영된 행 수 0 이면 버림)
+    @Modifying
+    @Query("UPDATE Product p SET p.smallThumbnailPath = :url WHERE p.productId = :productId " +
+            "AND p.smallThumbnailPath IS NULL AND COALESCE(p.thumbnailPath, p.mainImagePath) = :source")
+    int setSmallThumbnailPath(@Param("productId") Long productId, @Param("source") String source, @Param("url") String url);
+
+    @Modifying
+    @Query("UPDATE Product p SET p.listImagePath = :url WHERE p.productId = :productId " +
+            "AND p.listImagePath IS NULL AND p.mainImagePath = :source")
+    int setListImagePath(@Param("productId") Long productId, @Param("source") String source, @Param("url") String url);
+
+    @Modifying
+    @Query("UPDATE Product p SET p.detailImagePath = :url WHERE p.productId = :productId " +
+            "AND p.detailImagePath IS NULL AND p.mainImagePath = :source")
+    int setDetailImagePath(@Param("productId") Long productId, @Param("source") String source, @Param("url") String url);
+
+    @Modifying
+    @Query("UPDATE ProductImages i SET i.thumbnailUrl = :url WHERE i.imgId = :imgId " +
+            "AND i.thumbnailUrl IS NULL AND i.imgUrl = :source")
+    int setImageThumbnailUrl(@Param("imgId") Long imgId, @Param("source") String source, @Param("url") String url);
+
+    @Modifying
+    @Query("UPDATE ProductImages i SET i.detailUrl = :url WHERE i.imgId = :imgId " +
+            "AND i.detailUrl IS NULL AND i.imgUrl = :source")
+    int setImageDetailUrl(@Param("imgId") Long imgId, @Param("source") String source, @Param("url") String url);
+
 }
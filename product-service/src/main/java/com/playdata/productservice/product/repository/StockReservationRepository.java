@@ -0,0 +1,23 @@
+package com.playdata.productservice.product.repository;
+
+import com.playdata.productservice.product.entity.StockReservation;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface StockReservationRepository extends JpaRepository<StockReservation, Long> {
+
+    // 같은 키의 예약/해제가 동시에 처리되지 않도록 행 잠금
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<StockReservation> findByReservationKey(String reservationKey);
+
+    // 아직 해제되지 않은 예약만 해제 상태로 변경 (반환값 1일 때만 재고를 되돌린다)
+    @Modifying
+    @Query("UPDATE StockReservation r SET r.released = true WHERE r.id = :id AND r.released = false")
+    int markReleased(@Param("id") Long id);
+}
@@ -0,0 +1,175 @@
+package com.playdata.productservice.product.search;
+
+import org.roaringbitmap.FastAggregation;
+import org.roaringbitmap.RoaringBitmap;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// 상품 패싯 필터용 비트맵 인덱스 (카테고리 / 가격 구간 / 재고 있음)
+// - 카테고리별, 가격 구간별, 재고 있음(stock > 0) 상품 ID 를 RoaringBitmap 으로 들고 있다.
+// - 같은 조건 안의 값들은 OR, 조건끼리는 AND 로 합친다.
+// - 패싯 개수는 자기 조건만 뺀 나머지 조건의 결과와 AND 한 개수다.
+//   (카테고리를 하나 골라도 다른 카테고리의 개수가 0 이 되지 않도록)
+// 가격 구간 경계는 오름차순. 경계가 [1만, 3만] 이면 구간은 0:~1만 미만, 1:1만~3만 미만, 2:3만 이상
+public class ProductFacetIndex {
+
+    private final int[] priceBoundaries;
+
+    private final RoaringBitmap all = new RoaringBitmap();
+    private final RoaringBitmap inStock = new RoaringBitmap();
+    private final Map<Long, RoaringBitmap> categories = new HashMap<>();
+    private final RoaringBitmap[] priceBuckets;
+    private final Map<Integer, Entry> entries = new HashMap<>(); // 갱신 시 이전 값의 비트를 지우기 위해 보관
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public ProductFacetIndex(int[] priceBoundaries) {
+        this.priceBoundaries = priceBoundaries.clone();
+        Arrays.sort(this.priceBoundaries);
+        this.priceBuckets = new RoaringBitmap[this.priceBoundaries.length + 1];
+        for (int i = 0; i < priceBuckets.length; i++) {
+            priceBuckets[i] = new RoaringBitmap();
+        }
+    }
+
+    public void put(long productId, Long categoryId, int price, int stockQuantity) {
+        int id = Math.toIntExact(productId);
+        Entry entry = new Entry(categoryId, bucketOf(price), stockQuantity > 0);
+
+        lock.writeLock().lock();
+        try {
+            Entry previous = entries.put(id, entry);
+            if (entry.equals(previous)) return;
+            if (previous != null) {
+                unindex(id, previous);
+            }
+            all.add(id);
+            if (entry.inStock()) inStock.add(id);
+            if (categoryId != null) categories.computeIfAbsent(categoryId, c -> new RoaringBitmap()).add(id);
+            priceBuckets[entry.priceBucket()].add(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long productId) {
+        int id = Math.toIntExact(productId);
+
+        lock.writeLock().lock();
+        try {
+            Entry previous = entries.remove(id);
+            if (previous != null) {
+                unindex(id, previous);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 조건에 맞는 상품 ID 와 패싯별 개수를 한 번에 계산
+    // candidates: 상품명 검색 결과 (null 이면 전체 상품)
+    // categoryIds / priceBuckets: 비어 있으면 해당 조건 없음
+    public FacetResult search(RoaringBitmap candidates, Collection<Long> categoryIds,
+                              Collection<Integer> priceBucketIndexes, boolean inStockOnly) {
+        lock.readLock().lock();
+        try {
+            RoaringBitmap base = candidates == null ? all : candidates;
+
+            RoaringBitmap categoryFilter = null;
+            if (categoryIds != null && !categoryIds.isEmpty()) {
+                List<RoaringBitmap> selected = new ArrayList<>();
+                for (Long categoryId : categoryIds) {
+                    RoaringBitmap bitmap = categories.get(categoryId);
+                    if (bitmap != null) selected.add(bitmap);
+                }
+                categoryFilter = or(selected);
+            }
+
+            RoaringBitmap priceFilter = null;
+            if (priceBucketIndexes != null && !priceBucketIndexes.isEmpty()) {
+                List<RoaringBitmap> selected = new ArrayList<>();
+                for (Integer bucket : priceBucketIndexes) {
+                    if (bucket == null || bucket < 0 || bucket >= priceBuckets.length) {
+                        throw new IllegalArgumentException("잘못된 가격 구간입니다: " + bucket);
+                    }
+                    selected.add(priceBuckets[bucket]);
+                }
+                priceFilter = or(selected);
+            }
+
+            RoaringBitmap stockFilter = inStockOnly ? inStock : null;
+
+            // 각 패싯은 자기 조건을 뺀 결과 기준으로 센다.
+            RoaringBitmap forCategory = and(base, priceFilter, stockFilter);
+            RoaringBitmap forPrice = and(base, categoryFilter, stockFilter);
+            RoaringBitmap forStock = and(base, categoryFilter, priceFilter);
+            RoaringBitmap matched = stockFilter == null ? forStock.clone() : RoaringBitmap.and(forStock, stockFilter);
+
+            Map<Long, Integer> categoryCounts = new TreeMap<>();
+            categories.forEach((categoryId, bitmap) -> {
+                int count = RoaringBitmap.andCardinality(bitmap, forCategory);
+                if (count > 0) categoryCounts.put(categoryId, count);
+            });
+
+            int[] priceCounts = new int[priceBuckets.length];
+            for (int i = 0; i < priceBuckets.length; i++) {
+                priceCounts[i] = RoaringBitmap.andCardinality(priceBuckets[i], forPrice);
+            }
+
+            int inStockCount = RoaringBitmap.andCardinality(inStock, forStock);
+
+            return new FacetResult(matched, categoryCounts, priceCounts, inStockCount);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 구간 i 의 [하한, 상한) (없으면 null)
+    public Integer bucketMin(int bucket) {
+        return bucket == 0 ? null : priceBoundaries[bucket - 1];
+    }
+
+    public Integer bucketMax(int bucket) {
+        return bucket == priceBoundaries.length ? null : priceBoundaries[bucket];
+    }
+
+    public int bucketOf(int price) {
+        int position = Arrays.binarySearch(priceBoundaries, price);
+        return position >= 0 ? position + 1 : -position - 1;
+    }
+
+    private void unindex(int id, Entry previous) {
+        all.remove(id);
+        inStock.remove(id);
+        if (previous.categoryId() != null) {
+            RoaringBitmap bitmap = categories.get(previous.categoryId());
+            if (bitmap != null) {
+                bitmap.remove(id);
+                if (bitmap.isEmpty()) categories.remove(previous.categoryId());
+            }
+        }
+        priceBuckets[previous.priceBucket()].remove(id);
+    }
+
+    private static RoaringBitmap or(List<RoaringBitmap> bitmaps) {
+        return bitmaps.isEmpty() ? new RoaringBitmap() : FastAggregation.or(bitmaps.iterator());
+    }
+
+    // null 인 조건은 건너뛰고 AND
+    private static RoaringBitmap and(RoaringBitmap base, RoaringBitmap first, RoaringBitmap second) {
+        RoaringBitmap result = first == null ? base.clone() : RoaringBitmap.and(base, first);
+        if (second != null) {
+            result.and(second);
+        }
+        return result;
+    }
+
+    private record Entry(Long categoryId, int priceBucket, boolean inStock) {
+    }
+
+    public record FacetResult(RoaringBitmap ids, Map<Long, Integer> categoryCounts,
+                              int[] priceBucketCounts, int inStockCount) {
+    }
+}
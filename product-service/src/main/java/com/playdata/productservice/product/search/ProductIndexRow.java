@@ -0,0 +1,5 @@
+package com.playdata.productservice.product.search;
+
+// 검색 인덱스 적재/갱신에 필요한 상품 컬럼만 담은 조회 결과
+public record ProductIndexRow(Long productId, String name, Long categoryId, int price, int stockQuantity) {
+}
@@ -0,0 +1,136 @@
+package com.playdata.productservice.product.search;
+
+import org.roaringbitmap.RoaringBitmap;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// 상품명 부분 문자열 검색용 n-gram 역색인 (LIKE '%검색어%' 대체)
+// - 상품명을 1~3 글자 조각(n-gram)으로 나눠서 조각별로 상품 ID 비트맵(RoaringBitmap)을 둔다.
+// - 검색어 길이가 3 이하면 해당 길이의 조각 하나로 바로 찾고,
+//   더 길면 검색어의 3-gram 비트맵들을 AND 한 뒤 후보의 실제 이름에 검색어가 들어있는지 확인한다.
+// - 글자 단위로 자르므로 띄어쓰기 없는 한글 이름도 부분 일치로 찾는다.
+// - 대소문자는 구분하지 않는다. (MySQL 기본 collation 의 LIKE 와 같은 동작)
+// 상품 ID 는 int 범위라고 가정한다. (AUTO_INCREMENT)
+public class ProductNameIndex {
+
+    private static final int MAX_GRAM = 3;
+
+    private final Map<String, RoaringBitmap> postings = new HashMap<>();
+    private final Map<Integer, String> names = new HashMap<>(); // 갱신 시 이전 이름의 조각을 지우고, 후보를 검증하는 데 사용
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public void put(long productId, String name) {
+        int id = Math.toIntExact(productId);
+        String normalized = normalize(name);
+
+        lock.writeLock().lock();
+        try {
+            String previous = names.get(id);
+            if (normalized.equals(previous)) return;
+            if (previous != null) {
+                unindex(id, previous);
+            }
+            names.put(id, normalized);
+            for (String gram : grams(normalized)) {
+                postings.computeIfAbsent(gram, g -> new RoaringBitmap()).add(id);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long productId) {
+        int id = Math.toIntExact(productId);
+
+        lock.writeLock().lock();
+        try {
+            String previous = names.remove(id);
+            if (previous != null) {
+                unindex(id, previous);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 이름에 keyword 가 들어있는 상품 ID (오름차순)
+    public RoaringBitmap search(String keyword) {
+        String query = normalize(keyword);
+        if (query.isEmpty()) {
+            throw new IllegalArgumentException("검색어가 비어 있습니다.");
+        }
+        int gramLength = Math.min(query.length(), MAX_GRAM);
+
+        lock.readLock().lock();
+        try {
+            // 작은 비트맵부터 AND 해서 중간 결과를 빨리 줄인다.
+            List<RoaringBitmap> lists = new ArrayList<>();
+            for (String gram : distinctGrams(query, gramLength)) {
+                RoaringBitmap posting = postings.get(gram);
+                if (posting == null) return new RoaringBitmap();
+                lists.add(posting);
+            }
+            lists.sort(Comparator.comparingInt(RoaringBitmap::getCardinality));
+
+            RoaringBitmap result = lists.get(0).clone();
+            for (int i = 1; i < lists.size() && !result.isEmpty(); i++) {
+                result.and(lists.get(i));
+            }
+
+            // 조각이 모두 있어도 떨어진 위치에 있을 수 있으므로 긴 검색어는 실제 이름으로 확인
+            if (query.length() > MAX_GRAM) {
+                RoaringBitmap verified = new RoaringBitmap();
+                result.forEach((int id) -> {
+                    if (names.get(id).contains(query)) verified.add(id);
+                });
+                result = verified;
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return names.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void unindex(int id, String name) {
+        for (String gram : grams(name)) {
+            RoaringBitmap posting = postings.get(gram);
+            if (posting == null) continue;
+            posting.remove(id);
+            if (posting.isEmpty()) {
+                postings.remove(gram);
+            }
+        }
+    }
+
+    // 이름의 1~3 글자 조각 전부 (중복 제거)
+    private static Set<String> grams(String name) {
+        Set<String> grams = new HashSet<>();
+        for (int n = 1; n <= MAX_GRAM; n++) {
+            grams.addAll(distinctGrams(name, n));
+        }
+        return grams;
+    }
+
+    private static Set<String> distinctGrams(String text, int n) {
+        Set<String> grams = new LinkedHashSet<>();
+        for (int i = 0; i + n <= text.length(); i++) {
+            grams.add(text.substring(i, i + n));
+        }
+        return grams;
+    }
+
+    static String normalize(String text) {
+        return text == null ? "" : text.toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,165 @@
+package com.playdata.productservice.product.search;
+
+import com.playdata.productservice.common.bus.ProductChangedRemoteEvent;
+import com.playdata.productservice.product.repository.ProductRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.PeekableIntIterator;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+// 상품 검색용 인메모리 인덱스 (pod 마다 하나씩 가진다)
+// - 상품명 n-gram 인덱스(ProductNameIndex) + 카테고리/가격 구간/재고 패싯 비트맵(ProductFacetIndex)
+// - 기동이 끝나면 별도 스레드에서 tbl_product 전체를 ID 순으로 나눠 읽어 적재한다. (기동 스레드를 막지 않음)
+//   적재가 끝나기 전에는 null 을 돌려주고 DB LIKE 검색을 쓴다.
+// - 상품이 바뀌면 ProductChangedRemoteEvent 로 바뀐 상품만 다시 읽어 반영한다.
+//   (커밋 후 ProductChangeBroadcaster 가 자기 자신에게도 발행하고, 다른 pod 의 변경은 버스로 들어온다)
+// - 적재 중에 들어온 변경은 ID 만 모아 두었다가 적재가 끝난 뒤 다시 읽는다. (이미 읽은 구간의 변경을 놓치지 않도록)
+@Component
+@Slf4j
+public class ProductSearchIndex {
+
+    private final ProductRepository productRepository;
+    private final ProductNameIndex nameIndex = new ProductNameIndex();
+    private final ProductFacetIndex facetIndex;
+    private volatile boolean ready;
+
+    // 적재 중 들어온 변경 상품 ID. 적재가 끝나면 null (이후 변경은 바로 반영)
+    private final Object pendingLock = new Object();
+    private Set<Long> pendingIds = new HashSet<>();
+
+    @Value("${product-search.load-batch-size:5000}")
+    private int loadBatchSize;
+
+    public ProductSearchIndex(ProductRepository productRepository, MeterRegistry meterRegistry,
+                              @Value("${product-search.price-buckets:10000,30000,50000,100000}") int[] priceBoundaries) {
+        this.productRepository = productRepository;
+        this.facetIndex = new ProductFacetIndex(priceBoundaries);
+        Gauge.builder("product.search.index.size", nameIndex, ProductNameIndex::size)
+                .description("검색 인덱스에 올라간 상품 수")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void startLoading() {
+        Thread loader = new Thread(this::load, "product-search-index-loader");
+        loader.setDaemon(true);
+        loader.start();
+    }
+
+    void load() {
+        try {
+            loadAll();
+        } catch (RuntimeException e) {
+            // 인덱스 없이도 DB 검색으로 동작하므로 기동은 막지 않는다.
+            log.error("product search index load failed, falling back to DB search", e);
+            synchronized (pendingLock) {
+                pendingIds = null;
+            }
+        }
+    }
+
+    private void loadAll() {
+        long start = System.currentTimeMillis();
+        long afterId = 0;
+        List<ProductIndexRow> rows;
+        do {
+            rows = productRepository.findIndexRows(afterId, PageRequest.of(0, loadBatchSize));
+            rows.forEach(this::put);
+            if (!rows.isEmpty()) {
+                afterId = rows.get(rows.size() - 1).productId();
+            }
+        } while (rows.size() == loadBatchSize);
+
+        // 적재 중 바뀐 상품을 다시 읽는다. 다시 읽는 동안 들어온 변경은 다음 바퀴에서 처리
+        while (true) {
+            Set<Long> changed;
+            synchronized (pendingLock) {
+                if (pendingIds.isEmpty()) {
+                    pendingIds = null;
+                    break;
+                }
+                changed = pendingIds;
+                pendingIds = new HashSet<>();
+            }
+            apply(changed);
+        }
+
+        ready = true;
+        log.info("product search index loaded: {} products, {}ms", nameIndex.size(), System.currentTimeMillis() - start);
+    }
+
+    @EventListener
+    public void onProductChanged(ProductChangedRemoteEvent event) {
+        if (event.getProductIds() == null || event.getProductIds().isEmpty()) return;
+
+        synchronized (pendingLock) {
+            if (pendingIds != null) {
+                pendingIds.addAll(event.getProductIds());
+                return;
+            }
+        }
+        apply(event.getProductIds());
+    }
+
+    private void apply(Collection<Long> productIds) {
+        Set<Long> missing = new HashSet<>(productIds);
+        for (ProductIndexRow row : productRepository.findIndexRowsByIds(productIds)) {
+            put(row);
+            missing.remove(row.productId());
+        }
+        // 삭제된 상품
+        for (Long productId : missing) {
+            nameIndex.remove(productId);
+            facetIndex.remove(productId);
+        }
+    }
+
+    // 이름에 keyword 가 들어간 상품 ID. 인덱스 적재 전이면 null
+    public RoaringBitmap matchName(String keyword) {
+        return ready ? nameIndex.search(keyword) : null;
+    }
+
+    // 상품명(선택) + 패싯 조건 검색. 인덱스 적재 전이면 null
+    public ProductFacetIndex.FacetResult searchFacets(String keyword, Collection<Long> categoryIds,
+                                                      Collection<Integer> priceBuckets, boolean inStockOnly) {
+        if (!ready) return null;
+        RoaringBitmap candidates = keyword == null || keyword.isEmpty() ? null : nameIndex.search(keyword);
+        return facetIndex.search(candidates, categoryIds, priceBuckets, inStockOnly);
+    }
+
+    public ProductFacetIndex facets() {
+        return facetIndex;
+    }
+
+    // ID 오름차순으로 pageable 의 페이지에 해당하는 ID 만 꺼낸다.
+    public static List<Long> page(RoaringBitmap ids, Pageable pageable) {
+        long offset = pageable.getOffset();
+        if (offset >= ids.getLongCardinality()) return List.of();
+
+        List<Long> page = new ArrayList<>(pageable.getPageSize());
+        PeekableIntIterator iterator = ids.getIntIterator();
+        iterator.advanceIfNeeded(ids.select((int) offset));
+        while (iterator.hasNext() && page.size() < pageable.getPageSize()) {
+            page.add((long) iterator.next());
+        }
+        return page;
+    }
+
+    private void put(ProductIndexRow row) {
+        nameIndex.put(row.productId(), row.name());
+        facetIndex.put(row.productId(), row.categoryId(), row.price(), row.stockQuantity());
+    }
+}
@@ -1,31 +1,59 @@
 package com.playdata.productservice.product.service;
 
-import com.playdata.productservice.common.configs.AwsS3Config;
+import com.playdata.productservice.common.configs.AwsS3AsyncUploader;
+import com.playdata.productservice.common.exception.SearchIndexNotReadyException;
+import com.playdata.productservice.product.dto.ProductFacetSearchReqDto;
+import com.playdata.productservice.product.dto.ProductFacetSearchResDto;
 import com.playdata.productservice.product.dto.ProductResDto;
 import com.playdata.productservice.product.dto.ProductSaveReqDto;
 import com.playdata.productservice.product.dto.ProductSearchDto;
 import com.playdata.productservice.product.dto.ProductUpdateDto;
+import com.playdata.productservice.product.dto.StockReserveReqDto;
+import com.playdata.productservice.product.dto.StockReserveResDto;
 import com.playdata.productservice.product.entity.Category;
 import com.playdata.productservice.product.entity.Product;
 import com.playdata.productservice.product.entity.ProductImages;
+import com.playdata.productservice.product.entity.StockReservation;
+import com.playdata.productservice.product.event.ProductChangedEvent;
+import com.playdata.productservice.product.event.ProductImagesUploadedEvent;
 import com.playdata.productservice.product.repository.CategoryRepository;
 import com.playdata.productservice.product.repository.ProductRepository;
+import com.playdata.productservice.product.repository.StockReservationRepository;
+import com.playdata.productservice.product.search.ProductFacetIndex;
+import com.playdata.productservice.product.search.ProductSearchIndex;
+import com.playdata.productservice.upload.entity.UploadPurpose;
+import com.playdata.productservice.upload.service.S3DeletionQueue;
+import com.playdata.productservice.upload.service.UploadSessionService;
 import com.querydsl.core.BooleanBuilder;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.interceptor.TransactionAspectSupport;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
 import java.util.UUID;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import static com.playdata.productservice.product.entity.QProduct.product;
@@ -37,55 +65,65 @@ import static com.playdata.productservice.product.entity.QProduct.product;
 public class ProductService {
 
     private final ProductRepository productRepository;
+    private final StockReservationRepository stockReservationRepository;
     private final CategoryRepository categoryRepository;
-    private final AwsS3Config s3Config;
+    private final AwsS3AsyncUploader s3Uploader;
+    private final UploadSessionService uploadSessionService;
+    private final S3DeletionQueue s3DeletionQueue;
 
     private final JPAQueryFactory factory;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final ProductSearchIndex productSearchIndex;
+
+    // 정렬/카테고리 조건이 있는 검색에서 IN 절로 넘길 최대 ID 수. 넘으면 LIKE 쿼리 사용
+    @Value("${product-search.max-in-ids:1000}")
+    private int maxInIds;
+
+    // S3 업로드는 트랜잭션 밖에서 먼저 하고, DB 작업만 트랜잭션으로 묶는다.
+    // (업로드하는 동안 DB 커넥션을 잡고 있지 않도록)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Product productCreate(ProductSaveReqDto dto, String email) throws IOException {
+
+        // 이미지마다 직접 올린 key 가 있으면 확인만 하고, 없으면 multipart 파일을 업로드한다.
+        // 대표 이미지, 썸네일, 상세 이미지를 각각 한 번에 처리 (요청 순서대로 URL 반환)
+        // 썸네일은 선택. 없으면 대표 이미지로 썸네일 축소본을 만든다.
+        ImageSlots slots = new ImageSlots(dto.getMainImageKey(), dto.getMainImage(),
+                dto.getThumbnailImageKey(), dto.getThumbnailImage(), dto.getImageKeys(), dto.getImages());
+        if (!slots.mainChanged()) {
+            throw new IllegalArgumentException("대표 이미지가 없습니다.");
+        }
+        slots.upload();
 
-    public Product productCreate(ProductSaveReqDto dto) throws IOException {
-
-        MultipartFile mainImage = dto.getMainImage();
-        MultipartFile thumbnailImage = dto.getThumbnailImage();
-
-
-        String uniqueMainImageName
-                = UUID.randomUUID() + "_" + mainImage.getOriginalFilename();
-        String uniqueThumbnailImageName
-                = UUID.randomUUID() + "_" + thumbnailImage.getOriginalFilename();
-
-        String mainImageUrl
-                = s3Config.uploadToS3Bucket(mainImage.getBytes(), uniqueMainImageName);
-        String thumbnailImageUrl
-                = s3Config.uploadToS3Bucket(thumbnailImage.getBytes(), uniqueThumbnailImageName);
-
-        Category category = categoryRepository.findById(dto.getCategoryId())
-                .orElseThrow(() -> new EntityNotFoundException("category not found"));
+        return slots.saveOrDiscard(() -> transactionTemplate.execute(status -> {
+            Category category = categoryRepository.findById(dto.getCategoryId())
+                    .orElseThrow(() -> new EntityNotFoundException("category not found"));
+            slots.confirm(email);
 
-        dto.setMainImagePath(mainImageUrl);
-        dto.setThumbnailPath(thumbnailImageUrl);
-        Product product = dto.toEntity(category);
+            dto.setMainImagePath(slots.nextMain());
+            dto.setThumbnailPath(slots.thumbnailChanged() ? slots.nextThumbnail() : null);
+            Product product = dto.toEntity(category);
 
 
-        List<ProductImages> images = new ArrayList<>();
+            List<ProductImages> images = new ArrayList<>();
 
 
-        for (int i =0; i<dto.getImages().size(); i++) {
-            MultipartFile image = dto.getImages().get(i);
-            ProductImages productImages = new ProductImages();
-            String uniqueImageName
-                    = UUID.randomUUID() + "_" + image.getOriginalFilename();
-            String imageUrl
-                    = s3Config.uploadToS3Bucket(image.getBytes(), uniqueImageName);
-            productImages.setImgUrl(imageUrl);
-            productImages.setImgOrder(i);
-            productImages.setProduct(product);
-            images.add(productImages);
-        }
+            for (int i =0; i<slots.imageCount(); i++) {
+                ProductImages productImages = new ProductImages();
+                productImages.setImgUrl(slots.nextImage());
+                productImages.setImgOrder(i);
+                productImages.setProduct(product);
+                images.add(productImages);
+            }
 
-        product.setProductImages(images);
+            product.setProductImages(images);
 
+            Product saved = productRepository.save(product);
+            eventPublisher.publishEvent(new ProductChangedEvent(List.of(saved.getProductId())));
+            eventPublisher.publishEvent(new ProductImagesUploadedEvent(saved.getProductId()));
 
-        return productRepository.save(product);
+            return saved;
+        }));
 
     }
 
@@ -112,12 +150,24 @@ public class ProductService {
 
 
 
+        // 상품명 검색은 인메모리 n-gram 인덱스로 처리 (LIKE '%검색어%' 는 전체 테이블을 읽는다)
+        if (dto.getSearchName() != null && !dto.getSearchName().isEmpty()) {
+            Long categoryId = dto.getSearchType() == null || "ALL".equals(dto.getSearchType())
+                    ? null : Long.parseLong(dto.getSearchType());
+            List<Product> found = searchByNameIndex(dto.getSearchName(), categoryId, pageable);
+            if (found != null) {
+                return found.stream()
+                        .map(ProductResDto::fromEntity)
+                        .collect(Collectors.toList());
+            }
+        }
+
         Page<Product> products;
         if ( dto.getSearchType() == null || "ALL".equals(dto.getSearchType())) {
             if (dto.getSearchName() != null && !dto.getSearchName().isEmpty()) {
                 products = productRepository.findByNameValue(dto.getSearchName(), pageable);
             } else {
-                products = productRepository.findAll(pageable);
+                products = productRepository.findPageWithCategory(pageable);
             }
         } else {
             Long categoryId = Long.parseLong(dto.getSearchType());
@@ -131,8 +181,71 @@ public class ProductService {
         List<Product> productList = products.getContent();
 
         return productList.stream()
-                .map(Product::fromEntity)
+                .map(ProductResDto::fromEntity)
+                .collect(Collectors.toList());
+    }
+
+    // 인덱스로 찾은 상품 ID 로 조회. 인덱스를 쓸 수 없으면 null (기존 LIKE 쿼리로 대체)
+    private List<Product> searchByNameIndex(String keyword, Long categoryId, Pageable pageable) {
+        RoaringBitmap matched = productSearchIndex.matchName(keyword);
+        if (matched == null) return null; // 인덱스 적재 중
+        if (matched.isEmpty()) return List.of();
+
+        if (categoryId == null && pageable.getSort().isUnsorted()) {
+            // 정렬 조건이 없으면 ID 순으로 비트맵에서 바로 해당 페이지만 잘라서 조회
+            return findInIdOrder(ProductSearchIndex.page(matched, pageable));
+        }
+
+        if (matched.getCardinality() > maxInIds) return null;
+        List<Long> ids = new ArrayList<>(matched.getCardinality());
+        matched.forEach((int id) -> ids.add((long) id));
+        Page<Product> products = categoryId == null
+                ? productRepository.findByProductIdIn(ids, pageable)
+                : productRepository.findByProductIdInAndCategory_CategoryId(ids, categoryId, pageable);
+        return products.getContent();
+    }
+
+    private List<Product> findInIdOrder(List<Long> ids) {
+        if (ids.isEmpty()) return List.of();
+        List<Product> products = new ArrayList<>(productRepository.findByProductIdIn(ids));
+        products.sort(Comparator.comparing(Product::getProductId));
+        return products;
+    }
+
+    // 카테고리 / 가격 구간 / 재고 조건 검색 + 패싯 개수 (인메모리 비트맵, 패싯별 count 쿼리 없음)
+    public ProductFacetSearchResDto productFacetSearch(ProductFacetSearchReqDto dto, Pageable pageable) {
+        ProductFacetIndex.FacetResult result = productSearchIndex.searchFacets(
+                dto.getSearchName(), dto.getCategoryIds(), dto.getPriceBuckets(), dto.isInStock());
+        if (result == null) {
+            throw new SearchIndexNotReadyException("상품 검색 인덱스를 준비 중입니다. 잠시 후 다시 시도해 주세요.");
+        }
+
+        List<ProductResDto> products = findInIdOrder(ProductSearchIndex.page(result.ids(), pageable)).stream()
+                .map(ProductResDto::fromEntity)
                 .collect(Collectors.toList());
+
+        Map<Long, String> categoryNames = categoryRepository.findAll().stream()
+                .collect(Collectors.toMap(Category::getCategoryId, Category::getName));
+        List<ProductFacetSearchResDto.CategoryFacet> categories = result.categoryCounts().entrySet().stream()
+                .map(entry -> new ProductFacetSearchResDto.CategoryFacet(
+                        entry.getKey(), categoryNames.get(entry.getKey()), entry.getValue()))
+                .collect(Collectors.toList());
+
+        ProductFacetIndex facets = productSearchIndex.facets();
+        List<ProductFacetSearchResDto.PriceBucketFacet> priceBuckets = new ArrayList<>();
+        int[] priceCounts = result.priceBucketCounts();
+        for (int i = 0; i < priceCounts.length; i++) {
+            priceBuckets.add(new ProductFacetSearchResDto.PriceBucketFacet(
+                    i, facets.bucketMin(i), facets.bucketMax(i), priceCounts[i]));
+        }
+
+        return ProductFacetSearchResDto.builder()
+                .totalCount(result.ids().getLongCardinality())
+                .products(products)
+                .categories(categories)
+                .priceBuckets(priceBuckets)
+                .inStockCount(result.inStockCount())
+                .build();
     }
 
     public void productDelete(Long id) throws Exception {
@@ -140,17 +253,22 @@ public class ProductService {
                 () -> new EntityNotFoundException("Product with id: " + id + " not found")
         );
 
+        // 원본과 서버에서 만든 축소본 모두 삭제 (썸네일 원본/축소본은 없을 수 있음)
+        List<String> imageUrls = new ArrayList<>();
         for (ProductImages image : product.getProductImages()) {
-            s3Config.deleteFromS3Bucket(image.getImgUrl());
+            imageUrls.add(image.getImgUrl());
+            imageUrls.add(image.getThumbnailUrl());
+            imageUrls.add(image.getDetailUrl());
         }
-
-
-        String thumbnailPath = product.getThumbnailPath();
-        String mainImagePath = product.getMainImagePath();
-        s3Config.deleteFromS3Bucket(thumbnailPath);
-        s3Config.deleteFromS3Bucket(mainImagePath);
+        imageUrls.add(product.getThumbnailPath());
+        imageUrls.add(product.getMainImagePath());
+        imageUrls.add(product.getSmallThumbnailPath());
+        imageUrls.add(product.getListImagePath());
+        imageUrls.add(product.getDetailImagePath());
+        s3DeletionQueue.enqueueUrls(imageUrls); // 커밋되면 백그라운드에서 한 번에 삭제
 
         productRepository.deleteById(id);
+        eventPublisher.publishEvent(new ProductChangedEvent(List.of(id)));
     }
 
     public ProductResDto getProductInfo(Long prodId) {
@@ -170,13 +288,102 @@ public class ProductService {
         );
         foundProduct.setStockQuantity(stockQuantity);
         productRepository.save(foundProduct);
+        eventPublisher.publishEvent(new ProductChangedEvent(List.of(prodId)));
+    }
+
+    // 주문 시 여러 상품의 재고를 한 트랜잭션에서 일괄 차감
+    // 하나라도 실패하면 전체를 롤백하고, 상품별 성공 여부를 돌려준다.
+    // reservationKey 가 있으면 예약 기록을 같이 남겨서, 같은 키로 다시 요청해도 한 번만 차감되고
+    // 주문 쪽에서 응답을 받지 못한 경우(타임아웃) releaseReservation 으로 되돌릴 수 있다.
+    // 예약 키는 호출한 서비스 이름으로 시작해야 한다. (예: "ordering-service:order-1")
+    public List<StockReserveResDto> reserveStock(String service, String reservationKey,
+                                                 List<StockReserveReqDto> items) {
+        // 같은 상품이 여러 번 들어오면 수량을 합치고,
+        // 상품 ID 순서로 갱신해서 동시 주문끼리 락 순서가 엇갈리지 않도록 한다.
+        Map<Long, Integer> quantities = new TreeMap<>();
+        for (StockReserveReqDto item : items) {
+            if (item.getProductId() == null || item.getQuantity() <= 0) {
+                throw new IllegalArgumentException("잘못된 재고 차감 요청입니다: " + item);
+            }
+            quantities.merge(item.getProductId(), item.getQuantity(), Integer::sum);
+        }
+
+        if (reservationKey != null) {
+            checkKeyOwner(service, reservationKey);
+            StockReservation existing = stockReservationRepository.findByReservationKey(reservationKey).orElse(null);
+            if (existing != null) {
+                // 이미 처리된 키: 해제된 예약이면 실패, 아니면 기존 결과를 그대로 돌려준다.
+                log.info("재고 예약 재요청: {}, released={}", reservationKey, existing.isReleased());
+                return quantities.entrySet().stream()
+                        .map(e -> new StockReserveResDto(e.getKey(), e.getValue(), !existing.isReleased()))
+                        .collect(Collectors.toList());
+            }
+        }
+
+        List<StockReserveResDto> results = new ArrayList<>();
+        boolean allReserved = true;
+        for (Map.Entry<Long, Integer> entry : quantities.entrySet()) {
+            boolean success = productRepository.decreaseStock(entry.getKey(), entry.getValue()) == 1;
+            allReserved &= success;
+            results.add(new StockReserveResDto(entry.getKey(), entry.getValue(), success));
+        }
+
+        if (!allReserved) {
+            // success=false 인 항목이 재고 부족 원인. 전체가 롤백되므로 나머지도 반영되지 않는다.
+            log.info("재고 부족으로 예약 롤백: {}", results);
+            TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+            return results;
+        }
+
+        if (reservationKey != null) {
+            // 같은 키가 동시에 들어오면 unique 제약으로 한쪽이 실패하고 롤백된다.
+            stockReservationRepository.saveAndFlush(StockReservation.builder()
+                    .reservationKey(reservationKey)
+                    .items(new LinkedHashMap<>(quantities))
+                    .createdAt(LocalDateTime.now())
+                    .build());
+        }
+        // 재고가 바뀐 상품들의 캐시 무효화 (커밋 후 전송)
+        eventPublisher.publishEvent(new ProductChangedEvent(new ArrayList<>(quantities.keySet())));
+        return results;
+    }
+
+    // 재고 예약 해제 (여러 번 호출해도 한 번만 반영)
+    // 예약이 아직 없으면 해제 기록만 남겨서, 늦게 도착한 같은 키의 예약이 재고를 차감하지 못하게 한다.
+    // 해제 기록은 다른 서비스의 예약을 막을 수 있으므로 호출한 서비스 소유의 키만 받는다.
+    public void releaseReservation(String service, String reservationKey) {
+        checkKeyOwner(service, reservationKey);
+        StockReservation reservation = stockReservationRepository.findByReservationKey(reservationKey).orElse(null);
+        if (reservation == null) {
+            stockReservationRepository.saveAndFlush(StockReservation.builder()
+                    .reservationKey(reservationKey)
+                    .released(true)
+                    .createdAt(LocalDateTime.now())
+                    .build());
+            return;
+        }
+        // 재고 UPDATE 가 영속성 컨텍스트를 비우므로 항목을 먼저 복사하고, 해제 표시도 UPDATE 로 한다.
+        Map<Long, Integer> items = new TreeMap<>(reservation.getItems());
+        if (stockReservationRepository.markReleased(reservation.getId()) == 0) {
+            return; // 이미 해제됨
+        }
+
+        items.forEach(productRepository::increaseStock);
+        log.info("재고 예약 해제: {}, items={}", reservationKey, items);
+        eventPublisher.publishEvent(new ProductChangedEvent(new ArrayList<>(items.keySet())));
+    }
+
+    private static void checkKeyOwner(String service, String reservationKey) {
+        if (service == null || !reservationKey.startsWith(service + ":")) {
+            throw new IllegalArgumentException("예약 키를 사용할 수 없는 서비스입니다: " + service);
+        }
     }
 
     public List<ProductResDto> getProductsName(List<Long> productIds) {
         List<Product> products = productRepository.findByProductIdIn(productIds);
 
         return products.stream()
-                .map(Product::fromEntity)
+                .map(ProductResDto::fromEntity)
                 .collect(Collectors.toList());
     }
 
@@ -189,80 +396,186 @@ public class ProductService {
             foundProd.setStockQuantity(quantity + map.get(key));
             productRepository.save(foundProd);
         }
+        eventPublisher.publishEvent(new ProductChangedEvent(new ArrayList<>(map.keySet())));
     }
 
-    public Product productUpdate(ProductUpdateDto dto, Long id) throws Exception {
+    // productCreate 와 마찬가지로 S3 업로드는 트랜잭션 밖에서 먼저 한다.
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Product productUpdate(ProductUpdateDto dto, Long id, String email) throws Exception {
+
+        // 이미지 변경이 있는 경우만 S3 업로드/직접 업로드 확인 (바뀐 이미지를 모아서 한 번에 처리)
+        ImageSlots slots = new ImageSlots(dto.getMainImageKey(), dto.getMainImage(),
+                dto.getThumbnailImageKey(), dto.getThumbnailImage(), dto.getImageKeys(), dto.getImages());
+        boolean mainChanged = slots.mainChanged();
+        boolean thumbnailChanged = slots.thumbnailChanged();
+        boolean imagesChanged = slots.imageCount() > 0;
+        slots.upload();
+
+        return slots.saveOrDiscard(() -> transactionTemplate.execute(status -> {
+            Product product = productRepository.findById(id)
+                    .orElseThrow(() -> new EntityNotFoundException("Product not found"));
+
+            // 텍스트 필드 수정
+            if (dto.getName() != null) product.setName(dto.getName());
+            if (dto.getPrice() != null) product.setPrice(dto.getPrice());
+            if (dto.getDescription() != null) product.setDescription(dto.getDescription());
+
+            slots.confirm(email);
+
+            // 이전 이미지는 삭제 대기열에 넣어 커밋된 뒤 백그라운드에서 지운다.
+            List<String> replacedUrls = new ArrayList<>();
+
+            // 원본이 바뀌면 그 원본으로 만든 축소본도 지우고, 커밋 후 다시 만든다.
+            if (mainChanged) {
+                replacedUrls.add(product.getMainImagePath());
+                replacedUrls.add(product.getListImagePath());
+                replacedUrls.add(product.getDetailImagePath());
+                product.setMainImagePath(slots.nextMain());
+                product.setListImagePath(null);
+                product.setDetailImagePath(null);
+            }
+
+            if (thumbnailChanged) {
+                replacedUrls.add(product.getThumbnailPath());
+                product.setThumbnailPath(slots.nextThumbnail());
+            }
+
+            // 썸네일 축소본은 썸네일 원본(없으면 대표 이미지)으로 만든다.
+            if (thumbnailChanged || (mainChanged && product.getThumbnailPath() == null)) {
+                replacedUrls.add(product.getSmallThumbnailPath());
+                product.setSmallThumbnailPath(null);
+            }
 
-        Product product = productRepository.findById(id)
-                .orElseThrow(() -> new EntityNotFoundException("Product not found"));
+            // 상품 상세 이미지도 마찬가지로 분기
+            if (imagesChanged) {
+
+                List<ProductImages> exImages = product.getProductImages();
+                for (int i =0; i<exImages.size(); i++) {
+                    replacedUrls.add(exImages.get(i).getImgUrl());
+                    replacedUrls.add(exImages.get(i).getThumbnailUrl());
+                    replacedUrls.add(exImages.get(i).getDetailUrl());
+                }
+
+                List<ProductImages> newImages = new ArrayList<>(); // 기존 삭제 후 재등록 or 추가 로직
+                for (int i = 0; i < slots.imageCount(); i++) {
+                    ProductImages productImages = new ProductImages();
+                    productImages.setImgUrl(slots.nextImage());
+                    productImages.setImgOrder(i);
+                    productImages.setProduct(product);
+                    newImages.add(productImages);
+                }
+                product.getProductImages().clear();                // 이전 이미지 orphan으로 인식됨
+                product.getProductImages().addAll(newImages);
+            }
+
+            if(dto.getCategoryId() != null && !dto.getCategoryId().isEmpty()) {
+                Long categoryId = Long.parseLong(dto.getCategoryId());
+                Category category= categoryRepository.findById(categoryId).orElseThrow(
+                        () -> new EntityNotFoundException("Category with id: " + categoryId + " not found")
+                );
+                product.setCategory(category);
+            }
 
-        // 텍스트 필드 수정
-        if (dto.getName() != null) product.setName(dto.getName());
-        if (dto.getPrice() != null) product.setPrice(dto.getPrice());
-        if (dto.getDescription() != null) product.setDescription(dto.getDescription());
+            Product saved = productRepository.save(product);
+            eventPublisher.publishEvent(new ProductChangedEvent(List.of(id)));
+            if (mainChanged || thumbnailChanged || imagesChanged) {
+                eventPublisher.publishEvent(new ProductImagesUploadedEvent(id));
+            }
+            s3DeletionQueue.enqueueUrls(replacedUrls);
 
-        // 이미지 변경이 있는 경우만 S3 업로드
-        if (dto.getMainImage() != null && !dto.getMainImage().isEmpty()) {
+            return saved;
+        }));
 
-            s3Config.deleteFromS3Bucket(product.getMainImagePath());
+    }
 
-            MultipartFile mainImage = dto.getMainImage();
-            String uniqueMainImageName
-                    = UUID.randomUUID() + "_" + mainImage.getOriginalFilename();
-            String url =
-                    s3Config.uploadToS3Bucket(mainImage.getBytes(), uniqueMainImageName);
-            product.setMainImagePath(url);
+    // 대표 / 썸네일 / 상세 이미지 각각을 직접 올린 key 또는 multipart 파일 중 하나로 받는다. (key 우선)
+    // multipart 는 upload 에서 한 번에 동시 업로드하고, key 는 confirm 에서 한 번에 확인한 뒤 요청 순서대로 꺼내 쓴다.
+    private class ImageSlots {
+        private final String mainKey;
+        private final MultipartFile mainFile;
+        private final String thumbnailKey;
+        private final MultipartFile thumbnailFile;
+        private final List<String> imageKeys;
+        private final List<MultipartFile> imageFiles;
+
+        private Iterator<String> uploaded;
+        private Iterator<String> confirmed;
+        private List<String> uploadedKeys = List.of();
+
+        ImageSlots(String mainKey, MultipartFile mainFile, String thumbnailKey, MultipartFile thumbnailFile,
+                   List<String> imageKeys, List<MultipartFile> imageFiles) {
+            this.mainKey = StringUtils.hasText(mainKey) ? mainKey : null;
+            this.mainFile = mainFile != null && !mainFile.isEmpty() ? mainFile : null;
+            this.thumbnailKey = StringUtils.hasText(thumbnailKey) ? thumbnailKey : null;
+            this.thumbnailFile = thumbnailFile != null && !thumbnailFile.isEmpty() ? thumbnailFile : null;
+            this.imageKeys = imageKeys != null && !imageKeys.isEmpty() ? imageKeys : null;
+            this.imageFiles = imageFiles != null && !imageFiles.isEmpty() ? imageFiles : null;
         }
 
-        if (dto.getThumbnailImage() != null && !dto.getThumbnailImage().isEmpty()) {
-            s3Config.deleteFromS3Bucket(product.getThumbnailPath());
+        boolean mainChanged() {
+            return mainKey != null || mainFile != null;
+        }
 
-            MultipartFile thumbnailImage = dto.getThumbnailImage();
-            String uniquethumbnailImageName
-                    = UUID.randomUUID() + "_" + thumbnailImage.getOriginalFilename();
-            String url =
-                    s3Config.uploadToS3Bucket(thumbnailImage.getBytes(), uniquethumbnailImageName);
-            product.setThumbnailPath(url);
+        boolean thumbnailChanged() {
+            return thumbnailKey != null || thumbnailFile != null;
         }
 
-        // 상품 상세 이미지도 마찬가지로 분기
-        if (dto.getImages() != null && !dto.getImages().isEmpty()) {
+        int imageCount() {
+            if (imageKeys != null) return imageKeys.size();
+            return imageFiles != null ? imageFiles.size() : 0;
+        }
 
-            List<ProductImages> exImages = product.getProductImages();
-            for (int i =0; i<exImages.size(); i++) {
-                String imgUrl = exImages.get(i).getImgUrl();
-                s3Config.deleteFromS3Bucket(imgUrl);
+        // multipart 파일을 한 번에 동시 업로드 (트랜잭션 밖에서 호출)
+        void upload() {
+            List<MultipartFile> files = new ArrayList<>();
+            if (mainKey == null && mainFile != null) files.add(mainFile);
+            if (thumbnailKey == null && thumbnailFile != null) files.add(thumbnailFile);
+            if (imageKeys == null && imageFiles != null) files.addAll(imageFiles);
+            if (files.isEmpty()) {
+                uploaded = Collections.emptyIterator();
+                return;
             }
 
-            List<ProductImages> newImages = new ArrayList<>(); // 기존 삭제 후 재등록 or 추가 로직
-            for (int i = 0; i < dto.getImages().size(); i++) {
-                ProductImages productImages = new ProductImages();
-                MultipartFile image = dto.getImages().get(i);
-                String uniqueImageName
-                        = UUID.randomUUID() + "_" + image.getOriginalFilename();
-                String url =
-                        s3Config.uploadToS3Bucket(image.getBytes(), uniqueImageName);
-                productImages.setImgUrl(url);
-                productImages.setImgOrder(i);
-                productImages.setProduct(product);
-                newImages.add(productImages);
-            }
-            product.getProductImages().clear();                // 이전 이미지 orphan으로 인식됨
-            product.getProductImages().addAll(newImages);
+            List<AwsS3AsyncUploader.UploadRequest> requests = files.stream()
+                    .map(file -> new AwsS3AsyncUploader.UploadRequest(
+                            UUID.randomUUID() + "_" + file.getOriginalFilename(),
+                            file, file.getSize(), file.getContentType()))
+                    .collect(Collectors.toList());
+            // 업로드 중 실패는 업로더가 이미 올라간 파일을 바로 정리한다.
+            uploaded = s3Uploader.uploadAll(requests).iterator();
+            uploadedKeys = requests.stream().map(AwsS3AsyncUploader.UploadRequest::key).collect(Collectors.toList());
         }
 
-        if(dto.getCategoryId() != null && !dto.getCategoryId().isEmpty()) {
-            Long categoryId = Long.parseLong(dto.getCategoryId());
-            Category category= categoryRepository.findById(categoryId).orElseThrow(
-                    () -> new EntityNotFoundException("Category with id: " + categoryId + " not found")
-            );
-            product.setCategory(category);
+        // 직접 올린 key 확인. 트랜잭션 안에서 호출해서 상품 저장이 롤백되면 사용 처리도 함께 롤백된다.
+        void confirm(String email) {
+            List<String> keys = new ArrayList<>();
+            if (mainKey != null) keys.add(mainKey);
+            if (thumbnailKey != null) keys.add(thumbnailKey);
+            if (imageKeys != null) keys.addAll(imageKeys);
+            confirmed = uploadSessionService.confirm(keys, email, UploadPurpose.PRODUCT).iterator();
         }
 
+        // DB 저장(커밋 포함)이 실패하면 먼저 올려 둔 파일을 지운다.
+        <T> T saveOrDiscard(Supplier<T> save) {
+            try {
+                return save.get();
+            } catch (RuntimeException e) {
+                if (!uploadedKeys.isEmpty()) s3Uploader.deleteKeys(uploadedKeys);
+                throw e;
+            }
+        }
 
+        String nextMain() {
+            return mainKey != null ? confirmed.next() : uploaded.next();
+        }
 
-        return productRepository.save(product);
+        String nextThumbnail() {
+            return thumbnailKey != null ? confirmed.next() : uploaded.next();
+        }
 
+        String nextImage() {
+            return imageKeys != null ? confirmed.next() : uploaded.next();
+        }
     }
 }
 
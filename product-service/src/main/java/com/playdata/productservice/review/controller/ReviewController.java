@@ -81,12 +81,16 @@ public class ReviewController {
             token = "Bearer " + token;
         }
 
-        // ✅ 사용자의 주문 목록 조회
-        List<OrderResponseDto> orders = orderServiceClient.getOrdersServer(email); // 토큰 필요하면 추가 파라미터
-
-        boolean hasPurchased = orders.stream()
-                .flatMap(order -> order.getOrderItems().stream())
-                .anyMatch(item -> item.getProductId().equals(dto.getProductId()));
+        // ✅ 사용자의 주문 목록을 페이지 단위로 조회하면서 구매 여부 확인 (찾으면 바로 중단)
+        boolean hasPurchased = false;
+        String cursor = null;
+        do {
+            OrderPageResDto page = orderServiceClient.getOrdersServer(email, cursor, 100);
+            hasPurchased = page.getOrders().stream()
+                    .flatMap(order -> order.getOrderItems().stream())
+                    .anyMatch(item -> item.getProductId().equals(dto.getProductId()));
+            cursor = page.getNextCursor();
+        } while (!hasPurchased && cursor != null);
 
         if (!hasPurchased) {
             return ResponseEntity.badRequest().body("구매한 상품만 리뷰 작성 가능합니다.");
@@ -126,7 +130,7 @@ public class ReviewController {
         if(!userEmail.equals(authorEmail)) {
             return ResponseEntity.badRequest().body("글 주인 다름");
         }else{
-            reviewService.updateById(reviewId, mediaUrl, dto);
+            reviewService.updateById(reviewId, mediaUrl, dto, userEmail);
             return ResponseEntity.ok().body("리뷰 수정 성공");
         }
     }
@@ -0,0 +1,18 @@
+package com.playdata.productservice.review.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+// ordering-service 주문 내역 페이지 응답 (커서 기반)
+@Getter
+@Setter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OrderPageResDto {
+    private List<OrderResponseDto> orders; // 이번 페이지의 주문 목록
+    private String nextCursor; // 다음 페이지 조회용 커서 (마지막 페이지면 null)
+    private boolean hasNext;
+}
@@ -16,6 +16,7 @@ public class ReviewSaveReqDto {
     private Long productId;
     private String content;
     private MultipartFile image;
+    private String imageKey; // pre-signed URL 로 직접 올린 경우 (/upload/session). 있으면 image 대신 쓴다.
 
     public Review toEntity(String userEmail,String userName, String imagePath) {
         return Review.builder()
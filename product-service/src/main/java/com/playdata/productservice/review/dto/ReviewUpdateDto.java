@@ -12,4 +12,5 @@ import org.springframework.web.multipart.MultipartFile;
 public class ReviewUpdateDto {
     private String content;
     private MultipartFile image;
+    private String imageKey; // pre-signed URL 로 직접 올린 경우 (/upload/session). 있으면 image 대신 쓴다.
 }
@@ -6,15 +6,20 @@ import com.playdata.productservice.review.dto.ReviewSaveReqDto;
 import com.playdata.productservice.review.dto.ReviewUpdateDto;
 import com.playdata.productservice.review.entity.Review;
 import com.playdata.productservice.review.repository.ReviewRepository;
+import com.playdata.productservice.upload.entity.UploadPurpose;
+import com.playdata.productservice.upload.service.S3DeletionQueue;
+import com.playdata.productservice.upload.service.UploadSessionService;
 import jakarta.persistence.EntityNotFoundException;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -25,6 +30,8 @@ import java.util.stream.Collectors;
 public class ReviewService {
     private final ReviewRepository reviewRepository;
     private final AwsS3Config s3Config;
+    private final UploadSessionService uploadSessionService;
+    private final S3DeletionQueue s3DeletionQueue;
 
     public List<ReviewResDto> findByProdId(Long prodId, Pageable pageable) {
 
@@ -42,7 +49,9 @@ public class ReviewService {
 
 
         String mainImageUrl = "";
-        if(dto.getImage() != null) {
+        if (StringUtils.hasText(dto.getImageKey())) {
+            mainImageUrl = uploadSessionService.confirm(List.of(dto.getImageKey()), email, UploadPurpose.REVIEW).get(0);
+        } else if(dto.getImage() != null) {
             MultipartFile reviewImage = dto.getImage();
 
             String uniqueReviewImageImageName
@@ -64,14 +73,14 @@ public class ReviewService {
     }
 
     public void deleteById(Long reviewId, String imgUrl) throws Exception {
-        s3Config.deleteFromS3Bucket(imgUrl);
+        s3DeletionQueue.enqueueUrls(Collections.singletonList(imgUrl));
         reviewRepository.deleteById(reviewId);
     }
     public void deleteById(Long reviewId) throws Exception {
         reviewRepository.deleteById(reviewId);
     }
 
-    public void updateById(Long reviewId, String imgUrl, ReviewUpdateDto dto) throws Exception {
+    public void updateById(Long reviewId, String imgUrl, ReviewUpdateDto dto, String email) throws Exception {
         Review review = reviewRepository.findById(reviewId)
                 .orElseThrow(() -> new EntityNotFoundException("리뷰 없음"));
 
@@ -81,8 +90,13 @@ public class ReviewService {
         }
 
         // 이미지가 있을 경우 기존 삭제 + 새 이미지 등록
-        if (dto.getImage() != null && !dto.getImage().isEmpty()) {
-            s3Config.deleteFromS3Bucket(imgUrl); // 기존 이미지 삭제
+        if (StringUtils.hasText(dto.getImageKey())) {
+            String newImageUrl
+                    = uploadSessionService.confirm(List.of(dto.getImageKey()), email, UploadPurpose.REVIEW).get(0);
+            s3DeletionQueue.enqueueUrls(Collections.singletonList(imgUrl)); // 기존 이미지 삭제 (커밋 후 백그라운드)
+            review.setMediaUrl(newImageUrl);
+        } else if (dto.getImage() != null && !dto.getImage().isEmpty()) {
+            s3DeletionQueue.enqueueUrls(Collections.singletonList(imgUrl)); // 기존 이미지 삭제 (커밋 후 백그라운드)
             String newImageUrl = s3Config.uploadToS3Bucket(
                     dto.getImage().getBytes(),
                     UUID.randomUUID() + "_" + dto.getImage().getOriginalFilename()
@@ -0,0 +1,43 @@
+package com.playdata.productservice.upload.controller;
+
+import com.playdata.productservice.common.auth.Role;
+import com.playdata.productservice.common.auth.TokenUserInfo;
+import com.playdata.productservice.common.dto.CommonErrorDto;
+import com.playdata.productservice.common.dto.CommonResDto;
+import com.playdata.productservice.upload.dto.UploadSessionReqDto;
+import com.playdata.productservice.upload.dto.UploadSessionResDto;
+import com.playdata.productservice.upload.entity.UploadPurpose;
+import com.playdata.productservice.upload.service.UploadSessionService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/upload")
+@RequiredArgsConstructor
+public class UploadSessionController {
+
+    private final UploadSessionService uploadSessionService;
+
+    // 이미지 직접 업로드용 pre-signed PUT URL 발급
+    // 올린 뒤에는 상품 등록/수정(mainImageKey 등), 리뷰 등록/수정(imageKey)에 objectKey 를 보낸다.
+    @PostMapping("/session")
+    public ResponseEntity<?> createSession(@RequestBody UploadSessionReqDto dto,
+                                           @AuthenticationPrincipal TokenUserInfo tokenUserInfo) {
+
+        if (dto.getPurpose() == UploadPurpose.PRODUCT && tokenUserInfo.getRole() != Role.ADMIN) {
+            CommonErrorDto errorDto
+                    = new CommonErrorDto(HttpStatus.FORBIDDEN, "상품 이미지는 관리자만 올릴 수 있습니다.");
+            return new ResponseEntity<>(errorDto, HttpStatus.FORBIDDEN);
+        }
+
+        UploadSessionResDto session = uploadSessionService.createSession(dto, tokenUserInfo.getEmail());
+
+        CommonResDto resDto
+                = new CommonResDto(HttpStatus.CREATED, "업로드 URL 발급 완료", session);
+
+        return new ResponseEntity<>(resDto, HttpStatus.CREATED);
+    }
+}
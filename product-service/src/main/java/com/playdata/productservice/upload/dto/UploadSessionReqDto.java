@@ -0,0 +1,27 @@
+package com.playdata.productservice.upload.dto;
+
+import com.playdata.productservice.upload.entity.UploadPurpose;
+import lombok.*;
+
+import java.util.List;
+
+// 직접 업로드할 파일 목록. 크기/형식은 pre-signed URL 에 서명되므로 실제 업로드와 같아야 한다.
+@Getter @Setter @ToString
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UploadSessionReqDto {
+
+    private UploadPurpose purpose;
+    private List<FileSpec> files;
+
+    @Getter @Setter @ToString
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class FileSpec {
+        private String fileName;
+        private String contentType; // image/jpeg 등
+        private long contentLength; // 바이트
+    }
+}
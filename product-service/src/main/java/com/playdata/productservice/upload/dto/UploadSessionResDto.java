@@ -0,0 +1,28 @@
+package com.playdata.productservice.upload.dto;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// 요청한 파일 순서대로 업로드 대상을 돌려준다.
+// 클라이언트는 uploadUrl 로 PUT (Content-Type / Content-Length 는 요청한 값 그대로) 한 뒤
+// 상품/리뷰 등록 요청에 objectKey 를 담아 보낸다.
+@Getter @Setter @ToString
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UploadSessionResDto {
+
+    private List<UploadTarget> uploads;
+
+    @Getter @Setter @ToString
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class UploadTarget {
+        private String objectKey;
+        private String uploadUrl;
+        private LocalDateTime expiresAt; // uploadUrl 만료 시각
+    }
+}
@@ -0,0 +1,41 @@
+package com.playdata.productservice.upload.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+// 지울 S3 파일 하나 (s3_deletion_queue)
+// 상품/리뷰 변경과 같은 트랜잭션에서 기록하고, S3DeletionWorker 가 모아서 DeleteObjects 로 지운다.
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Entity
+@Table(name = "s3_deletion_queue",
+        indexes = @Index(name = "idx_s3_deletion_due", columnList = "next_attempt_at, deletion_id"))
+public class S3DeletionTask {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "deletion_id")
+    private Long id;
+
+    @Column(name = "object_key", nullable = false, length = 1000)
+    private String objectKey;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    // 이 시각 이후에 삭제를 시도한다. (실패하면 뒤로 미룸)
+    @Setter
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Setter
+    private int attempts;
+
+    @Setter
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+}
@@ -0,0 +1,6 @@
+package com.playdata.productservice.upload.entity;
+
+// 직접 업로드한 파일을 어디에 쓸지 (상품 이미지는 관리자만 올릴 수 있다)
+public enum UploadPurpose {
+    PRODUCT, REVIEW
+}
@@ -0,0 +1,47 @@
+package com.playdata.productservice.upload.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+// pre-signed PUT URL 로 S3 에 직접 올리기로 한 파일 하나
+// 상품/리뷰 등록 시 objectKey 로 확인(confirm)하면 used 가 되어 다시 쓸 수 없다.
+@Getter
+@Setter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(name = "upload_session", indexes = @Index(name = "idx_upload_session_expires", columnList = "expires_at"))
+public class UploadSession {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "object_key", nullable = false, unique = true, length = 500)
+    private String objectKey;
+
+    @Column(name = "owner_email", nullable = false)
+    private String ownerEmail;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private UploadPurpose purpose;
+
+    @Column(name = "content_type", nullable = false)
+    private String contentType;
+
+    @Column(name = "content_length", nullable = false)
+    private long contentLength;
+
+    // 이 시각이 지나면 확인할 수 없다. (pre-signed URL 만료 + 여유 시간)
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    private boolean used;
+
+    private LocalDateTime createTime;
+}
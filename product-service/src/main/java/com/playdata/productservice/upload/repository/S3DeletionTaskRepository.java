@@ -0,0 +1,25 @@
+package com.playdata.productservice.upload.repository;
+
+import com.playdata.productservice.upload.entity.S3DeletionTask;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface S3DeletionTaskRepository extends JpaRepository<S3DeletionTask, Long> {
+
+    // 지금 시도할 차례인 삭제를 오래된 순으로 가져온다.
+    // 여러 파드가 동시에 돌려도 같은 행을 나눠 갖지 않도록 SKIP LOCKED(-2) 사용
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT t FROM S3DeletionTask t WHERE t.nextAttemptAt <= :now ORDER BY t.id ASC")
+    List<S3DeletionTask> findDueForUpdate(@Param("now") LocalDateTime now, Pageable pageable);
+
+    // 대기열 지연(가장 오래된 삭제) 측정용
+    Optional<S3DeletionTask> findFirstByOrderByIdAsc();
+}
@@ -0,0 +1,27 @@
+package com.playdata.productservice.upload.repository;
+
+import com.playdata.productservice.upload.entity.UploadSession;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface UploadSessionRepository extends JpaRepository<UploadSession, Long> {
+
+    List<UploadSession> findByObjectKeyIn(Collection<String> objectKeys);
+
+    List<UploadSession> findByExpiresAtBefore(LocalDateTime now, Pageable pageable);
+
+    // 아직 사용되지 않은 업로드만 사용 처리 (반환값 1일 때만 이 요청이 차지한 것)
+    // 같은 key 로 동시에 확인해도 한 요청만 성공한다.
+    @Modifying
+    @Query("UPDATE UploadSession s SET s.used = true WHERE s.objectKey = :objectKey AND s.used = false")
+    int markUsed(@Param("objectKey") String objectKey);
+}
@@ -0,0 +1,57 @@
+package com.playdata.productservice.upload.service;
+
+import com.playdata.productservice.common.configs.AwsS3Config;
+import com.playdata.productservice.upload.entity.S3DeletionTask;
+import com.playdata.productservice.upload.repository.S3DeletionTaskRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+// S3 파일 삭제 예약
+// 호출한 쪽 트랜잭션에서 s3_deletion_queue 에 기록만 하고 바로 돌아온다. (요청 중에는 S3 를 호출하지 않음)
+// 롤백되면 예약도 함께 취소되므로, 아직 쓰이는 파일이 지워지지 않는다.
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class S3DeletionQueue {
+
+    private final S3DeletionTaskRepository s3DeletionTaskRepository;
+    private final AwsS3Config s3Config;
+
+    // 이미지 URL 로 예약 (null / 빈 값은 건너뜀)
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueueUrls(Collection<String> imageUrls) {
+        List<String> keys = new ArrayList<>();
+        for (String imageUrl : imageUrls) {
+            if (imageUrl == null || imageUrl.isBlank()) continue;
+            try {
+                keys.add(s3Config.keyOf(imageUrl));
+            } catch (Exception e) {
+                log.warn("S3 key 를 알 수 없는 URL 이라 삭제하지 않음: {} ({})", imageUrl, e.getMessage());
+            }
+        }
+        enqueueKeys(keys);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueueKeys(Collection<String> keys) {
+        if (keys.isEmpty()) return;
+
+        LocalDateTime now = LocalDateTime.now();
+        List<S3DeletionTask> tasks = keys.stream()
+                .map(key -> S3DeletionTask.builder()
+                        .objectKey(key)
+                        .createdAt(now)
+                        .nextAttemptAt(now)
+                        .build())
+                .toList();
+        s3DeletionTaskRepository.saveAll(tasks);
+    }
+}
@@ -0,0 +1,146 @@
+package com.playdata.productservice.upload.service;
+
+import com.playdata.productservice.common.configs.AwsS3Config;
+import com.playdata.productservice.upload.entity.S3DeletionTask;
+import com.playdata.productservice.upload.repository.S3DeletionTaskRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+// s3_deletion_queue 를 비우는 백그라운드 작업
+// - 시도할 차례인 삭제를 batch-size(최대 1000, DeleteObjects 한도)개씩 잠그고(SKIP LOCKED) 한 번의 DeleteObjects 로 지운다.
+// - 실패한 key 는 재시도 간격을 두 배씩 늘려(최대 max-backoff) 다시 시도한다. 버리지 않으므로 lag 지표로 확인한다.
+@Component
+@Slf4j
+public class S3DeletionWorker {
+
+    private static final int MAX_DELETE_OBJECTS = 1000;
+
+    private final S3DeletionTaskRepository s3DeletionTaskRepository;
+    private final AwsS3Config s3Config;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Counter deletedCounter;
+    private final Counter failureCounter;
+    private final AtomicLong backlog = new AtomicLong();
+    private final AtomicLong lagMillis = new AtomicLong();
+
+    @Value("${s3-deletion.batch-size:1000}")
+    private int batchSize;
+    @Value("${s3-deletion.max-batches-per-run:10}")
+    private int maxBatchesPerRun;
+    @Value("${s3-deletion.retry-backoff-seconds:30}")
+    private long retryBackoffSeconds;
+    @Value("${s3-deletion.max-backoff-seconds:3600}")
+    private long maxBackoffSeconds;
+
+    public S3DeletionWorker(S3DeletionTaskRepository s3DeletionTaskRepository,
+                            AwsS3Config s3Config,
+                            TransactionTemplate transactionTemplate,
+                            MeterRegistry meterRegistry) {
+        this.s3DeletionTaskRepository = s3DeletionTaskRepository;
+        this.s3Config = s3Config;
+        this.transactionTemplate = transactionTemplate;
+
+        this.deletedCounter = Counter.builder("s3.deletion.deleted")
+                .description("삭제 완료된 S3 파일 수")
+                .register(meterRegistry);
+        this.failureCounter = Counter.builder("s3.deletion.failures")
+                .description("삭제에 실패해 재시도로 미룬 S3 파일 수")
+                .register(meterRegistry);
+        Gauge.builder("s3.deletion.backlog", backlog, AtomicLong::get)
+                .description("삭제 대기 중인 S3 파일 수")
+                .register(meterRegistry);
+        Gauge.builder("s3.deletion.lag", lagMillis, lag -> lag.get() / 1000.0)
+                .description("가장 오래된 삭제 대기의 대기 시간(초)")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${s3-deletion.interval-ms:5000}")
+    public void drain() {
+        try {
+            for (int i = 0; i < maxBatchesPerRun; i++) {
+                int processed = drainBatch();
+                if (processed < batchSize()) break; // 더 이상 밀린 삭제가 없음
+            }
+        } catch (Exception e) {
+            log.error("s3 deletion queue drain failed: {}", e.getMessage());
+        } finally {
+            updateBacklog();
+        }
+    }
+
+    // 한 배치를 잠그고 DeleteObjects 로 지운 뒤, 성공한 행은 지우고 실패한 행은 다음 시도 시각을 미룬다.
+    int drainBatch() {
+        Integer count = transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<S3DeletionTask> due
+                    = s3DeletionTaskRepository.findDueForUpdate(now, PageRequest.of(0, batchSize()));
+            if (due.isEmpty()) return 0;
+
+            List<String> keys = due.stream().map(S3DeletionTask::getObjectKey).distinct().toList();
+            Map<String, String> failed;
+            try {
+                failed = s3Config.deleteObjects(keys);
+            } catch (Exception e) {
+                log.warn("DeleteObjects 실패 ({}개): {}", keys.size(), e.getMessage());
+                failed = keys.stream().collect(Collectors.toMap(key -> key, key -> String.valueOf(e.getMessage())));
+            }
+
+            List<S3DeletionTask> done = new ArrayList<>();
+            for (S3DeletionTask task : due) {
+                String error = failed.get(task.getObjectKey());
+                if (error == null) {
+                    done.add(task);
+                } else {
+                    retryLater(task, now, error);
+                }
+            }
+            s3DeletionTaskRepository.deleteAllInBatch(done);
+
+            deletedCounter.increment(done.size());
+            failureCounter.increment(due.size() - done.size());
+            return due.size();
+        });
+        return count == null ? 0 : count;
+    }
+
+    private void retryLater(S3DeletionTask task, LocalDateTime now, String error) {
+        int attempts = task.getAttempts() + 1;
+        long backoff = retryBackoffSeconds << Math.min(attempts - 1, 20);
+        task.setAttempts(attempts);
+        task.setNextAttemptAt(now.plusSeconds(Math.min(backoff, maxBackoffSeconds)));
+        task.setLastError(error.length() > 500 ? error.substring(0, 500) : error);
+    }
+
+    private int batchSize() {
+        return Math.min(batchSize, MAX_DELETE_OBJECTS);
+    }
+
+    private void updateBacklog() {
+        try {
+            backlog.set(s3DeletionTaskRepository.count());
+            long lag = s3DeletionTaskRepository.findFirstByOrderByIdAsc()
+                    .map(oldest -> Duration.between(oldest.getCreatedAt(), LocalDateTime.now()).toMillis())
+                    .orElse(0L);
+            lagMillis.set(Math.max(lag, 0));
+        } catch (Exception e) {
+            log.warn("s3 deletion backlog check failed: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package com.playdata.productservice.upload.service;
+
+import com.playdata.productservice.common.configs.AwsS3AsyncUploader;
+import com.playdata.productservice.common.configs.AwsS3Config;
+import com.playdata.productservice.upload.dto.UploadSessionReqDto;
+import com.playdata.productservice.upload.dto.UploadSessionResDto;
+import com.playdata.productservice.upload.entity.UploadPurpose;
+import com.playdata.productservice.upload.entity.UploadSession;
+import com.playdata.productservice.upload.repository.UploadSessionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// 이미지 직접 업로드 (pre-signed PUT URL)
+// - createSession: 파일마다 object key 와 PUT URL 을 발급하고 upload_session 에 기록한다.
+// - confirm: 상품/리뷰 등록 시 받은 key 가 이 사용자에게 발급된 것인지, 실제로 올라갔고 크기가 같은지 확인한다.
+// 파일 내용은 게이트웨이와 product-service 를 거치지 않는다.
+// 확인 기한이 지나도록 쓰이지 않은 파일은 cleanupExpired 가 삭제 대기열(S3DeletionQueue)에 넣는다.
+@Service
+@Transactional
+@RequiredArgsConstructor
+@Slf4j
+public class UploadSessionService {
+
+    private static final Set<String> ALLOWED_CONTENT_TYPES
+            = Set.of("image/jpeg", "image/png", "image/gif", "image/webp");
+
+    private final UploadSessionRepository uploadSessionRepository;
+    private final AwsS3Config s3Config;
+    private final AwsS3AsyncUploader s3Uploader;
+    private final S3DeletionQueue s3DeletionQueue;
+
+    @Value("${presigned-upload.url-ttl-minutes:10}")
+    private long urlTtlMinutes;
+    @Value("${presigned-upload.confirm-ttl-minutes:60}")
+    private long confirmTtlMinutes;
+    @Value("${presigned-upload.max-files:20}")
+    private int maxFiles;
+    @Value("${presigned-upload.max-file-size-mb:20}")
+    private long maxFileSizeMb;
+    @Value("${presigned-upload.cleanup-batch-size:1000}")
+    private int cleanupBatchSize;
+
+    public UploadSessionResDto createSession(UploadSessionReqDto dto, String email) {
+        if (dto.getPurpose() == null) {
+            throw new IllegalArgumentException("업로드 용도(purpose)가 없습니다.");
+        }
+        if (dto.getFiles() == null || dto.getFiles().isEmpty() || dto.getFiles().size() > maxFiles) {
+            throw new IllegalArgumentException("한 번에 1~" + maxFiles + "개 파일만 올릴 수 있습니다.");
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        Duration urlTtl = Duration.ofMinutes(urlTtlMinutes);
+        List<UploadSessionResDto.UploadTarget> targets = new ArrayList<>();
+        for (UploadSessionReqDto.FileSpec file : dto.getFiles()) {
+            validate(file);
+
+            String key = "uploads/" + dto.getPurpose().name().toLowerCase(Locale.ROOT) + "/"
+                    + UUID.randomUUID() + "_" + safeFileName(file.getFileName());
+            String url = s3Config.presignPutUrl(key, file.getContentType(), file.getContentLength(), urlTtl);
+
+            uploadSessionRepository.save(UploadSession.builder()
+                    .objectKey(key)
+                    .ownerEmail(email)
+                    .purpose(dto.getPurpose())
+                    .contentType(file.getContentType())
+                    .contentLength(file.getContentLength())
+                    .expiresAt(now.plusMinutes(confirmTtlMinutes))
+                    .createTime(now)
+                    .build());
+            targets.add(UploadSessionResDto.UploadTarget.builder()
+                    .objectKey(key)
+                    .uploadUrl(url)
+                    .expiresAt(now.plus(urlTtl))
+                    .build());
+        }
+        return new UploadSessionResDto(targets);
+    }
+
+    // 직접 올린 파일들을 확인하고 key 순서대로 URL 을 돌려준다.
+    // 호출한 쪽 트랜잭션에 참여하므로 상품/리뷰 저장이 롤백되면 사용 처리도 함께 롤백된다.
+    public List<String> confirm(List<String> objectKeys, String email, UploadPurpose purpose) {
+        if (objectKeys == null || objectKeys.isEmpty()) return List.of();
+        if (new HashSet<>(objectKeys).size() != objectKeys.size()) {
+            throw new IllegalArgumentException("같은 파일을 두 번 사용할 수 없습니다.");
+        }
+
+        Map<String, UploadSession> sessions = uploadSessionRepository.findByObjectKeyIn(objectKeys).stream()
+                .collect(Collectors.toMap(UploadSession::getObjectKey, Function.identity()));
+        LocalDateTime now = LocalDateTime.now();
+
+        List<String> urls = new ArrayList<>(objectKeys.size());
+        for (String key : objectKeys) {
+            UploadSession session = sessions.get(key);
+            if (session == null || !session.getOwnerEmail().equals(email) || session.getPurpose() != purpose) {
+                throw new IllegalArgumentException("발급되지 않은 업로드입니다: " + key);
+            }
+            if (session.isUsed()) {
+                throw new IllegalArgumentException("이미 사용된 업로드입니다: " + key);
+            }
+            if (session.getExpiresAt().isBefore(now)) {
+                throw new IllegalArgumentException("업로드 확인 기한이 지났습니다: " + key);
+            }
+
+            HeadObjectResponse head = s3Config.headObject(key);
+            if (head == null) {
+                throw new IllegalArgumentException("업로드되지 않은 파일입니다: " + key);
+            }
+            if (head.contentLength() == null || head.contentLength() != session.getContentLength()) {
+                s3Uploader.deleteKeys(List.of(key));
+                throw new IllegalArgumentException("업로드한 파일 크기가 요청과 다릅니다: " + key);
+            }
+
+            // 조회한 뒤 다른 요청이 먼저 사용했을 수 있으므로 조건부 UPDATE 로 차지한다.
+            if (uploadSessionRepository.markUsed(key) != 1) {
+                throw new IllegalArgumentException("이미 사용된 업로드입니다: " + key);
+            }
+            urls.add(s3Config.urlOf(key));
+        }
+        return urls;
+    }
+
+    // 확인 기한이 지난 업로드 기록 정리. 쓰이지 않은 파일은 삭제 대기열에 넣는다.
+    @Scheduled(fixedDelayString = "${presigned-upload.cleanup-interval-ms:600000}")
+    public void cleanupExpired() {
+        List<UploadSession> expired
+                = uploadSessionRepository.findByExpiresAtBefore(LocalDateTime.now(), PageRequest.of(0, cleanupBatchSize));
+        if (expired.isEmpty()) return;
+
+        s3DeletionQueue.enqueueKeys(expired.stream()
+                .filter(session -> !session.isUsed())
+                .map(UploadSession::getObjectKey)
+                .toList());
+        uploadSessionRepository.deleteAllInBatch(expired);
+    }
+
+    private void validate(UploadSessionReqDto.FileSpec file) {
+        if (file.getContentType() == null || !ALLOWED_CONTENT_TYPES.contains(file.getContentType())) {
+            throw new IllegalArgumentException("이미지 파일만 올릴 수 있습니다: " + file.getContentType());
+        }
+        if (file.getContentLength() <= 0 || file.getContentLength() > maxFileSizeMb * 1024 * 1024) {
+            throw new IllegalArgumentException("파일 크기는 " + maxFileSizeMb + "MB 이하여야 합니다.");
+        }
+    }
+
+    // key 에 경로 구분자가 들어가지 않도록
+    private static String safeFileName(String fileName) {
+        if (fileName == null || fileName.isBlank()) return "file";
+        String name = fileName.replaceAll("[/\\\\]", "_");
+        return name.length() > 100 ? name.substring(name.length() - 100) : name;
+    }
+}
@@ -0,0 +1,50 @@
+package com.playdata.productservice.common.auth;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InternalAuthFilterTest {
+
+    private final InternalAuthFilter filter = new InternalAuthFilter(new MockEnvironment()
+            .withProperty("internal-auth.tokens.ordering-service", "secret")
+            .withProperty("internal-auth.tokens.user-service", ""));
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void matchingTokenAuthenticatesAsService() throws Exception {
+        Authentication auth = authenticate("ordering-service", "secret");
+
+        assertThat(auth).isNotNull();
+        assertThat(auth.getPrincipal()).isEqualTo("ordering-service");
+        assertThat(auth.getAuthorities()).extracting(GrantedAuthority::getAuthority).containsExactly("ROLE_SERVICE");
+    }
+
+    @Test
+    void wrongOrUnconfiguredTokenIsIgnored() throws Exception {
+        assertThat(authenticate("ordering-service", "guess")).isNull();
+        assertThat(authenticate("user-service", "")).isNull(); // 토큰이 비어 있는 서비스
+        assertThat(authenticate("unknown-service", "secret")).isNull();
+    }
+
+    private Authentication authenticate(String service, String token) throws Exception {
+        SecurityContextHolder.clearContext();
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/product/reserve/release");
+        request.addHeader(InternalAuthFilter.SERVICE_HEADER, service);
+        request.addHeader(InternalAuthFilter.TOKEN_HEADER, token);
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+}
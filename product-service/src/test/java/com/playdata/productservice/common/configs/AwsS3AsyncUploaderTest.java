@@ -0,0 +1,174 @@
+package com.playdata.productservice.common.configs;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import org.springframework.core.io.ByteArrayResource;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.S3Utilities;
+import software.amazon.awssdk.services.s3.model.*;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// S3 대신 호출을 기록하는 가짜 클라이언트로 업로드 실패 시 정리 동작 확인
+class AwsS3AsyncUploaderTest {
+
+    private static final int MB = 1024 * 1024;
+
+    private final FakeS3 s3 = new FakeS3();
+    // 1MB 를 넘으면 1MB 씩 multipart 업로드
+    private final AwsS3AsyncUploader uploader = new AwsS3AsyncUploader(s3, "bucket", 4, 1, 1);
+
+    @AfterEach
+    void tearDown() {
+        uploader.shutdown();
+    }
+
+    @Test
+    void uploadsAllFilesInRequestOrder() {
+        List<String> urls = uploader.uploadAll(List.of(request("a.jpg", 10), request("b.jpg", 10)));
+
+        assertThat(urls).hasSize(2);
+        assertThat(urls.get(0)).endsWith("/a.jpg");
+        assertThat(urls.get(1)).endsWith("/b.jpg");
+        assertThat(s3.stored).containsExactlyInAnyOrder("a.jpg", "b.jpg");
+    }
+
+    @Test
+    void failedUploadDeletesTheOtherUploadedFiles() {
+        s3.failingKeys.add("bad.jpg");
+
+        assertThatThrownBy(() -> uploader.uploadAll(List.of(
+                request("a.jpg", 10), request("bad.jpg", 10), request("b.jpg", 10))))
+                .hasMessageContaining("이미지 업로드 실패");
+
+        // 성공한 파일만 보상 삭제
+        assertThat(s3.deleted).containsExactlyInAnyOrder("a.jpg", "b.jpg");
+    }
+
+    @Test
+    void failedPartAbortsMultipartUpload() {
+        s3.failingPart = 2;
+
+        assertThatThrownBy(() -> uploader.uploadAll(List.of(
+                request("small.jpg", 10), request("large.jpg", 2 * MB + 100))))
+                .hasMessageContaining("이미지 업로드 실패");
+
+        assertThat(s3.aborted).containsExactly("large.jpg");
+        assertThat(s3.completed).isEmpty();
+        assertThat(s3.deleted).containsExactly("small.jpg");
+    }
+
+    @Test
+    void largeFileIsUploadedInParts() {
+        uploader.uploadAll(List.of(request("large.jpg", 2 * MB + 100)));
+
+        assertThat(s3.parts).isEqualTo(3);
+        assertThat(s3.completed).containsExactly("large.jpg");
+    }
+
+    private static AwsS3AsyncUploader.UploadRequest request(String key, int size) {
+        return new AwsS3AsyncUploader.UploadRequest(key, new ByteArrayResource(new byte[size]), size, "image/jpeg");
+    }
+
+    private static class FakeS3 implements S3AsyncClient {
+        final Set<String> failingKeys = ConcurrentHashMap.newKeySet();
+        volatile int failingPart = -1;
+
+        final Set<String> stored = ConcurrentHashMap.newKeySet();
+        final Set<String> deleted = ConcurrentHashMap.newKeySet();
+        final Set<String> aborted = ConcurrentHashMap.newKeySet();
+        final Set<String> completed = ConcurrentHashMap.newKeySet();
+        volatile int parts;
+
+        @Override
+        public CompletableFuture<PutObjectResponse> putObject(PutObjectRequest request, AsyncRequestBody body) {
+            CompletableFuture<PutObjectResponse> result = new CompletableFuture<>();
+            // 본문을 끝까지 읽어야 업로드 스레드의 writeInputStream 이 끝난다.
+            body.subscribe(new Subscriber<ByteBuffer>() {
+                @Override
+                public void onSubscribe(Subscription subscription) {
+                    subscription.request(Long.MAX_VALUE);
+                }
+
+                @Override
+                public void onNext(ByteBuffer byteBuffer) {
+                }
+
+                @Override
+                public void onError(Throwable throwable) {
+                    result.completeExceptionally(throwable);
+                }
+
+                @Override
+                public void onComplete() {
+                    if (failingKeys.contains(request.key())) {
+                        result.completeExceptionally(S3Exception.builder().message("put failed").build());
+                    } else {
+                        stored.add(request.key());
+                        result.complete(PutObjectResponse.builder().build());
+                    }
+                }
+            });
+            return result;
+        }
+
+        @Override
+        public CompletableFuture<CreateMultipartUploadResponse> createMultipartUpload(CreateMultipartUploadRequest request) {
+            return CompletableFuture.completedFuture(
+                    CreateMultipartUploadResponse.builder().uploadId("upload-" + request.key()).build());
+        }
+
+        @Override
+        public CompletableFuture<UploadPartResponse> uploadPart(UploadPartRequest request, AsyncRequestBody body) {
+            if (request.partNumber() == failingPart) {
+                return CompletableFuture.failedFuture(S3Exception.builder().message("part failed").build());
+            }
+            parts++;
+            return CompletableFuture.completedFuture(UploadPartResponse.builder().eTag("etag").build());
+        }
+
+        @Override
+        public CompletableFuture<CompleteMultipartUploadResponse> completeMultipartUpload(
+                CompleteMultipartUploadRequest request) {
+            completed.add(request.key());
+            return CompletableFuture.completedFuture(CompleteMultipartUploadResponse.builder().build());
+        }
+
+        @Override
+        public CompletableFuture<AbortMultipartUploadResponse> abortMultipartUpload(AbortMultipartUploadRequest request) {
+            aborted.add(request.key());
+            return CompletableFuture.completedFuture(AbortMultipartUploadResponse.builder().build());
+        }
+
+        @Override
+        public CompletableFuture<DeleteObjectResponse> deleteObject(DeleteObjectRequest request) {
+            deleted.add(request.key());
+            return CompletableFuture.completedFuture(DeleteObjectResponse.builder().build());
+        }
+
+        @Override
+        public S3Utilities utilities() {
+            return S3Utilities.builder().region(Region.AP_NORTHEAST_2).build();
+        }
+
+        @Override
+        public String serviceName() {
+            return "s3";
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
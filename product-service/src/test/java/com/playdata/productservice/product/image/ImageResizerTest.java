@@ -0,0 +1,48 @@
+package com.playdata.productservice.product.image;
+
+import org.junit.jupiter.api.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ImageResizerTest {
+
+    @Test
+    void shrinksLongEdgeKeepingAspectRatio() throws IOException {
+        BufferedImage source = new BufferedImage(1600, 900, BufferedImage.TYPE_INT_ARGB); // 투명 PNG 원본
+
+        BufferedImage resized = ImageIO.read(new ByteArrayInputStream(ImageResizer.toJpeg(source, 200, 0.8f)));
+
+        assertThat(resized.getWidth()).isEqualTo(200);
+        assertThat(resized.getHeight()).isEqualTo(113);
+        assertThat(resized.getColorModel().hasAlpha()).isFalse();
+        assertThat(resized.getRGB(0, 0) & 0xFFFFFF).isEqualTo(0xFFFFFF); // 투명한 부분은 흰 배경
+    }
+
+    @Test
+    void doesNotUpscaleSmallImages() throws IOException {
+        BufferedImage source = new BufferedImage(120, 300, BufferedImage.TYPE_INT_RGB);
+
+        BufferedImage resized = ImageIO.read(new ByteArrayInputStream(ImageResizer.toJpeg(source, 480, 0.8f)));
+
+        assertThat(resized.getWidth()).isEqualTo(120);
+        assertThat(resized.getHeight()).isEqualTo(300);
+    }
+
+    @Test
+    void readRejectsOversizedAndUnknownImages() throws IOException {
+        ByteArrayOutputStream png = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(100, 100, BufferedImage.TYPE_INT_RGB), "png", png);
+
+        assertThat(ImageResizer.read(png.toByteArray(), 10_000).getWidth()).isEqualTo(100);
+        assertThatThrownBy(() -> ImageResizer.read(png.toByteArray(), 9_999))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(ImageResizer.read("not an image".getBytes(), 10_000)).isNull();
+    }
+}
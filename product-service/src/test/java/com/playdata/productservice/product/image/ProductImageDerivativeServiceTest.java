@@ -0,0 +1,135 @@
+package com.playdata.productservice.product.image;
+
+import com.playdata.productservice.common.configs.AwsS3AsyncUploader;
+import com.playdata.productservice.common.configs.AwsS3Config;
+import com.playdata.productservice.product.entity.Category;
+import com.playdata.productservice.product.entity.Product;
+import com.playdata.productservice.product.entity.ProductImages;
+import com.playdata.productservice.product.repository.CategoryRepository;
+import com.playdata.productservice.product.repository.ProductRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+// 축소본 저장이 그 사이 커밋된 재고/이미지 변경을 덮어쓰지 않는지 확인 (실제 트랜잭션을 나눠서 실행)
+@DataJpaTest(properties = "spring.cloud.config.enabled=false")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ProductImageDerivativeServiceTest {
+
+    @Autowired
+    private ProductRepository productRepository;
+    @Autowired
+    private CategoryRepository categoryRepository;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate tx;
+    private ProductImageDerivativeService service;
+    private Long productId;
+
+    @BeforeEach
+    void setUp() {
+        tx = new TransactionTemplate(transactionManager);
+        service = new ProductImageDerivativeService(productRepository, mock(AwsS3Config.class),
+                mock(AwsS3AsyncUploader.class), transactionManager, mock(ApplicationEventPublisher.class),
+                new SimpleMeterRegistry());
+
+        productId = tx.execute(status -> {
+            Category category = new Category();
+            category.setName("카테고리");
+            categoryRepository.save(category);
+
+            Product product = Product.builder()
+                    .name("상품")
+                    .price(1000)
+                    .stockQuantity(10)
+                    .mainImagePath("main.jpg")
+                    .category(category)
+                    .productImages(new ArrayList<>())
+                    .build();
+            ProductImages image = new ProductImages();
+            image.setImgUrl("gallery.jpg");
+            image.setProduct(product);
+            product.getProductImages().add(image);
+            return productRepository.save(product).getProductId();
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        productRepository.deleteAll();
+        categoryRepository.deleteAll();
+    }
+
+    @Test
+    void stockDecrementCommittedDuringSaveIsKept() {
+        List<ProductImageDerivativeService.Derivative> made = tx.execute(status -> service.findMissing(productId));
+        List<String> keys = keys(made.size());
+        List<String> unusedKeys = new ArrayList<>(keys);
+
+        tx.executeWithoutResult(status -> {
+            // 작업 트랜잭션이 상품을 읽은 뒤에 재고 차감이 다른 트랜잭션에서 커밋됨
+            productRepository.findById(productId).orElseThrow().getProductImages().size();
+            CompletableFuture.runAsync(() -> tx.executeWithoutResult(
+                    other -> productRepository.decreaseStock(productId, 3))).join();
+
+            service.save(productId, made, urls(keys), keys, unusedKeys);
+        });
+
+        Product saved = tx.execute(status -> {
+            Product product = productRepository.findById(productId).orElseThrow();
+            product.getProductImages().size();
+            return product;
+        });
+        assertThat(saved.getStockQuantity()).isEqualTo(7);
+        assertThat(saved.getListImagePath()).isNotNull();
+        assertThat(saved.getSmallThumbnailPath()).isNotNull();
+        assertThat(saved.getProductImages().get(0).getDetailUrl()).isNotNull();
+        assertThat(unusedKeys).isEmpty();
+    }
+
+    @Test
+    void derivativesOfReplacedImageAreDiscarded() {
+        List<ProductImageDerivativeService.Derivative> made = tx.execute(status -> service.findMissing(productId));
+        List<String> keys = keys(made.size());
+        List<String> unusedKeys = new ArrayList<>(keys);
+
+        // 축소본을 만드는 사이 관리자가 대표 이미지를 바꿈
+        tx.executeWithoutResult(status -> productRepository.findById(productId).orElseThrow()
+                .setMainImagePath("main-new.jpg"));
+
+        tx.executeWithoutResult(status -> service.save(productId, made, urls(keys), keys, unusedKeys));
+
+        Product saved = tx.execute(status -> productRepository.findById(productId).orElseThrow());
+        assertThat(saved.getMainImagePath()).isEqualTo("main-new.jpg");
+        assertThat(saved.getListImagePath()).isNull();
+        assertThat(saved.getDetailImagePath()).isNull();
+        assertThat(saved.getSmallThumbnailPath()).isNull();
+        assertThat(unusedKeys).hasSize(3); // 대표 이미지 기준 축소본 3개는 지울 대상
+    }
+
+    private static List<String> keys(int count) {
+        List<String> keys = new ArrayList<>();
+        for (int i = 0; i < count; i++) keys.add("derived/k" + i + ".jpg");
+        return keys;
+    }
+
+    private static List<String> urls(List<String> keys) {
+        return keys.stream().map(key -> "https://bucket/" + key).toList();
+    }
+}
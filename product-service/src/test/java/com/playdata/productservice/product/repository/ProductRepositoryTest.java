@@ -0,0 +1,101 @@
+package com.playdata.productservice.product.repository;
+
+import com.playdata.productservice.product.dto.ProductResDto;
+import com.playdata.productservice.product.entity.Category;
+import com.playdata.productservice.product.entity.Product;
+import com.playdata.productservice.product.entity.ProductImages;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = {
+        "spring.cloud.config.enabled=false",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class ProductRepositoryTest {
+
+    @Autowired
+    private ProductRepository productRepository;
+    @Autowired
+    private EntityManager em;
+    @Autowired
+    private EntityManagerFactory emf;
+
+    private Statistics statistics;
+    private final List<Long> productIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        List<Category> categories = new ArrayList<>();
+        for (int c = 0; c < 5; c++) {
+            Category category = new Category();
+            category.setName("카테고리" + c);
+            em.persist(category);
+            categories.add(category);
+        }
+        for (int i = 0; i < 40; i++) {
+            Product product = Product.builder()
+                    .name("상품" + i)
+                    .price(1000 * (i + 1))
+                    .stockQuantity(10)
+                    .category(categories.get(i % categories.size()))
+                    .productImages(new ArrayList<>())
+                    .build();
+            for (int j = 0; j < 3; j++) {
+                ProductImages image = new ProductImages();
+                image.setImgUrl("img-" + i + "-" + j);
+                image.setImgOrder(j);
+                image.setProduct(product);
+                product.getProductImages().add(image);
+            }
+            em.persist(product);
+            productIds.add(product.getProductId());
+        }
+        em.flush();
+        em.clear();
+
+        statistics = emf.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void listPageCostsSameStatementsForAnyPageSize() {
+        assertThat(statementsForPage(5)).isEqualTo(2); // 목록 + count
+        em.clear();
+        statistics.clear();
+        assertThat(statementsForPage(20)).isEqualTo(2);
+    }
+
+    @Test
+    void batchLookupIsOneStatement() {
+        List<ProductResDto> dtos = productRepository.findByProductIdIn(productIds.subList(0, 30)).stream()
+                .map(ProductResDto::fromEntity)
+                .collect(Collectors.toList());
+
+        assertThat(dtos).hasSize(30);
+        assertThat(dtos).allSatisfy(dto -> assertThat(dto.getCategoryName()).startsWith("카테고리"));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    private long statementsForPage(int size) {
+        // 두 번째 페이지를 요청해야 count 쿼리가 생략되지 않는다.
+        List<ProductResDto> dtos = productRepository.findPageWithCategory(PageRequest.of(1, size)).stream()
+                .map(ProductResDto::fromEntity)
+                .collect(Collectors.toList());
+        assertThat(dtos).hasSize(size);
+        assertThat(dtos).allSatisfy(dto -> assertThat(dto.getCategoryName()).isNotNull());
+        return statistics.getPrepareStatementCount();
+    }
+}
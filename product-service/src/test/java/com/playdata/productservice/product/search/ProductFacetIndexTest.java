@@ -0,0 +1,63 @@
+package com.playdata.productservice.product.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.roaringbitmap.RoaringBitmap;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProductFacetIndexTest {
+
+    private ProductFacetIndex index;
+
+    @BeforeEach
+    void setUp() {
+        // 구간 0: ~1만 미만, 1: 1만~3만 미만, 2: 3만 이상
+        index = new ProductFacetIndex(new int[]{30000, 10000});
+        index.put(1, 1L, 5000, 3);
+        index.put(2, 1L, 15000, 0);
+        index.put(3, 2L, 25000, 10);
+        index.put(4, 2L, 45000, 1);
+        index.put(5, 3L, 10000, 0);
+    }
+
+    @Test
+    void combinesFiltersAndCountsEachFacetWithoutItsOwnFilter() {
+        ProductFacetIndex.FacetResult result = index.search(null, List.of(1L, 2L), List.of(1), false);
+
+        assertThat(result.ids().toArray()).containsExactly(2, 3);
+        // 카테고리 개수는 가격 조건(구간 1)만 적용: 2, 3, 5
+        assertThat(result.categoryCounts()).isEqualTo(Map.of(1L, 1, 2L, 1, 3L, 1));
+        // 가격 개수는 카테고리 조건(1, 2)만 적용: 1 / 2, 3 / 4
+        assertThat(result.priceBucketCounts()).containsExactly(1, 2, 1);
+        assertThat(result.inStockCount()).isEqualTo(1);
+    }
+
+    @Test
+    void inStockFilterAndNameCandidates() {
+        RoaringBitmap nameMatches = RoaringBitmap.bitmapOf(1, 2, 3, 5);
+
+        ProductFacetIndex.FacetResult result = index.search(nameMatches, List.of(), List.of(), true);
+
+        assertThat(result.ids().toArray()).containsExactly(1, 3);
+        assertThat(result.inStockCount()).isEqualTo(2);
+        assertThat(result.categoryCounts()).isEqualTo(Map.of(1L, 1, 2L, 1));
+    }
+
+    @Test
+    void stockAndPriceChangesMoveProductBetweenBitmaps() {
+        index.put(2, 1L, 35000, 7); // 재고 입고 + 가격 인상
+        index.remove(4);
+
+        ProductFacetIndex.FacetResult result = index.search(null, List.of(), List.of(2), true);
+
+        assertThat(result.ids().toArray()).containsExactly(2);
+        assertThat(index.bucketOf(9999)).isZero();
+        assertThat(index.bucketOf(10000)).isEqualTo(1);
+        assertThat(index.bucketMax(1)).isEqualTo(30000);
+        assertThat(index.bucketMax(2)).isNull();
+    }
+}
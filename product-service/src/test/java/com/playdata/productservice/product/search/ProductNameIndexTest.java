@@ -0,0 +1,48 @@
+package com.playdata.productservice.product.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProductNameIndexTest {
+
+    private ProductNameIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new ProductNameIndex();
+        index.put(1, "무선 블루투스 이어폰");
+        index.put(2, "블루투스스피커");
+        index.put(3, "Wireless Mouse");
+        index.put(4, "유선 이어폰");
+    }
+
+    @Test
+    void findsKoreanAndCaseInsensitiveSubstrings() {
+        assertThat(index.search("블루투스").toArray()).containsExactly(1, 2);
+        assertThat(index.search("이어").toArray()).containsExactly(1, 4);
+        assertThat(index.search("선").toArray()).containsExactly(1, 4);
+        assertThat(index.search("MOUSE").toArray()).containsExactly(3);
+    }
+
+    @Test
+    void longKeywordMustAppearContiguously() {
+        index.put(5, "블루투 루투스 투스피"); // 검색어의 3-gram 은 모두 있지만 이어져 있지 않음
+        index.put(6, "미니 블루투스피커");
+
+        assertThat(index.search("블루투스피").toArray()).containsExactly(6);
+        assertThat(index.search("없는상품명").isEmpty()).isTrue();
+    }
+
+    @Test
+    void updateAndRemoveReplacePreviousName() {
+        index.put(2, "휴대용 스피커");
+        index.remove(4);
+
+        assertThat(index.search("블루투스").toArray()).containsExactly(1);
+        assertThat(index.search("스피커").toArray()).containsExactly(2);
+        assertThat(index.search("유선").isEmpty()).isTrue();
+        assertThat(index.size()).isEqualTo(3);
+    }
+}
@@ -0,0 +1,76 @@
+package com.playdata.productservice.product.search;
+
+import com.playdata.productservice.common.bus.ProductChangedRemoteEvent;
+import com.playdata.productservice.product.repository.ProductRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class ProductSearchIndexTest {
+
+    private ProductRepository productRepository;
+    private ProductSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        productRepository = mock(ProductRepository.class);
+        index = new ProductSearchIndex(productRepository, new SimpleMeterRegistry(), new int[]{10000});
+        ReflectionTestUtils.setField(index, "loadBatchSize", 2);
+    }
+
+    @Test
+    void changeDuringLoadIsAppliedAfterLoad() {
+        // 1번 상품을 읽은 직후 이름이 바뀌고 이벤트가 도착
+        when(productRepository.findIndexRows(eq(0L), any())).thenAnswer(invocation -> {
+            index.onProductChanged(changed(1L));
+            assertThat(index.matchName("이어폰")).isNull(); // 적재 중에는 DB 검색
+            return List.of(row(1L, "유선 이어폰"), row(2L, "블루투스 스피커"));
+        });
+        when(productRepository.findIndexRows(eq(2L), any())).thenReturn(List.of(row(3L, "무선 마우스")));
+        when(productRepository.findIndexRowsByIds(anyCollection())).thenReturn(List.of(row(1L, "무선 이어폰")));
+
+        index.load();
+
+        assertThat(index.matchName("무선").toArray()).containsExactly(1, 3);
+        assertThat(index.matchName("유선").isEmpty()).isTrue();
+        verify(productRepository, times(1)).findIndexRowsByIds(Set.of(1L));
+    }
+
+    @Test
+    void changeAfterLoadIsAppliedImmediately() {
+        when(productRepository.findIndexRows(eq(0L), any())).thenReturn(List.of(row(1L, "유선 이어폰")));
+        index.load();
+
+        when(productRepository.findIndexRowsByIds(anyCollection())).thenReturn(List.of());
+        index.onProductChanged(changed(1L)); // 삭제된 상품
+
+        assertThat(index.matchName("이어폰").isEmpty()).isTrue();
+    }
+
+    @Test
+    void failedLoadKeepsDbFallback() {
+        when(productRepository.findIndexRows(any(), any())).thenThrow(new RuntimeException("db down"));
+
+        index.load();
+
+        assertThat(index.matchName("이어폰")).isNull();
+    }
+
+    private static ProductIndexRow row(Long id, String name) {
+        return new ProductIndexRow(id, name, 1L, 5000, 10);
+    }
+
+    private static ProductChangedRemoteEvent changed(Long productId) {
+        return new ProductChangedRemoteEvent(new Object(), "product-service", () -> "**", List.of(productId));
+    }
+}
@@ -0,0 +1,171 @@
+package com.playdata.productservice.product.service;
+
+import com.playdata.productservice.common.configs.AwsS3AsyncUploader;
+import com.playdata.productservice.product.dto.StockReserveReqDto;
+import com.playdata.productservice.product.dto.StockReserveResDto;
+import com.playdata.productservice.product.entity.Category;
+import com.playdata.productservice.product.entity.Product;
+import com.playdata.productservice.product.repository.CategoryRepository;
+import com.playdata.productservice.product.repository.ProductRepository;
+import com.playdata.productservice.product.repository.StockReservationRepository;
+import com.playdata.productservice.product.search.ProductSearchIndex;
+import com.playdata.productservice.upload.service.S3DeletionQueue;
+import com.playdata.productservice.upload.service.UploadSessionService;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// 재고 일괄 차감을 실제 트랜잭션(커밋/롤백)으로 확인
+@DataJpaTest(properties = "spring.cloud.config.enabled=false")
+@Import(ProductService.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ProductServiceReserveStockTest {
+
+    @Autowired
+    private ProductService productService;
+    @Autowired
+    private ProductRepository productRepository;
+    @Autowired
+    private CategoryRepository categoryRepository;
+    @Autowired
+    private StockReservationRepository stockReservationRepository;
+
+    @MockBean
+    private AwsS3AsyncUploader s3Uploader;
+    @MockBean
+    private UploadSessionService uploadSessionService;
+    @MockBean
+    private S3DeletionQueue s3DeletionQueue;
+    @MockBean
+    private JPAQueryFactory factory;
+    @MockBean
+    private ProductSearchIndex productSearchIndex;
+
+    private static final String SERVICE = "ordering-service";
+
+    private Long firstId;
+    private Long secondId;
+
+    @BeforeEach
+    void setUp() {
+        Category category = new Category();
+        category.setName("카테고리");
+        categoryRepository.save(category);
+        firstId = saveProduct(category, 10);
+        secondId = saveProduct(category, 3);
+    }
+
+    @AfterEach
+    void tearDown() {
+        stockReservationRepository.deleteAll();
+        productRepository.deleteAll();
+        categoryRepository.deleteAll();
+    }
+
+    @Test
+    void duplicateProductIdsAreMerged() {
+        List<StockReserveResDto> results = productService.reserveStock(SERVICE, null, List.of(
+                new StockReserveReqDto(firstId, 2), new StockReserveReqDto(firstId, 3)));
+
+        assertThat(results).hasSize(1);
+        assertThat(results.get(0).getQuantity()).isEqualTo(5);
+        assertThat(results.get(0).isSuccess()).isTrue();
+        assertThat(stock(firstId)).isEqualTo(5);
+    }
+
+    @Test
+    void shortageRollsBackWholeReservation() {
+        List<StockReserveResDto> results = productService.reserveStock(SERVICE, null, List.of(
+                new StockReserveReqDto(firstId, 2), new StockReserveReqDto(secondId, 4)));
+
+        assertThat(results).extracting(StockReserveResDto::isSuccess).containsExactly(true, false);
+        // 첫 상품은 차감에 성공했지만 함께 롤백됨
+        assertThat(stock(firstId)).isEqualTo(10);
+        assertThat(stock(secondId)).isEqualTo(3);
+    }
+
+    @Test
+    void nonPositiveQuantityIsRejected() {
+        assertThatThrownBy(() -> productService.reserveStock(SERVICE, null, List.of(
+                new StockReserveReqDto(firstId, 2), new StockReserveReqDto(secondId, 0))))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        assertThat(stock(firstId)).isEqualTo(10);
+    }
+
+    @Test
+    void sameReservationKeyIsAppliedOnce() {
+        List<StockReserveReqDto> items = List.of(new StockReserveReqDto(firstId, 2));
+
+        productService.reserveStock(SERVICE, "ordering-service:order-1", items);
+        List<StockReserveResDto> replay = productService.reserveStock(SERVICE, "ordering-service:order-1", items);
+
+        assertThat(replay.get(0).isSuccess()).isTrue();
+        assertThat(stock(firstId)).isEqualTo(8);
+    }
+
+    @Test
+    void releaseRestoresStockOnce() {
+        productService.reserveStock(SERVICE, "ordering-service:order-2", List.of(
+                new StockReserveReqDto(firstId, 2), new StockReserveReqDto(secondId, 1)));
+
+        productService.releaseReservation(SERVICE, "ordering-service:order-2");
+        productService.releaseReservation(SERVICE, "ordering-service:order-2");
+
+        assertThat(stock(firstId)).isEqualTo(10);
+        assertThat(stock(secondId)).isEqualTo(3);
+    }
+
+    @Test
+    void releaseBeforeReserveBlocksLateReservation() {
+        // 예약 요청이 타임아웃 된 뒤 해제가 먼저 도착한 경우
+        productService.releaseReservation(SERVICE, "ordering-service:order-3");
+
+        List<StockReserveResDto> results = productService.reserveStock(SERVICE, "ordering-service:order-3",
+                List.of(new StockReserveReqDto(firstId, 2)));
+
+        assertThat(results.get(0).isSuccess()).isFalse();
+        assertThat(stock(firstId)).isEqualTo(10);
+    }
+
+    @Test
+    void otherServicesKeyIsRejectedWithoutMarker() {
+        assertThatThrownBy(() -> productService.releaseReservation("user-service", "ordering-service:order-4"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> productService.releaseReservation(SERVICE, "order-4"))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        // 해제 기록이 남지 않았으므로 주인 서비스의 예약은 정상 처리
+        List<StockReserveResDto> results = productService.reserveStock(SERVICE, "ordering-service:order-4",
+                List.of(new StockReserveReqDto(firstId, 2)));
+        assertThat(results.get(0).isSuccess()).isTrue();
+        assertThat(stock(firstId)).isEqualTo(8);
+    }
+
+    private Long saveProduct(Category category, int stock) {
+        return productRepository.save(Product.builder()
+                .name("상품")
+                .price(1000)
+                .stockQuantity(stock)
+                .category(category)
+                .productImages(new ArrayList<>())
+                .build()).getProductId();
+    }
+
+    private int stock(Long productId) {
+        return productRepository.findById(productId).orElseThrow().getStockQuantity();
+    }
+}
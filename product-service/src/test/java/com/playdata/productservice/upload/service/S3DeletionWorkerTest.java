@@ -0,0 +1,77 @@
+package com.playdata.productservice.upload.service;
+
+import com.playdata.productservice.common.configs.AwsS3Config;
+import com.playdata.productservice.upload.entity.S3DeletionTask;
+import com.playdata.productservice.upload.repository.S3DeletionTaskRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class S3DeletionWorkerTest {
+
+    private S3DeletionTaskRepository repository;
+    private AwsS3Config s3Config;
+    private S3DeletionWorker worker;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(S3DeletionTaskRepository.class);
+        s3Config = mock(AwsS3Config.class);
+        worker = new S3DeletionWorker(repository, s3Config,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)), new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(worker, "batchSize", 1000);
+        ReflectionTestUtils.setField(worker, "retryBackoffSeconds", 30L);
+        ReflectionTestUtils.setField(worker, "maxBackoffSeconds", 3600L);
+    }
+
+    @Test
+    void deletesBatchInOneCallAndDelaysFailedKeys() {
+        S3DeletionTask ok = task("a.jpg", 0);
+        S3DeletionTask duplicate = task("a.jpg", 0);
+        S3DeletionTask failing = task("b.jpg", 2);
+        when(repository.findDueForUpdate(any(), any())).thenReturn(List.of(ok, duplicate, failing));
+        when(s3Config.deleteObjects(List.of("a.jpg", "b.jpg"))).thenReturn(Map.of("b.jpg", "AccessDenied: denied"));
+
+        assertThat(worker.drainBatch()).isEqualTo(3);
+
+        verify(s3Config, times(1)).deleteObjects(any());
+        verify(repository).deleteAllInBatch(List.of(ok, duplicate));
+        assertThat(failing.getAttempts()).isEqualTo(3);
+        assertThat(failing.getLastError()).isEqualTo("AccessDenied: denied");
+        // 30초 * 2^2
+        assertThat(failing.getNextAttemptAt()).isAfter(LocalDateTime.now().plusSeconds(110));
+    }
+
+    @Test
+    void wholeRequestFailureRetriesEveryTaskWithCappedBackoff() {
+        S3DeletionTask old = task("c.jpg", 15);
+        when(repository.findDueForUpdate(any(), any())).thenReturn(List.of(old));
+        when(s3Config.deleteObjects(any())).thenThrow(new RuntimeException("timeout"));
+
+        worker.drainBatch();
+
+        verify(repository).deleteAllInBatch(List.of());
+        assertThat(old.getAttempts()).isEqualTo(16);
+        assertThat(old.getNextAttemptAt()).isBefore(LocalDateTime.now().plusSeconds(3601));
+    }
+
+    private static S3DeletionTask task(String key, int attempts) {
+        return S3DeletionTask.builder()
+                .objectKey(key)
+                .createdAt(LocalDateTime.now())
+                .nextAttemptAt(LocalDateTime.now())
+                .attempts(attempts)
+                .build();
+    }
+}
@@ -0,0 +1,85 @@
+package com.playdata.productservice.upload.service;
+
+import com.playdata.productservice.common.configs.AwsS3AsyncUploader;
+import com.playdata.productservice.common.configs.AwsS3Config;
+import com.playdata.productservice.upload.entity.UploadPurpose;
+import com.playdata.productservice.upload.entity.UploadSession;
+import com.playdata.productservice.upload.repository.UploadSessionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+class UploadSessionServiceTest {
+
+    private static final String KEY = "uploads/review/abc_photo.jpg";
+
+    private UploadSessionRepository repository;
+    private AwsS3Config s3Config;
+    private AwsS3AsyncUploader s3Uploader;
+    private UploadSessionService service;
+    private UploadSession session;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(UploadSessionRepository.class);
+        s3Config = mock(AwsS3Config.class);
+        s3Uploader = mock(AwsS3AsyncUploader.class);
+        service = new UploadSessionService(repository, s3Config, s3Uploader, mock(S3DeletionQueue.class));
+
+        session = UploadSession.builder()
+                .objectKey(KEY)
+                .ownerEmail("user@test.com")
+                .purpose(UploadPurpose.REVIEW)
+                .contentType("image/jpeg")
+                .contentLength(1024)
+                .expiresAt(LocalDateTime.now().plusMinutes(10))
+                .build();
+        when(repository.findByObjectKeyIn(anyCollection())).thenReturn(List.of(session));
+        when(s3Config.urlOf(KEY)).thenReturn("https://bucket.s3.amazonaws.com/" + KEY);
+    }
+
+    @Test
+    void confirmsUploadedObjectOnce() {
+        when(s3Config.headObject(KEY)).thenReturn(HeadObjectResponse.builder().contentLength(1024L).build());
+
+        // 첫 요청이 차지하고, 같은 key 의 두 번째 요청(동시에 조회를 통과했더라도)은 UPDATE 0건
+        when(repository.markUsed(KEY)).thenReturn(1, 0);
+
+        List<String> urls = service.confirm(List.of(KEY), "user@test.com", UploadPurpose.REVIEW);
+
+        assertThat(urls).containsExactly("https://bucket.s3.amazonaws.com/" + KEY);
+        assertThatThrownBy(() -> service.confirm(List.of(KEY), "user@test.com", UploadPurpose.REVIEW))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("이미 사용된");
+    }
+
+    @Test
+    void rejectsKeysIssuedToSomeoneElseOrForAnotherPurpose() {
+        assertThatThrownBy(() -> service.confirm(List.of(KEY), "other@test.com", UploadPurpose.REVIEW))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> service.confirm(List.of(KEY), "user@test.com", UploadPurpose.PRODUCT))
+                .isInstanceOf(IllegalArgumentException.class);
+        verify(s3Config, never()).headObject(KEY);
+    }
+
+    @Test
+    void rejectsMissingOrDifferentSizeObjects() {
+        when(s3Config.headObject(KEY)).thenReturn(null);
+        assertThatThrownBy(() -> service.confirm(List.of(KEY), "user@test.com", UploadPurpose.REVIEW))
+                .hasMessageContaining("업로드되지 않은");
+
+        when(s3Config.headObject(KEY)).thenReturn(HeadObjectResponse.builder().contentLength(999_999L).build());
+        assertThatThrownBy(() -> service.confirm(List.of(KEY), "user@test.com", UploadPurpose.REVIEW))
+                .hasMessageContaining("크기");
+        verify(s3Uploader).deleteKeys(List.of(KEY));
+        verify(repository, never()).markUsed(KEY);
+    }
+}